@@ -838,6 +838,16 @@ public class AiAttackController {
      * @return a {@link forge.game.combat.Combat} object.
      */
     public final int declareAttackers(final Combat combat) {
+        // the same attackers and blockers are looked at many times, also for the blocks expected from the defender
+        final CombatPredictionMemo memo = CombatPredictionMemo.open(ai.getGame());
+        try {
+            return assignAttackers(combat);
+        } finally {
+            memo.close();
+        }
+    }
+
+    private int assignAttackers(final Combat combat) {
         // something prevents attacking, try another
         if (this.attackers.isEmpty() && ai.getOpponents().size() > 1) {
             final PlayerCollection opps = ai.getOpponents();
@@ -1079,6 +1079,17 @@ public class AiBlockController {
             return;
         }
 
+        // each kind of block below looks at the same attackers and blockers again
+        final CombatPredictionMemo memo = CombatPredictionMemo.open(ai.getGame());
+        try {
+            assignBlockersWithMemo(combat, possibleBlockers);
+        } finally {
+            memo.close();
+        }
+    }
+
+    private void assignBlockersWithMemo(final Combat combat, List<Card> possibleBlockers) {
+
         clearBlockers(combat, possibleBlockers);
 
         diff = (ai.getLife() * 2) - 5; // This is the minimal gain for an unnecessary trade
@@ -1107,6 +1118,37 @@ public class AiBlockController {
         // Begin with the weakest blockers
         CardLists.sortByPowerAsc(blockersLeft);
 
+        if (!useBlockSolver() || !makeBlocksWithSolver(combat)) {
+            makeBlocksInPasses(combat, possibleBlockers);
+        }
+
+        // block requirements
+        // TODO because this isn't done earlier, sometimes a good block will enforce a restriction that prevents another for the requirement
+        makeRequiredBlocks(combat);
+
+        // check to see if it's possible to defend a Planeswalker under attack with a chump block,
+        // unless life is low enough to be more worried about saving preserving the life total
+        if (ai.getController().isAI()) {
+            makeChumpBlocksToSavePW(combat);
+        }
+
+        // if there are still blockers left, see if it's possible to block Menace creatures with
+        // non-lethal blockers that won't kill the attacker but won't die to it as well
+        makeGangNonLethalBlocks(combat);
+
+        //Check for validity of blocks in case something slipped through
+        for (Card attacker : attackers) {
+            if (!CombatUtil.canAttackerBeBlockedWithAmount(attacker, combat.getBlockers(attacker).size(), combat)) {
+                for (final Card blocker : CardLists.filterControlledBy(combat.getBlockers(attacker), ai)) {
+                    // don't touch other player's blockers
+                    combat.removeFromCombat(blocker);
+                }
+            }
+        }
+    }
+
+    // picks the blocks one kind at a time, each pass taking what the ones before left over
+    private void makeBlocksInPasses(final Combat combat, final List<Card> possibleBlockers) {
         // == 1. choose best blocks first ==
         makeGoodBlocks(combat);
         makeGangBlocks(combat);
@@ -1182,30 +1224,71 @@ public class AiBlockController {
                 reinforceBlockersToKill(combat);
             }
         }
+    }
 
-        // block requirements
-        // TODO because this isn't done earlier, sometimes a good block will enforce a restriction that prevents another for the requirement
-        makeRequiredBlocks(combat);
+    private boolean useBlockSolver() {
+        return !checkingOther && ai.getController().isAI()
+                && ((PlayerControllerAi) ai.getController()).getAi().getBooleanProperty(AiProps.BLOCK_SOLVER);
+    }
 
-        // check to see if it's possible to defend a Planeswalker under attack with a chump block,
-        // unless life is low enough to be more worried about saving preserving the life total
-        if (ai.getController().isAI()) {
-            makeChumpBlocksToSavePW(combat);
+    /**
+     * Blocks as found by {@link AiBlockSolver}.
+     * @return false if the solver ran out of nodes or its blocks would leave the AI in serious danger
+     * without it knowing, the blocks are then left to the other passes
+     */
+    private boolean makeBlocksWithSolver(final Combat combat) {
+        // When the AI holds some Fog effect, the passes know better what not to bother with
+        if (ComputerUtil.hasAFogEffect(ai, ai, checkingOther)) {
+            return false;
+        }
+        final List<Card> blockers = CardLists.filter(blockersLeft, Predicates.not(Predicates.or(
+                CardPredicates.hasKeyword("CARDNAME can't attack or block alone."),
+                CardPredicates.hasKeyword("CARDNAME can't block alone."))));
+        if (blockers.isEmpty()) {
+            return false;
         }
 
-        // if there are still blockers left, see if it's possible to block Menace creatures with
-        // non-lethal blockers that won't kill the attacker but won't die to it as well
-        makeGangNonLethalBlocks(combat);
-
-        //Check for validity of blocks in case something slipped through
-        for (Card attacker : attackers) {
+        final AiBlockSolver solver = new AiBlockSolver(ai, combat, attackersLeft, blockers, diff);
+        final List<List<Card>> blocks = solver.solve(((PlayerControllerAi) ai.getController()).getAi().getIntProperty(AiProps.BLOCK_SOLVER_NODE_BUDGET));
+        if (blocks == null) {
+            return false;
+        }
+        final List<Card> blocked = new ArrayList<>(attackersLeft);
+        for (int i = 0; i < blocked.size(); i++) {
+            final Card attacker = blocked.get(i);
+            for (final Card blocker : blocks.get(i)) {
+                if (CombatUtil.canBlock(attacker, blocker, combat)) {
+                    combat.addBlocker(attacker, blocker);
+                }
+            }
             if (!CombatUtil.canAttackerBeBlockedWithAmount(attacker, combat.getBlockers(attacker).size(), combat)) {
                 for (final Card blocker : CardLists.filterControlledBy(combat.getBlockers(attacker), ai)) {
-                    // don't touch other player's blockers
-                    combat.removeFromCombat(blocker);
+                    combat.removeBlockAssignment(attacker, blocker);
                 }
             }
         }
+
+        lifeInDanger = ComputerUtilCombat.lifeInDanger(ai, combat);
+        if (lifeInDanger && !solver.isPredictedInDanger() && ComputerUtilCombat.lifeInSeriousDanger(ai, combat)) {
+            for (final Card blocker : CardLists.filterControlledBy(combat.getAllBlockers(), ai)) {
+                combat.removeFromCombat(blocker);
+            }
+            lifeInDanger = false;
+            return false;
+        }
+
+        for (final Card attacker : blocked) {
+            final List<Card> assigned = combat.getBlockers(attacker);
+            if (assigned.isEmpty()) {
+                continue;
+            }
+            attackersLeft.remove(attacker);
+            if (!ComputerUtilCombat.attackerWouldBeDestroyed(ai, attacker, combat)) {
+                blockedButUnkilled.add(attacker);
+            }
+            blockersLeft.removeAll(assigned);
+        }
+        return true;
     }
 
     public static CardCollection orderBlockers(Card attacker, CardCollection blockers) {
@@ -0,0 +1,620 @@
+package forge.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.base.Objects;
+
+import forge.game.GameEntity;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.combat.CombatUtil;
+import forge.game.keyword.Keyword;
+import forge.game.keyword.KeywordInterface;
+import forge.game.player.Player;
+import forge.game.staticability.StaticAbilityAssignCombatDamageAsUnblocked;
+
+/**
+ * Searches for the best way to block with branch and bound, as an alternative to the passes of
+ * {@link AiBlockController} that pick the blocks one kind at a time.
+ * <p>
+ * What happens between each attacker and each possible blocker is predicted once up front with
+ * {@link ComputerUtilCombat}, the search then only combines these outcomes: an attacker blocked by a gang
+ * dies when one of the blockers would kill it alone or when they deal enough damage together, and it kills
+ * the most valuable blockers it has the damage for. An assignment is worth the creatures it kills minus the
+ * ones it loses and the life it costs, with a large penalty for being in danger or dying.
+ * <p>
+ * Creatures that only differ in their id, like a bunch of tokens, are predicted once and the search doesn't
+ * try them in every order.
+ */
+final class AiBlockSolver {
+    // the most blockers put in front of one attacker, unless it needs more to be blocked at all
+    private static final int MAX_GANG = 3;
+    private static final int LIFE_VALUE = 5;
+    private static final int DANGER_PENALTY = 2000;
+    private static final int DEATH_PENALTY = 100000;
+
+    /** One way to block an attacker, with what it leads to. */
+    private static final class Option {
+        private final int[] blockers;
+        private final long mask;
+        private final int material;
+        private final int lifeLoss;
+        private final int poison;
+        private final int planeswalkerDamage;
+        private final boolean mustBeBlocked;
+
+        private Option(final int[] blockers, final int material, final int lifeLoss, final int poison,
+                final int planeswalkerDamage, final boolean mustBeBlocked) {
+            this.blockers = blockers;
+            this.mask = maskOf(blockers);
+            this.material = material;
+            this.lifeLoss = lifeLoss;
+            this.poison = poison;
+            this.planeswalkerDamage = planeswalkerDamage;
+            this.mustBeBlocked = mustBeBlocked;
+        }
+
+        private int getLocalScore() {
+            return material - LIFE_VALUE * (lifeLoss + planeswalkerDamage + poison * 3) - (mustBeBlocked ? DANGER_PENALTY : 0);
+        }
+    }
+
+    private final Player ai;
+    private final Combat combat;
+    private final List<Card> attackers;
+    private final List<Card> blockers;
+    private final int diff;
+
+    private int life;
+    private int poisonToLose;
+    private int poisonInDanger;
+    private int dangerThreshold;
+    private boolean canLoseToLife;
+
+    // what happens between each attacker and each blocker that can block it
+    private boolean[][] canBlock;
+    private boolean[][] killsAttacker;
+    private boolean[][] killsBlocker;
+    private int[][] damageToAttacker;
+    private int[][] damageNeeded;
+    private int[][] attackerDamage;
+    private int[][] damageToKillBlocker;
+    private int[][] shield;
+
+    private int[] attackerValue;
+    private int[] blockerCost;
+    private int[] unblockedDamage;
+    private int[] unblockedPoison;
+    private boolean[] toPlaneswalker;
+    private boolean[] cantBeDestroyed;
+    private boolean[] trample;
+    private boolean[] damageAsUnblocked;
+    private boolean[] mustBeBlocked;
+    // the blockers before each one that are just like it
+    private long[] earlierTwins;
+
+    private Option[][] options;
+    // bounds for the attackers from an index on, ignoring that they can't share blockers
+    private int[] maxMaterialFrom;
+    private int[] minLifeLossFrom;
+    private int[] minPoisonFrom;
+    private int[] minPlaneswalkerDamageFrom;
+
+    private int nodeBudget;
+    private Option[] current;
+    private Option[] best;
+    private int bestScore;
+    private int nodes = 0;
+    private boolean outOfNodes = false;
+
+    /**
+     * @param attackers the attackers that can be blocked
+     * @param blockers the creatures that can block, only the first 63 of them are used
+     * @param diff the least an unnecessary trade must gain, see {@link AiBlockController}
+     */
+    AiBlockSolver(final Player ai, final Combat combat, final List<Card> attackers, final List<Card> blockers,
+            final int diff) {
+        this.ai = ai;
+        this.combat = combat;
+        this.attackers = new ArrayList<>(attackers);
+        this.blockers = new ArrayList<>(blockers.subList(0, Math.min(blockers.size(), 63)));
+        this.diff = diff;
+        predictOutcomes();
+    }
+
+    private void predictOutcomes() {
+        final int na = attackers.size();
+        final int nb = blockers.size();
+        canBlock = new boolean[na][nb];
+        killsAttacker = new boolean[na][nb];
+        killsBlocker = new boolean[na][nb];
+        damageToAttacker = new int[na][nb];
+        damageNeeded = new int[na][nb];
+        attackerDamage = new int[na][nb];
+        damageToKillBlocker = new int[na][nb];
+        shield = new int[na][nb];
+        attackerValue = new int[na];
+        blockerCost = new int[nb];
+        unblockedDamage = new int[na];
+        unblockedPoison = new int[na];
+        toPlaneswalker = new boolean[na];
+        cantBeDestroyed = new boolean[na];
+        trample = new boolean[na];
+        damageAsUnblocked = new boolean[na];
+        mustBeBlocked = new boolean[na];
+        earlierTwins = new long[nb];
+
+        life = ai.getLife();
+        canLoseToLife = !ai.cantLose() && !ai.cantLoseForZeroOrLessLife();
+        poisonToLose = ai.getGame().getRules().getPoisonCountersToLose();
+        poisonInDanger = Math.max(7, ai.getPoisonCounters());
+        dangerThreshold = 0;
+        if (ai.getController().isAI()) {
+            dangerThreshold = ((PlayerControllerAi) ai.getController()).getAi().getIntProperty(AiProps.AI_IN_DANGER_THRESHOLD);
+        }
+        dangerThreshold = Math.min(dangerThreshold, life);
+
+        final int[] attackerTwin = findTwins(attackers);
+        final int[] blockerTwin = findTwins(blockers);
+        for (int b = 0; b < nb; b++) {
+            if (blockerTwin[b] == b) {
+                blockerCost[b] = ComputerUtilCard.evaluateCreature(blockers.get(b)) + diff;
+                continue;
+            }
+            blockerCost[b] = blockerCost[blockerTwin[b]];
+            for (int other = 0; other < b; other++) {
+                if (blockerTwin[other] == blockerTwin[b]) {
+                    earlierTwins[b] |= 1L << other;
+                }
+            }
+        }
+
+        for (int a = 0; a < na; a++) {
+            final Card attacker = attackers.get(a);
+            final GameEntity defender = combat.getDefenderByAttacker(attacker);
+            toPlaneswalker[a] = defender instanceof Card;
+            mustBeBlocked[a] = defender instanceof Player && !attacker.getSVar("MustBeBlocked").isEmpty();
+            final int twin = attackerTwin[a];
+            if (twin != a && combat.getDefenderByAttacker(attackers.get(twin)) == defender) {
+                copyAttacker(twin, a);
+            } else {
+                predictAttacker(a, defender, blockerTwin);
+            }
+        }
+    }
+
+    private void predictAttacker(final int a, final GameEntity defender, final int[] blockerTwin) {
+        final Card attacker = attackers.get(a);
+        attackerValue[a] = ComputerUtilCard.evaluateCreature(attacker);
+        unblockedDamage[a] = defender == null ? 0 : ComputerUtilCombat.damageIfUnblocked(attacker, defender, combat, false);
+        if (toPlaneswalker[a] && ((Card) defender).isPlaneswalker()) {
+            unblockedDamage[a] = Math.min(unblockedDamage[a], ((Card) defender).getCurrentLoyalty());
+        } else if (defender instanceof Player) {
+            unblockedPoison[a] = ComputerUtilCombat.poisonIfUnblocked(attacker, ai);
+        }
+        cantBeDestroyed[a] = ComputerUtilCombat.combatantCantBeDestroyed(ai, attacker);
+        trample[a] = attacker.hasKeyword(Keyword.TRAMPLE);
+        damageAsUnblocked[a] = StaticAbilityAssignCombatDamageAsUnblocked.assignCombatDamageAsUnblocked(attacker);
+
+        for (int b = 0; b < blockers.size(); b++) {
+            final Card blocker = blockers.get(b);
+            if (!CombatUtil.canBlock(attacker, blocker, combat)) {
+                continue;
+            }
+            canBlock[a][b] = true;
+            final int twin = blockerTwin[b];
+            if (twin != b && canBlock[a][twin]) {
+                killsAttacker[a][b] = killsAttacker[a][twin];
+                killsBlocker[a][b] = killsBlocker[a][twin];
+                damageToAttacker[a][b] = damageToAttacker[a][twin];
+                damageNeeded[a][b] = damageNeeded[a][twin];
+                attackerDamage[a][b] = attackerDamage[a][twin];
+                damageToKillBlocker[a][b] = damageToKillBlocker[a][twin];
+                shield[a][b] = shield[a][twin];
+                continue;
+            }
+            killsAttacker[a][b] = ComputerUtilCombat.canDestroyAttacker(ai, attacker, blocker, combat, false);
+            killsBlocker[a][b] = ComputerUtilCombat.canDestroyBlocker(ai, blocker, attacker, combat, false);
+            damageToAttacker[a][b] = ComputerUtilCombat.dealsDamageAsBlocker(attacker, blocker);
+            damageNeeded[a][b] = ComputerUtilCombat.getDamageToKill(attacker, false)
+                    + ComputerUtilCombat.predictToughnessBonusOfAttacker(attacker, blocker, combat, false);
+            attackerDamage[a][b] = attacker.getNetCombatDamage()
+                    + ComputerUtilCombat.predictPowerBonusOfAttacker(attacker, blocker, combat, false);
+            damageToKillBlocker[a][b] = ComputerUtilCombat.getEnoughDamageToKill(blocker, attackerDamage[a][b], attacker, true);
+            shield[a][b] = ComputerUtilCombat.shieldDamage(attacker, blocker);
+        }
+    }
+
+    private void copyAttacker(final int from, final int a) {
+        attackerValue[a] = attackerValue[from];
+        unblockedDamage[a] = unblockedDamage[from];
+        unblockedPoison[a] = unblockedPoison[from];
+        cantBeDestroyed[a] = cantBeDestroyed[from];
+        trample[a] = trample[from];
+        damageAsUnblocked[a] = damageAsUnblocked[from];
+        killsAttacker[a] = killsAttacker[from];
+        killsBlocker[a] = killsBlocker[from];
+        damageToAttacker[a] = damageToAttacker[from];
+        damageNeeded[a] = damageNeeded[from];
+        attackerDamage[a] = attackerDamage[from];
+        damageToKillBlocker[a] = damageToKillBlocker[from];
+        shield[a] = shield[from];
+        // which blockers can block is still asked for each attacker, it's cheap and not only up to the cards
+        final Card attacker = attackers.get(a);
+        for (int b = 0; b < blockers.size(); b++) {
+            canBlock[a][b] = canBlock[from][b] && CombatUtil.canBlock(attacker, blockers.get(b), combat);
+        }
+    }
+
+    /**
+     * @return for each card, the index of the first card that is just like it
+     */
+    private static int[] findTwins(final List<Card> cards) {
+        final int[] twins = new int[cards.size()];
+        for (int i = 0; i < cards.size(); i++) {
+            twins[i] = i;
+            for (int j = 0; j < i; j++) {
+                if (twins[j] == j && areTwins(cards.get(i), cards.get(j))) {
+                    twins[i] = j;
+                    break;
+                }
+            }
+        }
+        return twins;
+    }
+
+    private static boolean areTwins(final Card c1, final Card c2) {
+        if (!c1.getName().equals(c2.getName()) || c1.isToken() != c2.isToken()
+                || c1.getController() != c2.getController()
+                || c1.getNetPower() != c2.getNetPower() || c1.getNetToughness() != c2.getNetToughness()
+                || c1.getDamage() != c2.getDamage() || c1.isTapped() != c2.isTapped()
+                || !c1.getAttachedCards().isEmpty() || !c2.getAttachedCards().isEmpty()
+                || !Objects.equal(c1.getCounters(), c2.getCounters())) {
+            return false;
+        }
+        final List<KeywordInterface> k1 = c1.getKeywords();
+        final List<KeywordInterface> k2 = c2.getKeywords();
+        if (k1.size() != k2.size()) {
+            return false;
+        }
+        for (int i = 0; i < k1.size(); i++) {
+            if (!k1.get(i).getOriginal().equals(k2.get(i).getOriginal())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param nodeBudget how many partial assignments the search may look at, so that the same board is
+     * always blocked the same way no matter how fast the machine is
+     * @return the blockers to assign to each attacker, or null if the budget ran out before the search was done
+     */
+    List<List<Card>> solve(final int nodeBudget) {
+        this.nodeBudget = nodeBudget;
+        buildOptions();
+
+        final int na = attackers.size();
+        current = new Option[na];
+        best = new Option[na];
+        for (int a = 0; a < na; a++) {
+            for (final Option o : options[a]) {
+                if (o.blockers.length == 0) {
+                    best[a] = o;
+                }
+            }
+        }
+        bestScore = score(best);
+        search(0, 0L, 0, 0, 0, 0);
+        if (outOfNodes) {
+            return null;
+        }
+
+        final List<List<Card>> result = new ArrayList<>();
+        for (final Option o : best) {
+            final List<Card> gang = new ArrayList<>();
+            for (final int b : o.blockers) {
+                gang.add(blockers.get(b));
+            }
+            result.add(gang);
+        }
+        return result;
+    }
+
+    /**
+     * @return whether the blocks found by {@link #solve(int)} still leave the AI in danger, as far as the search can tell
+     */
+    boolean isPredictedInDanger() {
+        return penalty(best) > 0;
+    }
+
+    /**
+     * @param blocks the blockers assigned to each attacker
+     * @return what the search makes of these blocks, to compare them with the ones it found
+     */
+    int score(final List<List<Card>> blocks) {
+        final Option[] assignment = new Option[attackers.size()];
+        for (int a = 0; a < assignment.length; a++) {
+            final List<Card> gang = blocks.get(a);
+            final int[] indices = new int[gang.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = blockers.indexOf(gang.get(i));
+            }
+            assignment[a] = evaluate(a, indices);
+        }
+        return score(assignment);
+    }
+
+    private void buildOptions() {
+        final int na = attackers.size();
+        options = new Option[na][];
+        for (int a = 0; a < na; a++) {
+            final List<Option> list = new ArrayList<>();
+            list.add(evaluate(a, new int[0]));
+
+            final List<Integer> legal = new ArrayList<>();
+            for (int b = 0; b < blockers.size(); b++) {
+                if (canBlock[a][b]) {
+                    legal.add(b);
+                }
+            }
+            final Card attacker = attackers.get(a);
+            final int needed = CombatUtil.getMinNumBlockersForAttacker(attacker, ai);
+            final int largest = Math.min(legal.size(), Math.max(MAX_GANG, needed));
+            // a larger gang is only worth trying when it has to be that large, when it kills an attacker none
+            // of the gangs in it can (other gangs that kill may need blockers another attacker is better
+            // blocked with), or when it soaks up trample damage
+            List<int[]> smaller = new ArrayList<>();
+            Set<Long> smallerKilling = new HashSet<>();
+            for (int size = 1; size <= largest; size++) {
+                final boolean allowed = CombatUtil.canAttackerBeBlockedWithAmount(attacker, size, combat);
+                final boolean required = size <= needed;
+                final List<int[]> gangs = new ArrayList<>();
+                if (size == 1) {
+                    for (final int b : legal) {
+                        gangs.add(new int[] {b});
+                    }
+                } else {
+                    for (final int[] gang : smaller) {
+                        for (final int b : legal) {
+                            if (b > gang[gang.length - 1]) {
+                                final int[] bigger = Arrays.copyOf(gang, size);
+                                bigger[size - 1] = b;
+                                gangs.add(bigger);
+                            }
+                        }
+                    }
+                }
+                final Set<Long> killing = new HashSet<>();
+                for (final int[] gang : gangs) {
+                    final boolean dies = attackerDies(a, gang);
+                    if (dies) {
+                        killing.add(maskOf(gang));
+                    }
+                    if (allowed && (size == 1 || required || trample[a] || (dies && !containsKillingGang(gang, smallerKilling)))) {
+                        list.add(evaluate(a, gang));
+                    }
+                }
+                smallerKilling = killing;
+                smaller = gangs;
+            }
+            list.sort(new Comparator<Option>() {
+                @Override
+                public int compare(final Option o1, final Option o2) {
+                    return Integer.compare(o2.getLocalScore(), o1.getLocalScore());
+                }
+            });
+            options[a] = list.toArray(new Option[0]);
+        }
+
+        maxMaterialFrom = new int[na + 1];
+        minLifeLossFrom = new int[na + 1];
+        minPoisonFrom = new int[na + 1];
+        minPlaneswalkerDamageFrom = new int[na + 1];
+        for (int a = na - 1; a >= 0; a--) {
+            int maxMaterial = Integer.MIN_VALUE;
+            int minLifeLoss = Integer.MAX_VALUE;
+            int minPoison = Integer.MAX_VALUE;
+            int minPlaneswalkerDamage = Integer.MAX_VALUE;
+            for (final Option o : options[a]) {
+                maxMaterial = Math.max(maxMaterial, o.material);
+                minLifeLoss = Math.min(minLifeLoss, o.lifeLoss);
+                minPoison = Math.min(minPoison, o.poison);
+                minPlaneswalkerDamage = Math.min(minPlaneswalkerDamage, o.planeswalkerDamage);
+            }
+            maxMaterialFrom[a] = maxMaterialFrom[a + 1] + maxMaterial;
+            minLifeLossFrom[a] = minLifeLossFrom[a + 1] + minLifeLoss;
+            minPoisonFrom[a] = minPoisonFrom[a + 1] + minPoison;
+            minPlaneswalkerDamageFrom[a] = minPlaneswalkerDamageFrom[a + 1] + minPlaneswalkerDamage;
+        }
+    }
+
+    private static long maskOf(final int[] gang) {
+        long mask = 0;
+        for (final int b : gang) {
+            mask |= 1L << b;
+        }
+        return mask;
+    }
+
+    /**
+     * @param killing the gangs one blocker smaller that kill the attacker
+     */
+    private static boolean containsKillingGang(final int[] gang, final Set<Long> killing) {
+        final long mask = maskOf(gang);
+        for (final int b : gang) {
+            if (killing.contains(mask & ~(1L << b))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void search(final int a, final long used, final int material, final int lifeLoss, final int poison,
+            final int planeswalkerDamage) {
+        if (++nodes > nodeBudget) {
+            outOfNodes = true;
+        }
+        if (outOfNodes) {
+            return;
+        }
+        final int bound = material + maxMaterialFrom[a]
+                - LIFE_VALUE * (lifeLoss + minLifeLossFrom[a] + planeswalkerDamage + minPlaneswalkerDamageFrom[a])
+                - penalty(lifeLoss + minLifeLossFrom[a], poison + minPoisonFrom[a], false);
+        if (bound <= bestScore) {
+            return;
+        }
+        if (a == attackers.size()) {
+            final int score = score(current);
+            if (score > bestScore) {
+                bestScore = score;
+                best = current.clone();
+            }
+            return;
+        }
+        for (final Option o : options[a]) {
+            if ((o.mask & used) != 0 || usesLaterTwin(o, used)) {
+                continue;
+            }
+            current[a] = o;
+            search(a + 1, used | o.mask, material + o.material, lifeLoss + o.lifeLoss, poison + o.poison,
+                    planeswalkerDamage + o.planeswalkerDamage);
+            if (outOfNodes) {
+                return;
+            }
+        }
+    }
+
+    // of several blockers that are alike, only the first one that's still free is tried
+    private boolean usesLaterTwin(final Option o, final long used) {
+        for (final int b : o.blockers) {
+            if ((earlierTwins[b] & ~used & ~o.mask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int score(final Option[] assignment) {
+        int material = 0;
+        int lifeLoss = 0;
+        int planeswalkerDamage = 0;
+        for (final Option o : assignment) {
+            material += o.material;
+            lifeLoss += o.lifeLoss;
+            planeswalkerDamage += o.planeswalkerDamage;
+        }
+        return material - LIFE_VALUE * (lifeLoss + planeswalkerDamage) - penalty(assignment);
+    }
+
+    private int penalty(final Option[] assignment) {
+        int lifeLoss = 0;
+        int poison = 0;
+        boolean unblockedMustBeBlocked = false;
+        for (final Option o : assignment) {
+            lifeLoss += o.lifeLoss;
+            poison += o.poison;
+            unblockedMustBeBlocked |= o.mustBeBlocked;
+        }
+        return penalty(lifeLoss, poison, unblockedMustBeBlocked);
+    }
+
+    private int penalty(final int lifeLoss, final int poison, final boolean unblockedMustBeBlocked) {
+        if (ai.cantLose()) {
+            return 0;
+        }
+        final int totalPoison = ai.getPoisonCounters() + poison;
+        if ((canLoseToLife && life - lifeLoss < 1) || totalPoison >= poisonToLose) {
+            return DEATH_PENALTY;
+        }
+        if (unblockedMustBeBlocked || (canLoseToLife && life - lifeLoss < dangerThreshold) || totalPoison > poisonInDanger) {
+            return DANGER_PENALTY;
+        }
+        return 0;
+    }
+
+    private boolean attackerDies(final int a, final int[] gang) {
+        if (gang.length == 1) {
+            return killsAttacker[a][gang[0]];
+        }
+        int damage = 0;
+        int needed = 0;
+        for (final int b : gang) {
+            if (killsAttacker[a][b]) {
+                return true;
+            }
+            damage += damageToAttacker[a][b];
+            needed = Math.max(needed, damageNeeded[a][b]);
+        }
+        return !cantBeDestroyed[a] && damage >= needed;
+    }
+
+    private Option evaluate(final int a, final int[] gang) {
+        if (gang.length == 0) {
+            final int damage = unblockedDamage[a];
+            return new Option(gang, 0, toPlaneswalker[a] ? 0 : damage, unblockedPoison[a],
+                    toPlaneswalker[a] ? damage : 0, mustBeBlocked[a]);
+        }
+
+        int material = attackerDies(a, gang) ? attackerValue[a] : 0;
+
+        int damage = 0;
+        int shielded = 0;
+        for (final int b : gang) {
+            damage = Math.max(damage, attackerDamage[a][b]);
+            shielded += shield[a][b];
+        }
+        if (gang.length == 1) {
+            if (killsBlocker[a][gang[0]]) {
+                material -= blockerCost[gang[0]];
+            }
+        } else {
+            // the attacker kills the best blockers it can
+            final Integer[] byValue = new Integer[gang.length];
+            for (int i = 0; i < gang.length; i++) {
+                byValue[i] = gang[i];
+            }
+            Arrays.sort(byValue, new Comparator<Integer>() {
+                @Override
+                public int compare(final Integer b1, final Integer b2) {
+                    return Integer.compare(blockerCost[b2], blockerCost[b1]);
+                }
+            });
+            int left = damage;
+            for (final int b : byValue) {
+                if (!killsBlocker[a][b]) {
+                    continue;
+                }
+                if (damageToKillBlocker[a][b] > damage) {
+                    // dies some other way than by the damage
+                    material -= blockerCost[b];
+                } else if (damageToKillBlocker[a][b] <= left) {
+                    left -= damageToKillBlocker[a][b];
+                    material -= blockerCost[b];
+                }
+            }
+        }
+
+        int lifeLoss = 0;
+        int poison = 0;
+        if (damageAsUnblocked[a]) {
+            lifeLoss = unblockedDamage[a];
+            poison = unblockedPoison[a];
+        } else if (trample[a] && damage > shielded) {
+            if (unblockedPoison[a] > 0) {
+                poison = Math.min(unblockedPoison[a], damage - shielded);
+            } else {
+                lifeLoss = Math.min(unblockedDamage[a], damage - shielded);
+            }
+        }
+        if (toPlaneswalker[a]) {
+            return new Option(gang, material, 0, 0, lifeLoss, false);
+        }
+        return new Option(gang, material, lifeLoss, poison, 0, false);
+    }
+}
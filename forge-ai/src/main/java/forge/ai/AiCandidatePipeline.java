@@ -0,0 +1,91 @@
+package forge.ai;
+
+import java.util.Locale;
+
+import forge.game.spellability.SpellAbility;
+
+/**
+ * The checks a spell or ability goes through before the AI decides to play it, cheapest first, so that most
+ * candidates are turned down before the AI logic of their API runs. Counts how many candidates each stage
+ * looked at and turned down, and with -Dforge.ai.candidateTiming=true also how long it took, to see where the
+ * time of a decision goes.
+ */
+public final class AiCandidatePipeline {
+    // reading the clock twice per stage and candidate isn't free, it's only worth it while looking into the time
+    private static final boolean TIMING = Boolean.getBoolean("forge.ai.candidateTiming");
+
+    public enum Stage {
+        /** Whether it's the right time, e.g. sorcery speed. */
+        Timing,
+        /** Whether its mana cost is more than all the mana the AI could make, see {@link AiManaSources#mayAfford}. */
+        ManaValue,
+        /** Whether the rules allow playing it, see {@link SpellAbility#canPlay()}. */
+        Legality,
+        /** The conditions of the card script for the AI. */
+        Condition,
+        /** Whether the AI can pay for it. */
+        Cost,
+        /** Whether the AI wants to play it, including targeting. */
+        AiLogic,
+        /** The checks that need the targets, e.g. ward and costs depending on them. */
+        Final
+    }
+
+    private final long[] checked = new long[Stage.values().length];
+    private final long[] rejected = new long[Stage.values().length];
+    private final long[] nanos = new long[Stage.values().length];
+
+    /**
+     * @return the time to pass to {@link #passes(Stage, long, boolean)} after the check
+     */
+    public long start() {
+        return TIMING ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the result of a check that started at {@code start}.
+     * @return whether the candidate passed
+     */
+    public boolean passes(final Stage stage, final long start, final boolean passed) {
+        final int i = stage.ordinal();
+        if (TIMING) {
+            nanos[i] += System.nanoTime() - start;
+        }
+        checked[i]++;
+        if (!passed) {
+            rejected[i]++;
+        }
+        return passed;
+    }
+
+    public long getChecked(final Stage stage) {
+        return checked[stage.ordinal()];
+    }
+
+    public long getRejected(final Stage stage) {
+        return rejected[stage.ordinal()];
+    }
+
+    /**
+     * @return the time spent in the stage, 0 unless timing is turned on
+     */
+    public long getNanos(final Stage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (final Stage stage : Stage.values()) {
+            final int i = stage.ordinal();
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(String.format(Locale.ROOT, "%s %d/%d rejected", stage, rejected[i], checked[i]));
+            if (TIMING) {
+                sb.append(String.format(Locale.ROOT, " in %.1fms", nanos[i] / 1e6));
+            }
+        }
+        return sb.toString();
+    }
+}
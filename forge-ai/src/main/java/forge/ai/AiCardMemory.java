@@ -324,6 +324,17 @@ public class AiCardMemory {
         }
     }
 
+    /**
+     * Replaces what is remembered in this card memory with what is remembered in the given one.
+     */
+    public void copyFrom(AiCardMemory other) {
+        for (MemorySet memSet : MemorySet.values()) {
+            Set<Card> memorySet = getMemorySet(memSet);
+            memorySet.clear();
+            memorySet.addAll(other.getMemorySet(memSet));
+        }
+    }
+
     // Static functions to simplify access to AI card memory of a given AI player.
     public static Set<Card> getMemorySet(Player ai, MemorySet set) {
         if (!ai.getController().isAI()) {
@@ -22,8 +22,10 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import forge.ai.AiCandidatePipeline.Stage;
 import forge.ai.ability.ChangeZoneAi;
 import forge.ai.ability.LearnAi;
+import forge.ai.simulation.MonteCarloPicker;
 import forge.ai.simulation.SpellAbilityPicker;
 import forge.card.CardStateName;
 import forge.card.CardType;
@@ -53,6 +55,7 @@ import forge.game.replacement.ReplacementLayer;
 import forge.game.replacement.ReplacementType;
 import forge.game.spellability.*;
 import forge.game.staticability.StaticAbility;
+import forge.game.staticability.StaticAbilityCastWithFlash;
 import forge.game.staticability.StaticAbilityDisableTriggers;
 import forge.game.staticability.StaticAbilityMustTarget;
 import forge.game.trigger.Trigger;
@@ -85,11 +88,14 @@ public class AiController {
     private final Player player;
     private final Game game;
     private final AiCardMemory memory;
+    private final AiManaSources manaSources;
+    private final AiCandidatePipeline candidatePipeline;
     private Combat predictedCombat;
     private Combat predictedCombatNextTurn;
     private boolean cheatShuffle;
     private boolean useSimulation;
     private SpellAbilityPicker simPicker;
+    private MonteCarloPicker monteCarloPicker;
     private int lastAttackAggression;
     private boolean useLivingEnd;
 
@@ -97,6 +103,8 @@ public class AiController {
         player = computerPlayer;
         game = game0;
         memory = new AiCardMemory();
+        manaSources = new AiManaSources(player, game);
+        candidatePipeline = new AiCandidatePipeline();
         simPicker = new SpellAbilityPicker(game, player);
     }
 
@@ -136,6 +144,14 @@ public class AiController {
         return memory;
     }
 
+    public AiManaSources getManaSources() {
+        return manaSources;
+    }
+
+    public AiCandidatePipeline getCandidatePipeline() {
+        return candidatePipeline;
+    }
+
     public Combat getPredictedCombat() {
         if (predictedCombat == null) {
             AiAttackController aiAtk = new AiAttackController(player);
@@ -182,7 +198,7 @@ public class AiController {
 
     // look for cards on the battlefield that should prevent the AI from using that spellability
     private boolean checkCurseEffects(final SpellAbility sa) {
-        CardCollectionView ccvGameBattlefield = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), CardPredicates.hasSVar("AICurseEffect"));
+        CardCollectionView ccvGameBattlefield = CardLists.filter(game.getCardsInView(ZoneType.Battlefield), CardPredicates.hasSVar("AICurseEffect"));
         for (final Card c : ccvGameBattlefield) {
             final String curse = c.getSVar("AICurseEffect");
             if ("NonActive".equals(curse) && !player.equals(game.getPhaseHandler().getPlayerTurn())) {
@@ -204,7 +220,7 @@ public class AiController {
                             return true;
                         }
                     }
-                    if (Iterables.any(game.getCardsIn(ZoneType.Graveyard), CardPredicates.nameEquals(hostName))) {
+                    if (Iterables.any(game.getCardsInView(ZoneType.Graveyard), CardPredicates.nameEquals(hostName))) {
                         return true;
                     }
                 }
@@ -741,14 +757,29 @@ public class AiController {
     }
 
     private AiPlayDecision canPlayAndPayFor(final SpellAbility sa) {
-        if (!sa.canPlay()) {
-            return AiPlayDecision.CantPlaySa;
-        }
-
         final Card host = sa.getHostCard();
 
         // state needs to be switched here so API checks evaluate the right face
         CardStateName currentState = sa.getCardState() != null && host.getCurrentStateName() != sa.getCardStateName() && !host.isInPlay() ? host.getCurrentStateName() : null;
+
+        // the timing is checked again with the AI logic, but it's cheap and turns down most candidates outside of
+        // the main phases, unless it depends on the other face or, like canPlay, on a flash permission that needs
+        // to know X or the targets first
+        long start = candidatePipeline.start();
+        if (currentState == null && !(sa instanceof WrappedAbility)
+                && !StaticAbilityCastWithFlash.anyWithFlashNeedsInfo(sa, sa.getHostCard(), player)
+                && !candidatePipeline.passes(Stage.Timing, start, sa.canCastTiming(player))) {
+            return AiPlayDecision.AnotherTime;
+        }
+        start = candidatePipeline.start();
+        if (!candidatePipeline.passes(Stage.ManaValue, start, AiManaSources.mayAfford(player, sa))) {
+            return AiPlayDecision.CantAfford;
+        }
+        start = candidatePipeline.start();
+        if (!candidatePipeline.passes(Stage.Legality, start, sa.canPlay())) {
+            return AiPlayDecision.CantPlaySa;
+        }
+
         if (currentState != null) {
             host.setState(sa.getCardStateName(), false);
         }
@@ -767,6 +798,7 @@ public class AiController {
         final Card host = sa.getHostCard();
 
         // Check a predefined condition
+        long start = candidatePipeline.start();
         if (sa.hasParam("AICheckSVar")) {
             final String svarToCheck = sa.getParam("AICheckSVar");
             String comparator = "GE";
@@ -784,7 +816,7 @@ public class AiController {
             }
 
             int left = AbilityUtils.calculateAmount(host, svarToCheck, sa);
-            if (!Expressions.compare(left, comparator, compareTo)) {
+            if (!candidatePipeline.passes(Stage.Condition, start, Expressions.compare(left, comparator, compareTo))) {
                 return AiPlayDecision.AnotherTime;
             }
         }
@@ -792,7 +824,8 @@ public class AiController {
         int oldCMC = -1;
         boolean xCost = sa.costHasX() || host.hasKeyword(Keyword.STRIVE);
         if (!xCost) {
-            if (!ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
+            start = candidatePipeline.start();
+            if (!candidatePipeline.passes(Stage.Cost, start, ComputerUtilCost.canPayCost(sa, player, sa.isTrigger()))) {
                 // for most costs, it's OK to check if they can be paid early in order to avoid running a heavy API check
                 // when the AI won't even be able to play the spell in the first place (even if it could afford it)
                 return AiPlayDecision.CantAfford;
@@ -803,11 +836,13 @@ public class AiController {
             }
         }
 
+        start = candidatePipeline.start();
         AiPlayDecision canPlay = canPlaySa(sa); // this is the "heaviest" check, which also sets up targets, defines X, etc.
 
-        if (canPlay != AiPlayDecision.WillPlay) {
+        if (!candidatePipeline.passes(Stage.AiLogic, start, canPlay == AiPlayDecision.WillPlay)) {
             return canPlay;
         }
+        start = candidatePipeline.start();
 
         // Account for possible Ward after the spell is fully targeted
         // TODO: ideally, this should be done while targeting, so that a different target can be preferred if the best
@@ -822,7 +857,7 @@ public class AiController {
                             xCost = wardCost.getTotalMana().getCMC() > 0;
                         }
                         SpellAbilityAi topAI = new SpellAbilityAi() {};
-                        if (!topAI.willPayCosts(player, sa, wardCost, host)) {
+                        if (!candidatePipeline.passes(Stage.Final, start, topAI.willPayCosts(player, sa, wardCost, host))) {
                             return AiPlayDecision.CostNotAcceptable;
                         }
                     }
@@ -841,11 +876,13 @@ public class AiController {
         if (xCost && !ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
             // for dependent costs with X, e.g. Repeal, which require a valid target to be specified before a decision can be made
             // on whether the cost can be paid, this can only be checked late after canPlaySa has been run (or the AI will misplay)
+            candidatePipeline.passes(Stage.Final, start, false);
             return AiPlayDecision.CantAfford;
         }
 
         // if we got here, looks like we can play the final cost and we could properly set up and target the API and
         // are willing to play the SA
+        candidatePipeline.passes(Stage.Final, start, true);
         return AiPlayDecision.WillPlay;
     }
 
@@ -1345,7 +1382,23 @@ public class AiController {
         // Reset priority mana reservation that's meant to work for one spell only
         memory.clearMemorySet(AiCardMemory.MemorySet.HELD_MANA_SOURCES_FOR_NEXT_SPELL);
 
+        if (useSimulation && AiProfileUtil.usesMonteCarloSimulation(player.getLobbyPlayer())) {
+            if (monteCarloPicker == null) {
+                monteCarloPicker = new MonteCarloPicker(game, player);
+            }
+            monteCarloPicker.setNumWorkers(getIntProperty(AiProps.SIMULATION_WORKERS));
+            monteCarloPicker.setTimeBudget(getIntProperty(AiProps.SIMULATION_TIME_BUDGET));
+            monteCarloPicker.setMaxPlayouts(getIntProperty(AiProps.SIMULATION_MCTS_PLAYOUTS));
+            monteCarloPicker.setPlayoutDepth(getIntProperty(AiProps.SIMULATION_MCTS_PLAYOUT_DEPTH));
+            return singleSpellAbilityList(monteCarloPicker.chooseSpellAbilityToPlay());
+        }
         if (useSimulation) {
+            simPicker.setNumWorkers(getIntProperty(AiProps.SIMULATION_WORKERS));
+            simPicker.setTranspositionTableSize(getIntProperty(AiProps.SIMULATION_TRANSPOSITION_TABLE_SIZE));
+            simPicker.setMaxDepth(getIntProperty(AiProps.SIMULATION_MAX_DEPTH));
+            simPicker.setTimeBudget(getIntProperty(AiProps.SIMULATION_TIME_BUDGET));
+            simPicker.setCombatOutcomeCacheSize(getIntProperty(AiProps.SIMULATION_COMBAT_CACHE_SIZE));
+            simPicker.setEstimateCombat(getBooleanProperty(AiProps.SIMULATION_ESTIMATE_COMBAT));
             return singleSpellAbilityList(simPicker.chooseSpellAbilityToPlay(null));
         }
 
@@ -2051,7 +2104,7 @@ public class AiController {
         }
         // Left:True; Right:False
         if ("GainControl".equals(sa.getParam("AILogic")) && game.getPlayers().size() > 2) {
-            CardCollection creats = CardLists.getType(game.getCardsIn(ZoneType.Battlefield), "Creature");
+            CardCollection creats = CardLists.getType(game.getCardsInView(ZoneType.Battlefield), "Creature");
             CardCollection left = CardLists.filterControlledBy(creats, game.getNextPlayerAfter(player, Direction.Left));
             CardCollection right = CardLists.filterControlledBy(creats, game.getNextPlayerAfter(player, Direction.Right));
             if (!left.isEmpty() || !right.isEmpty()) {
@@ -2061,7 +2114,7 @@ public class AiController {
             }
         }
         if ("Aminatou".equals(sa.getParam("AILogic")) && game.getPlayers().size() > 2) {
-            CardCollection all = CardLists.filter(game.getCardsIn(ZoneType.Battlefield), Presets.NONLAND_PERMANENTS);
+            CardCollection all = CardLists.filter(game.getCardsInView(ZoneType.Battlefield), Presets.NONLAND_PERMANENTS);
             CardCollection left = CardLists.filterControlledBy(all, game.getNextPlayerAfter(player, Direction.Left));
             CardCollection right = CardLists.filterControlledBy(all, game.getNextPlayerAfter(player, Direction.Right));
             return Aggregates.sum(left, Accessors.fnGetCmc) > Aggregates.sum(right, Accessors.fnGetCmc);
@@ -0,0 +1,203 @@
+package forge.ai;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+
+import forge.card.mana.ManaAtom;
+import forge.card.mana.ManaCost;
+import forge.card.mana.ManaCostShard;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.combat.Combat;
+import forge.game.cost.Cost;
+import forge.game.cost.CostPartMana;
+import forge.game.keyword.Keyword;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.staticability.StaticAbility;
+
+/**
+ * The mana sources of an AI player as {@link ComputerUtilMana} finds them, kept until the game changes.
+ * <p>
+ * The AI checks whether it can pay for each spell and ability it considers, for each value of X and for each
+ * alternative cost. Instead of looking at all its cards and their mana abilities for each check, the sources are
+ * only looked for again after the game reported a change (see {@link forge.game.StaticEffects#getChangeCount()}),
+ * e.g. a card was tapped, untapped or moved, or after the combat changed. Each AiController has its own.
+ */
+public class AiManaSources {
+    // -Dforge.ai.manaSourcesMemo=false looks for the sources on every check again, like before they were kept
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("forge.ai.manaSourcesMemo", "true"));
+
+    private static final class Snapshot {
+        private CardCollection sources;
+        private ListMultimap<Integer, SpellAbility> sourcesByColor;
+    }
+
+    private final Player player;
+    private final Game game;
+    private long changeCount = -1;
+    private Combat combat;
+    private int combatVersion;
+    // one for checking whether the mana abilities can be played and one for not checking it
+    private final Snapshot[] snapshots = new Snapshot[2];
+    private final Map<Card, Integer> manaAmounts = Maps.newHashMap();
+
+    public AiManaSources(final Player player, final Game game) {
+        this.player = player;
+        this.game = game;
+    }
+
+    /**
+     * @return the mana sources of this player, or null if they're not kept for it
+     */
+    static AiManaSources of(final Player ai) {
+        if (!ENABLED || !ai.getController().isAI()) {
+            return null;
+        }
+        final AiManaSources sources = ((PlayerControllerAi) ai.getController()).getAi().getManaSources();
+        if (sources.player != ai || sources.game != ai.getGame()) {
+            return null;
+        }
+        return sources;
+    }
+
+    CardCollection getSources(final boolean checkPlayable) {
+        final Snapshot snapshot = getSnapshot(checkPlayable);
+        if (snapshot.sources == null) {
+            snapshot.sources = ComputerUtilMana.findAvailableManaSources(player, checkPlayable);
+        }
+        return snapshot.sources;
+    }
+
+    ListMultimap<Integer, SpellAbility> getSourcesByColor(final boolean checkPlayable) {
+        final Snapshot snapshot = getSnapshot(checkPlayable);
+        if (snapshot.sourcesByColor == null) {
+            snapshot.sourcesByColor = ComputerUtilMana.findSourcesByManaColor(player, checkPlayable);
+        } else {
+            // other decisions may have changed who would activate them
+            for (final SpellAbility m : snapshot.sourcesByColor.get(ManaAtom.GENERIC)) {
+                m.setActivatingPlayer(player, true);
+            }
+        }
+        return snapshot.sourcesByColor;
+    }
+
+    /**
+     * @return the most mana one activation of a mana ability of the card is expected to make
+     */
+    int getManaAmount(final Card source) {
+        forgetIfChanged();
+        Integer amount = manaAmounts.get(source);
+        if (amount == null) {
+            amount = predictManaAmount(player, source);
+            manaAmounts.put(source, amount);
+        }
+        return amount;
+    }
+
+    /**
+     * @return false if the mana sources of the AI certainly can't pay for the spell or ability, see {@link #mayAfford(SpellAbility)},
+     *         always true when they aren't kept for it
+     */
+    public static boolean mayAfford(final Player ai, final SpellAbility sa) {
+        final AiManaSources sources = of(ai);
+        return sources == null || sources.mayAfford(sa);
+    }
+
+    /**
+     * Compares the mana cost of a spell or ability with the most mana the sources could make, each of them making as
+     * much as one activation of its mana abilities does, like the payment assumes when it matches the sources with
+     * the shards. Anything that could lower the cost or pay for part of it otherwise, e.g. cost reductions, convoke,
+     * life or mana already in the pool, lets it pass, so that only what can't be paid anyway is turned down.
+     * @return false if the sources certainly can't pay for it
+     */
+    private boolean mayAfford(final SpellAbility sa) {
+        final Cost cost = sa.getPayCosts();
+        final CostPartMana manaPart = cost == null ? null : cost.getCostMana();
+        if (manaPart == null || sa.costHasX() || !player.getManaPool().isEmpty()
+                || player.hasKeyword("PayLifeInsteadOf:B") || mayLowerCost(sa)) {
+            return true;
+        }
+        final ManaCost mana = manaPart.getManaCostFor(sa);
+        if (mana.hasPhyrexian()) {
+            return true;
+        }
+        // a hybrid shard with generic mana is still one mana at least
+        int least = mana.getGenericCost();
+        for (final ManaCostShard shard : mana) {
+            if (shard != ManaCostShard.GENERIC) {
+                least++;
+            }
+        }
+        int most = 0;
+        for (final Card source : getSources(true)) {
+            if (most >= least) {
+                return true;
+            }
+            most += Math.max(getManaAmount(source), 1);
+        }
+        return most >= least;
+    }
+
+    private boolean mayLowerCost(final SpellAbility sa) {
+        final Card host = sa.getHostCard();
+        // the statics of the other face aren't there to look at
+        if (sa.getCardState() != null && sa.getCardStateName() != host.getCurrentStateName()) {
+            return true;
+        }
+        if (sa.hasParam("ReduceCost") || !sa.getPipsToReduce().isEmpty() || sa.isOffering() || sa.isEmerge()
+                || host.hasKeyword(Keyword.CONVOKE) || host.hasKeyword(Keyword.DELVE) || host.hasKeyword(Keyword.IMPROVISE)) {
+            return true;
+        }
+        // see CostAdjustment, the card itself counts wherever it is
+        for (final StaticAbility stAb : host.getStaticAbilities()) {
+            if (stAb.checkMode("ReduceCost") || stAb.checkMode("SetCost")) {
+                return true;
+            }
+        }
+        return !game.getStaticAbilityIndex().getCardsWith("ReduceCost", "SetCost").isEmpty();
+    }
+
+    static int predictManaAmount(final Player ai, final Card source) {
+        int most = 0;
+        for (final SpellAbility m : ComputerUtilMana.getAIPlayableMana(source)) {
+            int amount = 0;
+            for (final String part : ComputerUtilMana.predictManafromSpellAbility(m, ai, ManaCostShard.GENERIC).split(" ")) {
+                if (part.isEmpty()) {
+                    continue;
+                }
+                amount += StringUtils.isNumeric(part) ? Integer.parseInt(part) : 1;
+            }
+            most = Math.max(most, amount);
+        }
+        return most;
+    }
+
+    private Snapshot getSnapshot(final boolean checkPlayable) {
+        forgetIfChanged();
+        final int i = checkPlayable ? 1 : 0;
+        if (snapshots[i] == null) {
+            snapshots[i] = new Snapshot();
+        }
+        return snapshots[i];
+    }
+
+    private void forgetIfChanged() {
+        final long changes = game.getStaticEffects().getChangeCount();
+        final Combat currentCombat = game.getCombat();
+        final int currentVersion = currentCombat == null ? 0 : currentCombat.getVersion();
+        if (changes != changeCount || currentCombat != combat || currentVersion != combatVersion) {
+            changeCount = changes;
+            combat = currentCombat;
+            combatVersion = currentVersion;
+            snapshots[0] = null;
+            snapshots[1] = null;
+            manaAmounts.clear();
+        }
+    }
+}
@@ -47,6 +47,10 @@ public class AiProfileUtil {
     public static final String AI_PROFILE_RANDOM_MATCH = "Random (Every Match)";
     public static final String AI_PROFILE_RANDOM_DUEL = "Random (Every Game)";
 
+    /** Values of {@link AiProps#SIMULATION_ENGINE}. */
+    public static final String SIMULATION_ENGINE_EXHAUSTIVE = "Exhaustive";
+    public static final String SIMULATION_ENGINE_MONTE_CARLO = "MonteCarlo";
+
     /** Builds an AI profile file name with full relative 
      * path based on the profile name. 
      * @param profileName the name of the profile.
@@ -114,6 +118,14 @@ public class AiProfileUtil {
         return val;
     }
 
+    /**
+     * Returns whether a simulating AI should use the Monte Carlo tree search rather than the
+     * exhaustive search, as set by the SIMULATION_ENGINE property of its profile.
+     */
+    public static boolean usesMonteCarloSimulation(final LobbyPlayer p) {
+        return SIMULATION_ENGINE_MONTE_CARLO.equalsIgnoreCase(getAIProp(p, AiProps.SIMULATION_ENGINE));
+    }
+
     /**
      * Returns an array of strings containing all available profiles.
      * @return ArrayList<String> - an array of strings containing all 
@@ -139,7 +139,20 @@ public enum AiProps { /** */
     SACRIFICE_DEFAULT_PREF_MIN_CMC("0"),
     SACRIFICE_DEFAULT_PREF_MAX_CMC("2"),
     SACRIFICE_DEFAULT_PREF_ALLOW_TOKENS("true"),
-    SACRIFICE_DEFAULT_PREF_MAX_CREATURE_EVAL("135");
+    SACRIFICE_DEFAULT_PREF_MAX_CREATURE_EVAL("135"),
+    SIMULATION_WORKERS ("1"),
+    SIMULATION_TRANSPOSITION_TABLE_SIZE ("10000"),
+    SIMULATION_MAX_DEPTH ("3"),
+    SIMULATION_TIME_BUDGET ("0"),
+    SIMULATION_ENGINE ("Exhaustive"),
+    SIMULATION_MCTS_PLAYOUTS ("200"),
+    SIMULATION_MCTS_PLAYOUT_DEPTH ("3"),
+    SIMULATION_COMBAT_CACHE_SIZE ("1000"),
+    SIMULATION_ESTIMATE_COMBAT ("false"),
+    SIMULATION_INCREMENTAL_STATICS ("true"),
+    SIMULATION_VERIFY_INCREMENTAL_STATICS ("false"),
+    BLOCK_SOLVER ("false"),
+    BLOCK_SOLVER_NODE_BUDGET ("100000");
     // Experimental features, must be promoted or removed after extensive testing and, ideally, defaulting
     // <-- There are no experimental options here -->
 
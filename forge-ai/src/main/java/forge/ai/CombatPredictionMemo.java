@@ -0,0 +1,157 @@
+package forge.ai;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+import com.google.common.collect.Maps;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.player.Player;
+
+/**
+ * Remembers what {@link ComputerUtilCombat} predicted for an attacker and a blocker during one combat
+ * decision of the AI. E.g. {@link AiBlockController} asks about the same pairs over and over while it tries
+ * good blocks, trades, gang blocks and chump blocks, and each prediction looks at all triggers and statics.
+ * <p>
+ * A prediction made with a combat is only reused as long as that combat is the same, see
+ * {@link Combat#getVersion()}, and all of them are forgotten whenever the game reports a change.
+ * The decisions open and close the memo around themselves, outside of them nothing is remembered.
+ */
+public final class CombatPredictionMemo {
+    // -Dforge.ai.combatPredictionMemo=false makes every prediction from scratch, the blocks and attacks
+    // are expected to come out the same either way
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("forge.ai.combatPredictionMemo", "true"));
+
+    enum Prediction {
+        PowerBonusOfBlocker,
+        ToughnessBonusOfBlocker,
+        PowerBonusOfAttacker,
+        ToughnessBonusOfAttacker,
+        DamageAsBlocker,
+        AttackerWouldBeDestroyed,
+        CanDestroyAttacker,
+        CanDestroyBlocker
+    }
+
+    private static final class Key {
+        private final Prediction prediction;
+        private final Card attacker;
+        private final Card blocker;
+        private final Combat combat;
+        private final int combatVersion;
+        private final Player ai;
+        private final int flags;
+
+        private Key(final Prediction prediction, final Card attacker, final Card blocker, final Combat combat,
+                final Player ai, final int flags) {
+            this.prediction = prediction;
+            this.attacker = attacker;
+            this.blocker = blocker;
+            this.combat = combat;
+            this.combatVersion = combat == null ? 0 : combat.getVersion();
+            this.ai = ai;
+            this.flags = flags;
+        }
+
+        // cards are compared by identity, the copies the AI makes to look ahead have the same id
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return prediction == other.prediction && attacker == other.attacker && blocker == other.blocker
+                    && combat == other.combat && combatVersion == other.combatVersion && ai == other.ai
+                    && flags == other.flags;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = prediction.ordinal();
+            hash = 31 * hash + System.identityHashCode(attacker);
+            hash = 31 * hash + System.identityHashCode(blocker);
+            hash = 31 * hash + System.identityHashCode(combat);
+            hash = 31 * hash + combatVersion;
+            hash = 31 * hash + System.identityHashCode(ai);
+            return 31 * hash + flags;
+        }
+    }
+
+    private static final ThreadLocal<CombatPredictionMemo> current = new ThreadLocal<>();
+
+    private final Game game;
+    private final CombatPredictionMemo outer;
+    private int depth = 1;
+    private long changeCount;
+    private final Map<Key, Integer> results = Maps.newHashMap();
+
+    private CombatPredictionMemo(final Game game, final CombatPredictionMemo outer) {
+        this.game = game;
+        this.outer = outer;
+        changeCount = game.getStaticEffects().getChangeCount();
+    }
+
+    /**
+     * Start remembering predictions for a decision, until {@link #close()} is called.
+     * A decision made as part of another one, e.g. guessing the blocks while attacking, shares its memo.
+     */
+    static CombatPredictionMemo open(final Game game) {
+        final CombatPredictionMemo memo = current.get();
+        if (memo != null && memo.game == game) {
+            memo.depth++;
+            return memo;
+        }
+        final CombatPredictionMemo opened = new CombatPredictionMemo(game, memo);
+        current.set(opened);
+        return opened;
+    }
+
+    void close() {
+        if (--depth > 0) {
+            return;
+        }
+        if (outer == null) {
+            current.remove();
+        } else {
+            current.set(outer);
+        }
+    }
+
+    static int predict(final Prediction prediction, final Card attacker, final Card blocker, final Combat combat,
+            final Player ai, final int flags, final IntSupplier predictor) {
+        final CombatPredictionMemo memo = current.get();
+        if (!ENABLED || memo == null || attacker == null || attacker.getGame() != memo.game) {
+            return predictor.getAsInt();
+        }
+        return memo.get(new Key(prediction, attacker, blocker, combat, ai, flags), predictor);
+    }
+
+    static boolean predict(final Prediction prediction, final Card attacker, final Card blocker, final Combat combat,
+            final Player ai, final int flags, final BooleanSupplier predictor) {
+        return predict(prediction, attacker, blocker, combat, ai, flags, () -> predictor.getAsBoolean() ? 1 : 0) != 0;
+    }
+
+    private int get(final Key key, final IntSupplier predictor) {
+        forgetIfChanged();
+        final Integer known = results.get(key);
+        if (known != null) {
+            return known;
+        }
+        final int result = predictor.getAsInt();
+        // the prediction itself can report changes, e.g. when it copies cards
+        forgetIfChanged();
+        results.put(key, result);
+        return result;
+    }
+
+    private void forgetIfChanged() {
+        final long changes = game.getStaticEffects().getChangeCount();
+        if (changes != changeCount) {
+            results.clear();
+            changeCount = changes;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import forge.ai.CombatPredictionMemo.Prediction;
 import forge.game.Game;
 import forge.game.GameEntity;
 import forge.game.ability.AbilityKey;
@@ -62,10 +63,16 @@ import java.util.Map;
  */
 public class ComputerUtilCombat {
 
-    // A special flag used in ComputerUtil#canRegenerate to avoid recursive reentry and stack overflow
-    private static boolean dontTestRegen = false;
+    // A special flag used in ComputerUtil#canRegenerate to avoid recursive reentry and stack overflow,
+    // kept per thread like the recursion it guards
+    private static final ThreadLocal<Boolean> dontTestRegen = ThreadLocal.withInitial(() -> false);
     public static void setCombatRegenTestSuppression(boolean shouldSuppress) {
-        dontTestRegen = shouldSuppress;
+        dontTestRegen.set(shouldSuppress);
+    }
+
+    // what else the predictions depend on, see CombatPredictionMemo
+    private static int flags(final boolean flag1, final boolean flag2) {
+        return (flag1 ? 1 : 0) | (flag2 ? 2 : 0) | (dontTestRegen.get() ? 4 : 0);
     }
 
     /**
@@ -572,6 +579,10 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int dealsDamageAsBlocker(final Card attacker, final Card defender) {
+        return CombatPredictionMemo.predict(Prediction.DamageAsBlocker, attacker, defender, null, null, flags(false, false),
+                () -> dealsDamageAsBlockerUncached(attacker, defender));
+    }
+    private static int dealsDamageAsBlockerUncached(final Card attacker, final Card defender) {
         int defenderDamage = predictDamageByBlockerWithoutDoubleStrike(attacker, defender);
 
         if (defender.hasDoubleStrike()) {
@@ -713,7 +724,11 @@ public class ComputerUtilCombat {
      *            a {@link forge.game.card.Card} object.
      * @return a boolean.
      */
-    public static boolean attackerWouldBeDestroyed(Player ai, final Card attacker, Combat combat) {
+    public static boolean attackerWouldBeDestroyed(final Player ai, final Card attacker, final Combat combat) {
+        return CombatPredictionMemo.predict(Prediction.AttackerWouldBeDestroyed, attacker, null, combat, ai, flags(false, false),
+                () -> attackerWouldBeDestroyedUncached(ai, attacker, combat));
+    }
+    private static boolean attackerWouldBeDestroyedUncached(Player ai, final Card attacker, Combat combat) {
         final List<Card> blockers = combat.getBlockers(attacker);
         int firstStrikeBlockerDmg = 0;
 
@@ -886,7 +901,11 @@ public class ComputerUtilCombat {
      *            a {@link forge.game.card.Card} object.
      * @return a int.
      */
-    public static int predictPowerBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+    public static int predictPowerBonusOfBlocker(final Card attacker, final Card blocker, final boolean withoutAbilities) {
+        return CombatPredictionMemo.predict(Prediction.PowerBonusOfBlocker, attacker, blocker, null, null, flags(withoutAbilities, false),
+                () -> predictPowerBonusOfBlockerUncached(attacker, blocker, withoutAbilities));
+    }
+    private static int predictPowerBonusOfBlockerUncached(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -907,7 +926,7 @@ public class ComputerUtilCombat {
 
         final Game game = attacker.getGame();
         // look out for continuous static abilities that only care for blocking creatures
-        final CardCollectionView cardList = CardCollection.combine(game.getCardsIn(ZoneType.Battlefield), game.getCardsIn(ZoneType.Command));
+        final Iterable<Card> cardList = game.getCardsInView(ZoneType.Battlefield, ZoneType.Command);
         for (final Card card : cardList) {
             for (final StaticAbility stAb : card.getStaticAbilities()) {
                 if (!stAb.checkMode("Continuous")) {
@@ -927,10 +946,10 @@ public class ComputerUtilCombat {
         }
 
         final FCollection<Trigger> theTriggers = new FCollection<>();
-        for (Card card : game.getCardsIn(ZoneType.Battlefield)) {
+        for (Card card : game.getCardsInView(ZoneType.Battlefield)) {
             theTriggers.addAll(card.getTriggers());
         }
-        for (Card card : game.getCardsIn(ZoneType.Command)) {
+        for (Card card : game.getCardsInView(ZoneType.Command)) {
             theTriggers.addAll(card.getTriggers());
         }
         theTriggers.addAll(attacker.getTriggers());
@@ -1032,7 +1051,11 @@ public class ComputerUtilCombat {
      *            a {@link forge.game.card.Card} object.
      * @return a int.
      */
-    public static int predictToughnessBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+    public static int predictToughnessBonusOfBlocker(final Card attacker, final Card blocker, final boolean withoutAbilities) {
+        return CombatPredictionMemo.predict(Prediction.ToughnessBonusOfBlocker, attacker, blocker, null, null, flags(withoutAbilities, false),
+                () -> predictToughnessBonusOfBlockerUncached(attacker, blocker, withoutAbilities));
+    }
+    private static int predictToughnessBonusOfBlockerUncached(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int toughness = 0;
 
         if (blocker.getName().equals("Shape Stealer")) {
@@ -1041,10 +1064,10 @@ public class ComputerUtilCombat {
 
         final Game game = attacker.getGame();
         final FCollection<Trigger> theTriggers = new FCollection<>();
-        for (Card card : game.getCardsIn(ZoneType.Battlefield)) {
+        for (Card card : game.getCardsInView(ZoneType.Battlefield)) {
             theTriggers.addAll(card.getTriggers());
         }
-        for (Card card : game.getCardsIn(ZoneType.Command)) {
+        for (Card card : game.getCardsInView(ZoneType.Command)) {
             theTriggers.addAll(card.getTriggers());
         }
         theTriggers.addAll(attacker.getTriggers());
@@ -1169,7 +1192,11 @@ public class ComputerUtilCombat {
     public static int predictPowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities) {
         return predictPowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, false);
     }
-    public static int predictPowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
+    public static int predictPowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, final boolean withoutAbilities, final boolean withoutCombatStaticAbilities) {
+        return CombatPredictionMemo.predict(Prediction.PowerBonusOfAttacker, attacker, blocker, combat, null, flags(withoutAbilities, withoutCombatStaticAbilities),
+                () -> predictPowerBonusOfAttackerUncached(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities));
+    }
+    private static int predictPowerBonusOfAttackerUncached(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -1181,10 +1208,10 @@ public class ComputerUtilCombat {
 
         final Game game = attacker.getGame();
         final FCollection<Trigger> theTriggers = new FCollection<>();
-        for (Card card : game.getCardsIn(ZoneType.Battlefield)) {
+        for (Card card : game.getCardsInView(ZoneType.Battlefield)) {
             theTriggers.addAll(card.getTriggers());
         }
-        for (Card card : game.getCardsIn(ZoneType.Command)) {
+        for (Card card : game.getCardsInView(ZoneType.Command)) {
             theTriggers.addAll(card.getTriggers());
         }
         // if the defender has first strike and wither the attacker will deal
@@ -1203,7 +1230,7 @@ public class ComputerUtilCombat {
 
         // look out for continuous static abilities that only care for attacking creatures
         if (!withoutCombatStaticAbilities) {
-            final CardCollectionView cardList = CardCollection.combine(game.getCardsIn(ZoneType.Battlefield), game.getCardsIn(ZoneType.Command));
+            final Iterable<Card> cardList = game.getCardsInView(ZoneType.Battlefield, ZoneType.Command);
             for (final Card card : cardList) {
                 for (final StaticAbility stAb : card.getStaticAbilities()) {
                     if (!stAb.checkMode("Continuous")) {
@@ -1368,7 +1395,12 @@ public class ComputerUtilCombat {
             , boolean withoutAbilities) {
         return predictToughnessBonusOfAttacker(attacker, blocker, combat, withoutAbilities, false);
     }
-    public static int predictToughnessBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat
+    public static int predictToughnessBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutCombatStaticAbilities) {
+        return CombatPredictionMemo.predict(Prediction.ToughnessBonusOfAttacker, attacker, blocker, combat, null, flags(withoutAbilities, withoutCombatStaticAbilities),
+                () -> predictToughnessBonusOfAttackerUncached(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities));
+    }
+    private static int predictToughnessBonusOfAttackerUncached(final Card attacker, final Card blocker, final Combat combat
             , boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int toughness = 0;
 
@@ -1378,10 +1410,10 @@ public class ComputerUtilCombat {
 
         final Game game = attacker.getGame();
         final FCollection<Trigger> theTriggers = new FCollection<>();
-        for (Card card : game.getCardsIn(ZoneType.Battlefield)) {
+        for (Card card : game.getCardsInView(ZoneType.Battlefield)) {
             theTriggers.addAll(card.getTriggers());
         }
-        for (Card card : game.getCardsIn(ZoneType.Command)) {
+        for (Card card : game.getCardsInView(ZoneType.Command)) {
             theTriggers.addAll(card.getTriggers());
         }
         if (blocker != null) {
@@ -1390,7 +1422,7 @@ public class ComputerUtilCombat {
 
         // look out for continuous static abilities that only care for attacking creatures
         if (!withoutCombatStaticAbilities) {
-            final CardCollectionView cardList = game.getCardsIn(ZoneType.Battlefield);
+            final Iterable<Card> cardList = game.getCardsInView(ZoneType.Battlefield);
             for (final Card card : cardList) {
                 for (final StaticAbility stAb : card.getStaticAbilities()) {
                     if (!"Continuous".equals(stAb.getParam("Mode"))) {
@@ -1584,7 +1616,7 @@ public class ComputerUtilCombat {
 
         // check Destroy triggers (Cockatrice and friends)
         final FCollection<Trigger> theTriggers = new FCollection<>();
-        for (Card card : attacker.getGame().getCardsIn(ZoneType.Battlefield)) {
+        for (Card card : attacker.getGame().getCardsInView(ZoneType.Battlefield)) {
             theTriggers.addAll(card.getTriggers());
         }
         for (Trigger trigger : theTriggers) {
@@ -1665,7 +1697,12 @@ public class ComputerUtilCombat {
             final boolean withoutAbilities) {
         return canDestroyAttacker(ai, attacker, blocker, combat, withoutAbilities, false);
     }
-    public static boolean canDestroyAttacker(Player ai, Card attacker, Card blocker, final Combat combat,
+    public static boolean canDestroyAttacker(final Player ai, final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        return CombatPredictionMemo.predict(Prediction.CanDestroyAttacker, attacker, blocker, combat, ai, flags(withoutAbilities, withoutAttackerStaticAbilities),
+                () -> canDestroyAttackerUncached(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities));
+    }
+    private static boolean canDestroyAttackerUncached(Player ai, Card attacker, Card blocker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
@@ -1829,7 +1866,7 @@ public class ComputerUtilCombat {
             }
         } // flanking
 
-        if (blocker.hasKeyword(Keyword.INDESTRUCTIBLE) || dontTestRegen
+        if (blocker.hasKeyword(Keyword.INDESTRUCTIBLE) || dontTestRegen.get()
                 || ComputerUtil.canRegenerate(blocker.getController(), blocker)) {
             return false;
         }
@@ -1841,7 +1878,7 @@ public class ComputerUtilCombat {
 
         final Game game = blocker.getGame();
         final FCollection<Trigger> theTriggers = new FCollection<>();
-        for (Card card : game.getCardsIn(ZoneType.Battlefield)) {
+        for (Card card : game.getCardsInView(ZoneType.Battlefield)) {
             theTriggers.addAll(card.getTriggers());
         }
         for (Trigger trigger : theTriggers) {
@@ -1895,7 +1932,12 @@ public class ComputerUtilCombat {
             final boolean withoutAbilities) {
         return canDestroyBlocker(ai, blocker, attacker, combat, withoutAbilities, false);
     }
-    public static boolean canDestroyBlocker(Player ai, Card blocker, Card attacker, final Combat combat,
+    public static boolean canDestroyBlocker(final Player ai, final Card blocker, final Card attacker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        return CombatPredictionMemo.predict(Prediction.CanDestroyBlocker, attacker, blocker, combat, ai, flags(withoutAbilities, withoutAttackerStaticAbilities),
+                () -> canDestroyBlockerUncached(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities));
+    }
+    private static boolean canDestroyBlockerUncached(Player ai, Card blocker, Card attacker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
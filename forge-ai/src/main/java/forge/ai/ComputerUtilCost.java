@@ -35,9 +35,10 @@ import java.util.Set;
 
 
 public class ComputerUtilCost {
-    private static boolean suppressRecursiveSacCostCheck = false;
+    // set and cleared around a single call, so other threads playing their own game must not see it
+    private static final ThreadLocal<Boolean> suppressRecursiveSacCostCheck = ThreadLocal.withInitial(() -> false);
     public static void setSuppressRecursiveSacCostCheck(boolean shouldSuppress) {
-        suppressRecursiveSacCostCheck = shouldSuppress;
+        suppressRecursiveSacCostCheck.set(shouldSuppress);
     }
 
     /**
@@ -348,7 +349,7 @@ public class ComputerUtilCost {
         }
         for (final CostPart part : cost.getCostParts()) {
             if (part instanceof CostSacrifice) {
-                if (suppressRecursiveSacCostCheck) {
+                if (suppressRecursiveSacCostCheck.get()) {
                     return false;
                 }
 
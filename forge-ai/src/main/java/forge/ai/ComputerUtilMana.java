@@ -688,6 +688,13 @@ public class ComputerUtilMana {
         ListMultimap<ManaCostShard, SpellAbility> sourcesForShards = getSourcesForShards(cost, sa, ai, test,
                 checkPlayable, hasConverge);
 
+        if (test && AiManaSources.ENABLED && sourcesForShards != null && !canCoverShards(cost, sourcesForShards, ai)) {
+            // not enough sources for the shards, no need to try paying them one by one
+            CostPayment.handleOfferings(sa, test, false);
+            ManaPool.refundMana(manaSpentToPay, ai, sa);
+            return false;
+        }
+
         int testEnergyPool = ai.getCounters(CounterEnumType.ENERGY);
         ManaCostShard toPay = null;
         List<SpellAbility> saExcludeList = new ArrayList<>();
@@ -872,6 +879,76 @@ public class ComputerUtilMana {
         return true;
     }
 
+    /**
+     * Matches the unpaid shards with the cards that can pay for them, each card paying for as many shards as one
+     * activation of its mana abilities makes mana. As this leaves out everything else the payment looks at,
+     * it only tells for sure when the cost can't be paid.
+     * @return false if there are not enough sources for the shards
+     */
+    private static boolean canCoverShards(final ManaCostBeingPaid cost, final ListMultimap<ManaCostShard, SpellAbility> sourcesForShards,
+            final Player ai) {
+        // paying with life, X and the pool are left to the payment itself
+        if (cost.containsPhyrexianMana() || ai.hasKeyword("PayLifeInsteadOf:B") || !ai.getManaPool().isEmpty()) {
+            return true;
+        }
+        final List<ManaCostShard> shards = cost.getUnpaidShards();
+        if (shards.contains(ManaCostShard.X) || shards.contains(ManaCostShard.COLORED_X)) {
+            return true;
+        }
+
+        final AiManaSources known = AiManaSources.of(ai);
+        final List<Card> sources = new ArrayList<>();
+        final List<Integer> amounts = new ArrayList<>();
+        final List<Set<ManaCostShard>> payable = new ArrayList<>();
+        for (final Map.Entry<ManaCostShard, SpellAbility> e : sourcesForShards.entries()) {
+            final Card source = e.getValue().getHostCard();
+            int i = sources.indexOf(source);
+            if (i < 0) {
+                i = sources.size();
+                sources.add(source);
+                final int amount = known == null ? AiManaSources.predictManaAmount(ai, source) : known.getManaAmount(source);
+                amounts.add(Math.min(Math.max(amount, 1), shards.size()));
+                payable.add(EnumSet.noneOf(ManaCostShard.class));
+            }
+            payable.get(i).add(e.getKey());
+        }
+
+        // each card is used as many times as it makes mana
+        final List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            for (int j = 0; j < amounts.get(i); j++) {
+                slots.add(i);
+            }
+        }
+        if (slots.size() < shards.size()) {
+            return false;
+        }
+        final int[] paidBy = new int[slots.size()];
+        Arrays.fill(paidBy, -1);
+        for (int s = 0; s < shards.size(); s++) {
+            if (!findSlot(s, shards, slots, payable, paidBy, new boolean[slots.size()])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // looks for a way to pay the shard, moving the shards already matched to other cards where needed
+    private static boolean findSlot(final int shard, final List<ManaCostShard> shards, final List<Integer> slots,
+            final List<Set<ManaCostShard>> payable, final int[] paidBy, final boolean[] visited) {
+        for (int slot = 0; slot < slots.size(); slot++) {
+            if (visited[slot] || !payable.get(slots.get(slot)).contains(shards.get(shard))) {
+                continue;
+            }
+            visited[slot] = true;
+            if (paidBy[slot] < 0 || findSlot(paidBy[slot], shards, slots, payable, paidBy, visited)) {
+                paidBy[slot] = shard;
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static void resetPayment(List<SpellAbility> payments) {
         for (SpellAbility sa : payments) {
             sa.getManaPart().clearExpressChoice();
@@ -1434,6 +1511,14 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate available mana
     public static CardCollection getAvailableManaSources(final Player ai, final boolean checkPlayable) {
+        final AiManaSources known = AiManaSources.of(ai);
+        if (known == null) {
+            return findAvailableManaSources(ai, checkPlayable);
+        }
+        return new CardCollection(known.getSources(checkPlayable));
+    }
+
+    static CardCollection findAvailableManaSources(final Player ai, final boolean checkPlayable) {
         final CardCollectionView list = CardCollection.combine(ai.getCardsIn(ZoneType.Battlefield), ai.getCardsIn(ZoneType.Hand));
         final List<Card> manaSources = CardLists.filter(list, new Predicate<Card>() {
             @Override
@@ -1588,6 +1673,14 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate mana available
     private static ListMultimap<Integer, SpellAbility> groupSourcesByManaColor(final Player ai, boolean checkPlayable) {
+        final AiManaSources known = AiManaSources.of(ai);
+        if (known == null) {
+            return findSourcesByManaColor(ai, checkPlayable);
+        }
+        return ArrayListMultimap.create(known.getSourcesByColor(checkPlayable));
+    }
+
+    static ListMultimap<Integer, SpellAbility> findSourcesByManaColor(final Player ai, boolean checkPlayable) {
         final ListMultimap<Integer, SpellAbility> manaMap = ArrayListMultimap.create();
         final Game game = ai.getGame();
 
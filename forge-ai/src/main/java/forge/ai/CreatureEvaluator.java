@@ -2,11 +2,13 @@ package forge.ai;
 
 import com.google.common.base.Function;
 
+import forge.game.Game;
 import forge.game.GameEntity;
 import forge.game.ability.AbilityUtils;
 import forge.game.ability.ApiType;
 import forge.game.card.Card;
 import forge.game.card.CounterEnumType;
+import forge.game.combat.Combat;
 import forge.game.cost.CostPayEnergy;
 import forge.game.keyword.Keyword;
 import forge.game.spellability.SpellAbility;
@@ -14,9 +16,67 @@ import forge.game.staticability.StaticAbilityAssignCombatDamageAsUnblocked;
 import forge.game.staticability.StaticAbilityCantAttackBlock;
 import forge.game.staticability.StaticAbilityMustAttack;
 
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class CreatureEvaluator implements Function<Card, Integer> {
+    // -Dforge.ai.creatureValueMemo=false evaluates the creature every time it's asked about, which should only
+    // cost time but never change a value
+    static final boolean REMEMBER_VALUES = Boolean.parseBoolean(System.getProperty("forge.ai.creatureValueMemo", "true"));
+
+    /**
+     * The values computed for the cards of one game since it last reported a change, each with the
+     * {@link Card#getModificationCount()} it was computed for.
+     * <p>
+     * The game, the combat and the cards are only weakly held: the memo belongs to a thread which may be a pool
+     * thread that outlives the game it last evaluated for, e.g. a simulated copy.
+     */
+    private static final class Memo {
+        private static final WeakReference<Object> NONE = new WeakReference<>(null);
+
+        private static final class Entry {
+            private final WeakReference<Card> card;
+            // the modification count followed by the values for each combination of considerPT and considerCMC
+            private final int[] values;
+
+            private Entry(final Card c) {
+                card = new WeakReference<>(c);
+                values = new int[] { c.getModificationCount(), Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE };
+            }
+        }
+
+        private WeakReference<?> game = NONE;
+        private long changeCount = -1;
+        private WeakReference<?> combat = NONE;
+        private int combatVersion;
+        private final Map<Integer, Entry> values = new HashMap<>();
+
+        private int[] valuesFor(final Card c) {
+            final Game currentGame = c.getGame();
+            final long changes = currentGame.getStaticEffects().getChangeCount();
+            final Combat currentCombat = currentGame.getCombat();
+            final int currentVersion = currentCombat == null ? 0 : currentCombat.getVersion();
+            if (currentGame != game.get() || changes != changeCount || currentCombat != combat.get() || currentVersion != combatVersion) {
+                game = new WeakReference<>(currentGame);
+                changeCount = changes;
+                combat = currentCombat == null ? NONE : new WeakReference<>(currentCombat);
+                combatVersion = currentVersion;
+                values.clear();
+            }
+            Entry known = values.get(c.getId());
+            if (known == null || known.card.get() != c || known.values[0] != c.getModificationCount()) {
+                known = new Entry(c);
+                values.put(c.getId(), known);
+            }
+            return known.values;
+        }
+    }
+
+    // the AI may evaluate on several threads, see ParallelCandidateEvaluator
+    private final ThreadLocal<Memo> memo = ThreadLocal.withInitial(Memo::new);
+
     @Override
     public Integer apply(Card c) {
         return evaluateCreature(c);
@@ -25,7 +85,37 @@ public class CreatureEvaluator implements Function<Card, Integer> {
     public int evaluateCreature(final Card c) {
         return evaluateCreature(c, true, true);
     }
+
+    /**
+     * The value of a creature doesn't change as long as neither the card nor the game changes, so it's only computed
+     * again after one of them did, see {@link Card#getModificationCount()}.
+     */
     public int evaluateCreature(final Card c, final boolean considerPT, final boolean considerCMC) {
+        if (!REMEMBER_VALUES || !remembersValues() || c.getGame() == null) {
+            return computeValue(c, considerPT, considerCMC);
+        }
+        final int[] known = memo.get().valuesFor(c);
+        final int i = 1 + (considerPT ? 2 : 0) + (considerCMC ? 1 : 0);
+        if (known[i] == Integer.MIN_VALUE) {
+            final int modifications = c.getModificationCount();
+            final int value = computeValue(c, considerPT, considerCMC);
+            // only if evaluating didn't change the card itself
+            if (modifications != c.getModificationCount()) {
+                return value;
+            }
+            known[i] = value;
+        }
+        return known[i];
+    }
+
+    /**
+     * @return whether the values may be remembered, not when each step of computing them is of interest
+     */
+    protected boolean remembersValues() {
+        return true;
+    }
+
+    private int computeValue(final Card c, final boolean considerPT, final boolean considerCMC) {
         int value = 80;
         if (!c.isToken()) {
             value += addValue(20, "non-token"); // tokens should be worth less than actual cards
@@ -49,7 +49,8 @@ public class ChangeZoneAi extends SpellAbilityAi {
 
     // multipleCardsToChoose is used by Intuition and can be adapted to be used by other
     // cards where multiple cards are fetched at once and they need to be coordinated
-    private static CardCollection multipleCardsToChoose = new CardCollection();
+    // (one list per thread, since several games can be played at once by SimulateMatch)
+    private static final ThreadLocal<CardCollection> multipleCardsToChoose = ThreadLocal.withInitial(CardCollection::new);
 
     protected boolean willPayCosts(Player ai, SpellAbility sa, Cost cost, Card source) {
         if (sa.isCraft()) {
@@ -138,7 +139,7 @@ public class ChangeZoneAi extends SpellAbilityAi {
     protected boolean checkApiLogic(Player aiPlayer, SpellAbility sa) {
         // Checks for "return true" unlike checkAiLogic()
 
-        multipleCardsToChoose.clear();
+        multipleCardsToChoose.get().clear();
         String aiLogic = sa.getParam("AILogic");
         if (aiLogic != null) {
             if (aiLogic.equals("Always")) {
@@ -160,7 +161,7 @@ public class ChangeZoneAi extends SpellAbilityAi {
             } else if (aiLogic.equals("Intuition")) {
                 // This logic only fills the multiple cards array, the decision to play is made
                 // separately in hiddenOriginCanPlayAI later.
-                multipleCardsToChoose = SpecialCardAi.Intuition.considerMultiple(aiPlayer, sa);
+                multipleCardsToChoose.set(SpecialCardAi.Intuition.considerMultiple(aiPlayer, sa));
             } else if (aiLogic.equals("MazesEnd")) {
                 return SpecialCardAi.MazesEnd.consider(aiPlayer, sa);
             } else if (aiLogic.equals("Pongify")) {
@@ -905,7 +906,7 @@ public class ChangeZoneAi extends SpellAbilityAi {
             // TODO need to set XManaCostPaid for targets, maybe doesn't need PayX anymore?
             sa.setXManaCostPaid(xPay);
         }
-        CardCollection list = CardLists.getTargetableCards(game.getCardsIn(origin), sa);
+        CardCollection list = CardLists.getTargetableCards(game.getCardsInView(origin), sa);
 
         // Filter AI-specific targets if provided
         list = ComputerUtil.filterAITgts(sa, ai, list, true);
@@ -1599,9 +1600,10 @@ public class ChangeZoneAi extends SpellAbilityAi {
             } else if ("MazesEnd".equals(logic)) {
                 return SpecialCardAi.MazesEnd.considerCardToGet(decider, sa);
             } else if ("Intuition".equals(logic)) {
-                if (!multipleCardsToChoose.isEmpty()) {
-                    Card choice = multipleCardsToChoose.get(0);
-                    multipleCardsToChoose.remove(0);
+                final CardCollection multipleCards = multipleCardsToChoose.get();
+                if (!multipleCards.isEmpty()) {
+                    Card choice = multipleCards.get(0);
+                    multipleCards.remove(0);
                     return choice;
                 }
             } else if (logic.startsWith("ExilePreference")) {
@@ -0,0 +1,100 @@
+package forge.ai.simulation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import forge.ai.simulation.GameStateEvaluator.Score;
+
+/**
+ * Remembers how the upcoming combat changed the score of the states it was simulated for, keyed by
+ * {@link GameStateHasher#hash}, so that a state that is evaluated again (like the state a spell
+ * ability led to, which is also the starting point of the search one level deeper, or a state
+ * reached in another order) doesn't need another game copy and combat simulation. The whole state
+ * is part of the key, since the attack and block logic looks at the cards in hand and in the other
+ * zones too. The least recently used outcomes are evicted once the cache is full.
+ *
+ * A cache belongs to a single {@link SimulationController} (or search) and isn't thread-safe.
+ */
+public class CombatOutcomeCache {
+    public static final int DEFAULT_SIZE = 1000;
+
+    public static class Outcome {
+        // the score of the game once it's over, or null if combat didn't end the game
+        final Score gameOverScore;
+        final int valueDelta;
+        final int summonSickValueDelta;
+
+        Outcome(Score gameOverScore, int valueDelta, int summonSickValueDelta) {
+            this.gameOverScore = gameOverScore;
+            this.valueDelta = valueDelta;
+            this.summonSickValueDelta = summonSickValueDelta;
+        }
+
+        public static Outcome gameOver(Score score) {
+            return new Outcome(score, 0, 0);
+        }
+
+        public static Outcome change(Score before, Score after) {
+            return new Outcome(null, after.value - before.value, after.summonSickValue - before.summonSickValue);
+        }
+
+        public boolean isGameOver() {
+            return gameOverScore != null;
+        }
+
+        public Score apply(Score before) {
+            if (gameOverScore != null) {
+                return gameOverScore;
+            }
+            return new Score(before.value + valueDelta, before.summonSickValue + summonSickValueDelta);
+        }
+    }
+
+    private final int maxSize;
+    private final Map<Long, Outcome> outcomes;
+    private long hits;
+    private long misses;
+
+    public CombatOutcomeCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.outcomes = new LinkedHashMap<Long, Outcome>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Outcome> eldest) {
+                return size() > CombatOutcomeCache.this.maxSize;
+            }
+        };
+    }
+
+    public Outcome get(long key) {
+        Outcome outcome = outcomes.get(key);
+        if (outcome == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return outcome;
+    }
+
+    public void put(long key, Outcome outcome) {
+        outcomes.put(key, outcome);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits + ", misses=" + misses + ", size=" + outcomes.size() + "/" + maxSize;
+    }
+}
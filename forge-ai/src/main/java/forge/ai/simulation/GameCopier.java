@@ -13,7 +13,10 @@ import com.google.common.collect.Table;
 
 import forge.LobbyPlayer;
 import forge.ai.AIOption;
+import forge.ai.AiController;
+import forge.ai.AiProps;
 import forge.ai.LobbyPlayerAi;
+import forge.ai.PlayerControllerAi;
 import forge.card.CardRarity;
 import forge.card.CardRules;
 import forge.game.Game;
@@ -23,6 +26,7 @@ import forge.game.GameObjectMap;
 import forge.game.GameRules;
 import forge.game.Match;
 import forge.game.StaticEffect;
+import forge.game.StaticEffects;
 import forge.game.card.Card;
 import forge.game.card.CardCloneStates;
 import forge.game.card.CardFactory;
@@ -52,7 +56,6 @@ public class GameCopier {
         ZoneType.Stack,
         ZoneType.Command,
     };
-
     private Game origGame;
     private BiMap<Player, Player> playerMap = HashBiMap.create();
     private BiMap<Card, Card> cardMap = HashBiMap.create();
@@ -73,6 +76,25 @@ public class GameCopier {
     public Game makeCopy() {
         return makeCopy(null, null);
     }
+    /**
+     * Copies of the game only apply the continuous effects again after something happened in the game,
+     * as set in the AI profile of the player the copy is made for. A copy of a copy keeps the settings.
+     */
+    private void copyStaticEffectsSettings(Game newGame, Player aiPlayer) {
+        StaticEffects origEffects = origGame.getStaticEffects();
+        StaticEffects newEffects = newGame.getStaticEffects();
+        if (aiPlayer != null && aiPlayer.getController().isAI()) {
+            AiController aic = ((PlayerControllerAi) aiPlayer.getController()).getAi();
+            newEffects.setIncremental(aic.getBooleanProperty(AiProps.SIMULATION_INCREMENTAL_STATICS));
+            newEffects.setVerifyIncremental(aic.getBooleanProperty(AiProps.SIMULATION_VERIFY_INCREMENTAL_STATICS));
+        } else if (origGame.isSimulation()) {
+            newEffects.setIncremental(origEffects.isIncremental());
+            newEffects.setVerifyIncremental(origEffects.isVerifyIncremental());
+        } else {
+            newEffects.setIncremental(Boolean.parseBoolean(AiProps.SIMULATION_INCREMENTAL_STATICS.getDefault()));
+        }
+    }
+
     public Game makeCopy(PhaseType advanceToPhase, Player aiPlayer) {
         List<RegisteredPlayer> origPlayers = origGame.getMatch().getPlayers();
         List<RegisteredPlayer> newPlayers = new ArrayList<>();
@@ -82,7 +104,10 @@ public class GameCopier {
 
         GameRules currentRules = origGame.getRules();
         Match newMatch = new Match(currentRules, newPlayers, origGame.getView().getTitle());
-        Game newGame = new Game(newPlayers, currentRules, newMatch);
+        // same seed, so that copying a game doesn't take random numbers from the one being played
+        Game newGame = new Game(newPlayers, currentRules, newMatch, origGame.getSeed());
+        newGame.setSimulation(true);
+        copyStaticEffectsSettings(newGame, aiPlayer);
 
         for (int i = 0; i < origGame.getPlayers().size(); i++) {
             Player origPlayer = origGame.getPlayers().get(i);
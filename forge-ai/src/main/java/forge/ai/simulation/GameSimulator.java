@@ -36,12 +36,12 @@ public class GameSimulator {
         simGame = copier.makeCopy(advanceToPhase, origAiPlayer);
 
         aiPlayer = (Player) copier.find(origAiPlayer);
-        eval = new GameStateEvaluator();
+        eval = controller.createEvaluator();
 
         origLines = new ArrayList<>();
-        debugLines = origLines;
+        debugLines.set(origLines);
 
-        debugPrint = false;
+        setDebugPrint(false);
         origScore = eval.getScoreForGameState(origGame, origAiPlayer);
 
         if (advanceToPhase == null) {
@@ -53,26 +53,26 @@ public class GameSimulator {
         // want to compare to the eval score after simulating.
         if (COPY_STACK && !origGame.getStackZone().isEmpty()) {
             origLines = new ArrayList<>();
-            debugLines = origLines;
+            debugLines.set(origLines);
             Game copyOrigGame = copier.makeCopy();
             Player copyOrigAiPlayer = copyOrigGame.getPlayers().get(1);
             resolveStack(copyOrigGame, copyOrigGame.getPlayers().get(0));
             origScore = eval.getScoreForGameState(copyOrigGame, copyOrigAiPlayer);
         }
 
-        debugPrint = false;
-        debugLines = null;
+        setDebugPrint(false);
+        debugLines.remove();
     }
 
     private void ensureGameCopyScoreMatches(Game origGame, Player origAiPlayer) {
         eval.setDebugging(true);
         List<String> simLines = new ArrayList<>();
-        debugLines = simLines;
+        debugLines.set(simLines);
         Score simScore = eval.getScoreForGameState(simGame, aiPlayer);
         if (!simScore.equals(origScore)) {
             // Re-eval orig with debug printing.
             origLines = new ArrayList<>();
-            debugLines = origLines;
+            debugLines.set(origLines);
             eval.getScoreForGameState(origGame, origAiPlayer);
             // Print debug info.
             printDiff(origLines, simLines);
@@ -115,14 +115,22 @@ public class GameSimulator {
         }
     }
 
-    public static boolean debugPrint;
-    public static List<String> debugLines;
+    // per thread, since SpellAbilityPicker may simulate several candidates in parallel
+    private static final ThreadLocal<Boolean> debugPrint = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<List<String>> debugLines = new ThreadLocal<>();
+    public static boolean isDebugPrint() {
+        return debugPrint.get();
+    }
+    public static void setDebugPrint(boolean print) {
+        debugPrint.set(print);
+    }
     public static void debugPrint(String str) {
-        if (debugPrint) {
+        if (isDebugPrint()) {
             System.out.println(str);
         }
-        if (debugLines != null) {
-            debugLines.add(str);
+        List<String> lines = debugLines.get();
+        if (lines != null) {
+            lines.add(str);
         }
     }
 
@@ -188,7 +196,7 @@ public class GameSimulator {
                 saOrSubSa = saOrSubSa.getSubAbility();
             } while (saOrSubSa != null);
 
-            if (debugPrint && !sa.getAllTargetChoices().isEmpty()) {
+            if (isDebugPrint() && !sa.getAllTargetChoices().isEmpty()) {
                 debugPrint("Targets: ");
                 for (TargetChoices target : sa.getAllTargetChoices()) {
                     System.out.print(target);
@@ -216,21 +224,38 @@ public class GameSimulator {
         // TODO: If this is during combat, before blockers are declared,
         // we should simulate how combat will resolve and evaluate that
         // state instead!
+        // The same state is often reached by playing the same things in a different order,
+        // in which case there's no need to evaluate it (and search on from it) again.
+        TranspositionTable transpositionTable = isDebugPrint() ? null : controller.getTranspositionTable();
+        long stateKey = 0;
+        if (transpositionTable != null) {
+            stateKey = controller.getTranspositionKey(simGame);
+            TranspositionTable.Entry cached = transpositionTable.get(stateKey);
+            if (cached != null) {
+                Score cachedScore = controller.transpositionHit(cached, origSa);
+                if (cachedScore != null) {
+                    return cachedScore;
+                }
+            }
+        }
+
         List<String> simLines = null;
-        if (debugPrint) {
+        if (isDebugPrint()) {
             debugPrint("SimGame:");
             simLines = new ArrayList<>();
-            debugLines = simLines;
-            debugPrint = false;
+            debugLines.set(simLines);
+            setDebugPrint(false);
         }
         Score score = eval.getScoreForGameState(simGame, aiPlayer);
         if (simLines != null) {
-            debugLines = null;
-            debugPrint = true;
+            debugLines.remove();
+            setDebugPrint(true);
             printDiff(origLines, simLines);
         }
         controller.possiblyCacheResult(score, origSa);
+        List<Plan.Decision> continuation = Collections.emptyList();
         if (controller.shouldRecurse() && !simGame.isGameOver()) {
+            Plan.Decision bestBefore = controller.getBestDecision();
             controller.push(sa, score, this);
             SpellAbilityPicker sim = new SpellAbilityPicker(simGame, aiPlayer);
             SpellAbility nextSa = sim.chooseSpellAbilityToPlay(controller);
@@ -238,6 +263,10 @@ public class GameSimulator {
                 score = sim.getScoreForChosenAbility();
             }
             controller.pop(score, nextSa);
+            continuation = nextSa == null ? Collections.emptyList() : controller.getContinuationSince(bestBefore);
+        }
+        if (transpositionTable != null) {
+            transpositionTable.put(stateKey, score, continuation);
         }
 
         return score;
@@ -1,11 +1,17 @@
 package forge.ai.simulation;
 
 import forge.ai.AIDeckStatistics;
+import forge.ai.AiAttackController;
+import forge.ai.AiBlockController;
+import forge.ai.AiCardMemory;
+import forge.ai.ComputerUtilCombat;
 import forge.ai.CreatureEvaluator;
+import forge.ai.PlayerControllerAi;
 import forge.card.mana.ManaAtom;
 import forge.game.Game;
 import forge.game.card.Card;
 import forge.game.card.CounterEnumType;
+import forge.game.combat.Combat;
 import forge.game.cost.CostSacrifice;
 import forge.game.phase.PhaseType;
 import forge.game.player.Player;
@@ -13,22 +19,49 @@ import forge.game.spellability.AbilityManaPart;
 import forge.game.spellability.SpellAbility;
 import forge.game.staticability.StaticAbility;
 import forge.game.zone.ZoneType;
+import forge.util.MyRandom;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 public class GameStateEvaluator {
+    // the same state always gets the same estimate
+    private static final long ESTIMATE_SEED = 0;
+
     private boolean debugging = false;
     private SimulationCreatureEvaluator eval = new SimulationCreatureEvaluator();
+    private CombatOutcomeCache combatOutcomeCache = null;
+    private boolean estimateCombat = false;
 
     public void setDebugging(boolean debugging) {
         this.debugging = debugging;
     }
 
+    /**
+     * Lets the evaluator reuse the outcome of the upcoming combat for states that were seen before,
+     * instead of copying the game and simulating it again.
+     */
+    public void setCombatOutcomeCache(CombatOutcomeCache combatOutcomeCache) {
+        this.combatOutcomeCache = combatOutcomeCache;
+    }
+
+    /**
+     * Predicts the upcoming combat with the AI's attack and block logic and ComputerUtilCombat,
+     * without copying the game, when attackers haven't been declared yet. This is a lot cheaper but
+     * less accurate than simulating the combat, as it doesn't account for combat tricks, triggers
+     * or first strike interactions.
+     */
+    public void setEstimateCombat(boolean estimateCombat) {
+        this.estimateCombat = estimateCombat;
+    }
+
     private static void debugPrint(String s) {
         GameSimulator.debugPrint(s);
     }
@@ -37,18 +70,19 @@ public class GameStateEvaluator {
         public GameCopier copier;
         public Game gameCopy;
     }
-    private CombatSimResult simulateUpcomingCombatThisTurn(final Game evalGame, final Player aiPlayer) {
+    private static boolean isCombatUpcomingThisTurn(final Game evalGame) {
         PhaseType phase = evalGame.getPhaseHandler().getPhase();
         if (phase.isAfter(PhaseType.COMBAT_DAMAGE) || evalGame.isGameOver()) {
-            return null;
+            return false;
         }
         // If the current player has no creatures in play, there won't be any combat. This avoids
         // an expensive game copy operation.
         // Note: This is is safe to do because the simulation is based on the current game state,
         // so there isn't a chance to play creatures in between.
-        if (evalGame.getPhaseHandler().getPlayerTurn().getCreaturesInPlay().isEmpty()) {
-            return null;
-        }
+        return !evalGame.getPhaseHandler().getPlayerTurn().getCreaturesInPlay().isEmpty();
+    }
+
+    private CombatSimResult simulateUpcomingCombatThisTurn(final Game evalGame, final Player aiPlayer) {
         GameCopier copier = new GameCopier(evalGame);
         Game gameCopy = copier.makeCopy(null, aiPlayer);
         gameCopy.getPhaseHandler().devAdvanceToPhase(PhaseType.COMBAT_DAMAGE, new Runnable() {
@@ -63,6 +97,101 @@ public class GameStateEvaluator {
         return result;
     }
 
+    private Score estimateScoreAfterCombat(final Game game, final Player aiPlayer) {
+        // The attack and block logic assumes AI controlled players.
+        for (Player p : game.getPlayers()) {
+            if (!p.getController().isAI()) {
+                return null;
+            }
+        }
+        // The estimate runs the attack and block logic on the game itself, which may be the live
+        // one, so it gets random numbers of its own, and what the AI players remember is restored.
+        Map<Player, AiCardMemory> memories = new HashMap<>();
+        for (Player p : game.getPlayers()) {
+            AiCardMemory saved = new AiCardMemory();
+            saved.copyFrom(((PlayerControllerAi) p.getController()).getAi().getCardMemory());
+            memories.put(p, saved);
+        }
+        Random origRandom = MyRandom.getThreadRandom();
+        MyRandom.setThreadRandom(new Random(ESTIMATE_SEED));
+        try {
+            return estimateScoreAfterCombatImpl(game, aiPlayer);
+        } finally {
+            MyRandom.setThreadRandom(origRandom);
+            for (Map.Entry<Player, AiCardMemory> e : memories.entrySet()) {
+                ((PlayerControllerAi) e.getKey().getController()).getAi().getCardMemory().copyFrom(e.getValue());
+            }
+        }
+    }
+
+    private Score estimateScoreAfterCombatImpl(final Game game, final Player aiPlayer) {
+        Player attackingPlayer = game.getPhaseHandler().getPlayerTurn();
+        Combat combat = new Combat(attackingPlayer);
+        new AiAttackController(attackingPlayer).declareAttackers(combat);
+        Score score = getScoreForGameStateImpl(game, aiPlayer);
+        if (combat.getAttackers().isEmpty()) {
+            return score;
+        }
+        for (Player defender : combat.getDefendingPlayers()) {
+            new AiBlockController(defender, false).assignBlockersForCombat(combat);
+        }
+
+        int value = score.value;
+        int summonSickValue = score.summonSickValue;
+        boolean beforeMain2 = game.getPhaseHandler().getPhase().isBefore(PhaseType.MAIN2);
+        for (Card c : game.getCardsIn(ZoneType.Battlefield)) {
+            boolean dies;
+            if (combat.isAttacking(c)) {
+                dies = ComputerUtilCombat.attackerWouldBeDestroyed(aiPlayer, c, combat);
+            } else if (combat.isBlocking(c)) {
+                dies = ComputerUtilCombat.blockerWouldBeDestroyed(aiPlayer, c, combat);
+            } else {
+                continue;
+            }
+            if (!dies) {
+                continue;
+            }
+            int cardValue = evalCard(game, aiPlayer, c);
+            if (c.getController() == aiPlayer) {
+                value -= cardValue;
+                if (!beforeMain2 || !c.isSick()) {
+                    summonSickValue -= cardValue;
+                }
+            } else {
+                value += cardValue;
+                summonSickValue += cardValue;
+            }
+        }
+
+        int lifeDelta = 0;
+        int numOpponents = game.getPlayers().size() - 1;
+        boolean allOpponentsDead = true;
+        for (Player p : game.getPlayers()) {
+            int lifeLost = 0;
+            if (combat.getDefendingPlayers().contains(p)) {
+                int remaining = ComputerUtilCombat.lifeThatWouldRemain(p, combat);
+                if (remaining <= 0 && !p.cantLoseForZeroOrLessLife()) {
+                    if (p == aiPlayer) {
+                        return new Score(Integer.MIN_VALUE);
+                    }
+                    continue;
+                }
+                lifeLost = p.getLife() - remaining;
+            }
+            if (p == aiPlayer) {
+                lifeDelta -= 2 * lifeLost;
+            } else {
+                allOpponentsDead = false;
+                lifeDelta += 2 * lifeLost / numOpponents;
+            }
+        }
+        if (allOpponentsDead) {
+            return new Score(Integer.MAX_VALUE);
+        }
+        debugPrint("Estimated combat: " + lifeDelta + " from life, " + (value - score.value) + " from creatures");
+        return new Score(value + lifeDelta, summonSickValue + lifeDelta);
+    }
+
     private static String cardToString(Card c) {
         String str = c.getName();
         if (c.isCreature()) {
@@ -84,16 +213,47 @@ public class GameStateEvaluator {
         if (game.isGameOver()) {
             return getScoreForGameOver(game, aiPlayer);
         }
+        if (!isCombatUpcomingThisTurn(game)) {
+            return getScoreForGameStateImpl(game, aiPlayer);
+        }
+
+        if (estimateCombat && game.getPhaseHandler().getCombat() == null) {
+            Score estimate = estimateScoreAfterCombat(game, aiPlayer);
+            if (estimate != null) {
+                return estimate;
+            }
+        }
+
+        // The cache stores how combat changed the score, rather than the score itself, so that it
+        // doesn't depend on what the state before combat is worth to this evaluator.
+        boolean useCache = combatOutcomeCache != null && !debugging;
+        long key = 0;
+        if (useCache) {
+            key = GameStateHasher.hash(game);
+            CombatOutcomeCache.Outcome outcome = combatOutcomeCache.get(key);
+            if (outcome != null) {
+                if (outcome.isGameOver()) {
+                    return outcome.apply(null);
+                }
+                return outcome.apply(getScoreForGameStateImpl(game, aiPlayer));
+            }
+        }
 
         CombatSimResult result = simulateUpcomingCombatThisTurn(game, aiPlayer);
-        if (result != null) {
-            Player aiPlayerCopy = (Player) result.copier.find(aiPlayer);
-            if (result.gameCopy.isGameOver()) {
-                return getScoreForGameOver(result.gameCopy, aiPlayerCopy);
+        Player aiPlayerCopy = (Player) result.copier.find(aiPlayer);
+        if (result.gameCopy.isGameOver()) {
+            Score score = getScoreForGameOver(result.gameCopy, aiPlayerCopy);
+            if (useCache) {
+                combatOutcomeCache.put(key, CombatOutcomeCache.Outcome.gameOver(score));
             }
-            return getScoreForGameStateImpl(result.gameCopy, aiPlayerCopy);
+            return score;
+        }
+        Score score = getScoreForGameStateImpl(result.gameCopy, aiPlayerCopy);
+        if (useCache) {
+            Score before = getScoreForGameStateImpl(game, aiPlayer);
+            combatOutcomeCache.put(key, CombatOutcomeCache.Outcome.change(before, score));
         }
-        return getScoreForGameStateImpl(game, aiPlayer);
+        return score;
     }
 
     private Score getScoreForGameStateImpl(Game game, Player aiPlayer) {
@@ -280,6 +440,11 @@ public class GameStateEvaluator {
     }
 
     private class SimulationCreatureEvaluator extends CreatureEvaluator {
+        @Override
+        protected boolean remembersValues() {
+            return !debugging;
+        }
+
         @Override
         protected int addValue(int value, String text) {
             if (debugging && value != 0) {
@@ -0,0 +1,274 @@
+package forge.ai.simulation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import forge.card.CardStateName;
+import forge.game.Game;
+import forge.game.GameEntity;
+import forge.game.GameObject;
+import forge.game.ability.AbilityKey;
+import forge.game.card.Card;
+import forge.game.card.CounterType;
+import forge.game.combat.Combat;
+import forge.game.keyword.KeywordInterface;
+import forge.game.mana.Mana;
+import forge.game.phase.PhaseHandler;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.spellability.TargetChoices;
+import forge.game.trigger.Trigger;
+import forge.game.zone.ZoneType;
+
+/**
+ * Computes a 64-bit hash of the parts of a game state that matter to the simulation: the cards in
+ * each zone with their tapped state, counters, damage, power/toughness, types, colors, keywords and
+ * shields, the life, counters and mana pool of each player, the phase, the spells and abilities on
+ * the stack in order with their targets, and the delayed triggers. Effects, e.g. prevention shields,
+ * are cards in the command zone, which are known by what their SVars hold.
+ *
+ * Like Zobrist hashing, every feature is mapped to a well-distributed 64-bit key and the keys are
+ * combined. Cards are combined by addition rather than by xor so that two identical cards in the
+ * same zone don't cancel each other out, and so that the hash doesn't depend on the order the
+ * cards were put into a zone (only the library, where order matters, hashes positions).
+ * <p>
+ * Card ids are deliberately left out: each copy of a game numbers its cards in the order it copies
+ * them, so the same card has different ids in states reached by playing the same things in a
+ * different order. A card is known by its name instead, the real one if it's face down, together
+ * with what was chosen or remembered for it and the cards linked to it. Players are known by their
+ * position. So two states only hash the same if they differ at most by which of two cards with the
+ * same name and the same state is which. The evaluator scores those alike, and a {@link Plan}
+ * refers to cards by name too, so it can't tell them apart either.
+ */
+public final class GameStateHasher {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private GameStateHasher() {
+    }
+
+    public static long hash(Game game) {
+        List<Player> players = game.getPlayers();
+        PhaseHandler ph = game.getPhaseHandler();
+        long h = SEED;
+        h = combine(h, ph.getTurn());
+        h = combine(h, ph.getPhase() == null ? -1 : ph.getPhase().ordinal());
+        h = combine(h, players.indexOf(ph.getPlayerTurn()));
+        h = combine(h, players.indexOf(game.getMonarch()));
+
+        for (Player p : players) {
+            h = combine(h, hashPlayer(p, players));
+            for (ZoneType zone : ZoneType.values()) {
+                if (zone == ZoneType.Stack || p.getZone(zone) == null) {
+                    continue;
+                }
+                h = combine(h, hashZone(p.getCardsIn(zone), zone, players));
+            }
+        }
+        h = combine(h, hashZone(game.getStackZone().getCards(), ZoneType.Stack, players));
+        h = combine(h, hashStack(game, players));
+        h = combine(h, hashDelayedTriggers(game, players));
+
+        Combat combat = ph.getCombat();
+        if (combat != null) {
+            long combatHash = 0;
+            for (Card attacker : combat.getAttackers()) {
+                combatHash += hashCard(attacker, players);
+            }
+            for (Card blocker : combat.getAllBlockers()) {
+                combatHash += mix(hashCard(blocker, players));
+            }
+            h = combine(h, combatHash);
+        }
+        return h;
+    }
+
+    /**
+     * The spells and abilities on the stack from the top down, which resolve in that order.
+     */
+    private static long hashStack(Game game, List<Player> players) {
+        long h = SEED;
+        for (SpellAbilityStackInstance si : game.getStack()) {
+            for (SpellAbilityStackInstance part = si; part != null; part = part.getSubInstance()) {
+                h = combine(h, hashAbility(part.getSpellAbility(), players));
+            }
+        }
+        return h;
+    }
+
+    private static long hashAbility(SpellAbility sa, List<Player> players) {
+        long h = combine(SEED, cardName(sa.getHostCard()).hashCode());
+        h = combine(h, sa.getDescription().hashCode());
+        h = combine(h, players.indexOf(sa.getActivatingPlayer()));
+        h = combine(h, Objects.hashCode(sa.getXManaCostPaid()));
+        TargetChoices targets = sa.getTargets();
+        if (targets != null) {
+            long targetHash = 0;
+            for (GameObject target : targets) {
+                Integer divided = targets.getDividedValue(target);
+                targetHash += mix(combine(hashObject(target, players), divided == null ? -1 : divided));
+            }
+            h = combine(h, targetHash);
+        }
+        long triggeredHash = 0;
+        for (Map.Entry<AbilityKey, Object> e : sa.getTriggeringObjects().entrySet()) {
+            triggeredHash += mix(combine(e.getKey().ordinal(), hashObject(e.getValue(), players)));
+        }
+        return combine(h, triggeredHash);
+    }
+
+    private static long hashDelayedTriggers(Game game, List<Player> players) {
+        long h = 0;
+        for (Trigger t : game.getTriggerHandler().getDelayedTriggers()) {
+            long triggerHash = combine(SEED, cardName(t.getHostCard()).hashCode());
+            triggerHash = combine(triggerHash, players.indexOf(t.getHostCard().getController()));
+            triggerHash = combine(triggerHash, t.getMapParams().hashCode());
+            triggerHash = combine(triggerHash, hashObjects(t.getTriggerRemembered(), players));
+            h += mix(triggerHash);
+        }
+        return h;
+    }
+
+    private static long hashPlayer(Player p, List<Player> players) {
+        long h = combine(SEED, p.getLife());
+        h = combine(h, p.getLandsPlayedThisTurn());
+        h = combine(h, p.getSpellsCastThisTurn());
+        h = combine(h, p.getMaxHandSize());
+        h = combine(h, hashCounters(p.getCounters()));
+        long manaHash = 0;
+        for (Mana m : p.getManaPool()) {
+            manaHash += mix(m.getColor());
+        }
+        return combine(h, manaHash);
+    }
+
+    private static long hashZone(Iterable<Card> cards, ZoneType zone, List<Player> players) {
+        long h = mix(zone.ordinal() + 1);
+        boolean ordered = zone == ZoneType.Library;
+        int position = 0;
+        for (Card c : cards) {
+            long cardHash = hashCard(c, players);
+            if (ordered) {
+                cardHash = combine(cardHash, position++);
+            }
+            h += cardHash;
+        }
+        return h;
+    }
+
+    private static long hashCard(Card c, List<Player> players) {
+        long h = combine(SEED, cardName(c).hashCode());
+        h = combine(h, c.getCurrentStateName().ordinal());
+        h = combine(h, players.indexOf(c.getOwner()));
+        h = combine(h, players.indexOf(c.getController()));
+        h = combine(h, hashChoices(c, players));
+        if (c.isInZone(ZoneType.Command)) {
+            // what an effect still does, e.g. how much damage its shield prevents, is in its SVars
+            return combine(h, c.getSVars().hashCode());
+        }
+        if (!c.isInZone(ZoneType.Battlefield)) {
+            return h;
+        }
+        h = combine(h, (c.isTapped() ? 1 : 0) | (c.hasSickness() ? 2 : 0) | (c.isFaceDown() ? 4 : 0)
+                | (c.isToken() ? 8 : 0) | (c.isPhasedOut() ? 16 : 0));
+        h = combine(h, c.getDamage());
+        h = combine(h, c.getNetPower());
+        h = combine(h, c.getNetToughness());
+        h = combine(h, c.getShieldCount());
+        // changed by temporary effects as well
+        h = combine(h, c.getType().toString().hashCode());
+        h = combine(h, c.getColor().getColor());
+        h = combine(h, ((long) c.getSpellAbilities().size() << 32) + (c.getTriggers().size() << 16) + c.getStaticAbilities().size());
+        h = combine(h, hashCounters(c.getCounters()));
+        long keywordHash = 0;
+        for (KeywordInterface kw : c.getKeywords()) {
+            keywordHash += mix(kw.getOriginal().hashCode());
+        }
+        h = combine(h, keywordHash);
+        GameEntity attachedTo = c.getEntityAttachedTo();
+        if (attachedTo instanceof Card) {
+            h = combine(h, ((Card) attachedTo).getName().hashCode());
+        } else if (attachedTo instanceof Player) {
+            h = combine(h, players.indexOf(attachedTo));
+        }
+        long activationsHash = 0;
+        for (SpellAbility sa : c.getAllSpellAbilities()) {
+            int activations = sa.getActivationsThisTurn();
+            if (activations > 0) {
+                activationsHash += mix(((long) sa.getDescription().hashCode() << 8) + activations);
+            }
+        }
+        return combine(h, activationsHash);
+    }
+
+    private static String cardName(Card c) {
+        return c.isFaceDown() ? c.getState(CardStateName.Original).getName() : c.getName();
+    }
+
+    /**
+     * What was chosen or remembered for the card and the cards linked to it, which its abilities may refer to later.
+     */
+    private static long hashChoices(Card c, List<Player> players) {
+        long h = 0;
+        for (String color : c.getChosenColors()) {
+            h += mix(color.hashCode());
+        }
+        h = combine(h, Objects.hashCode(c.getChosenType()));
+        h = combine(h, Objects.hashCode(c.getChosenType2()));
+        h = combine(h, Objects.hashCode(c.getChosenNumber()));
+        h = combine(h, players.indexOf(c.getChosenPlayer()));
+        h = combine(h, Objects.hashCode(c.getChosenDirection()));
+        h = combine(h, Objects.hashCode(c.getChosenMode()));
+        h = combine(h, Objects.hashCode(c.getChosenEvenOdd()));
+        h = combine(h, Objects.hashCode(c.getNamedCards()));
+        h = combine(h, hashObjects(c.getRemembered(), players));
+        h = combine(h, hashObjects(c.getImprintedCards(), players));
+        h = combine(h, hashObjects(c.getChosenCards(), players));
+        h = combine(h, c.getExiledWith() == null ? 0 : cardName(c.getExiledWith()).hashCode());
+        return h;
+    }
+
+    private static long hashObjects(Iterable<?> objects, List<Player> players) {
+        long h = 0;
+        for (Object o : objects) {
+            h += mix(hashObject(o, players));
+        }
+        return h;
+    }
+
+    private static long hashObject(Object o, List<Player> players) {
+        if (o instanceof Card) {
+            Card c = (Card) o;
+            return combine(cardName(c).hashCode(), c.getZone() == null ? -1 : c.getZone().getZoneType().ordinal());
+        } else if (o instanceof Player) {
+            return -2 - players.indexOf(o);
+        } else if (o instanceof SpellAbility) {
+            SpellAbility sa = (SpellAbility) o;
+            return combine(cardName(sa.getHostCard()).hashCode(), sa.getDescription().hashCode());
+        } else if (o instanceof Iterable) {
+            return hashObjects((Iterable<?>) o, players);
+        }
+        // anything else is known by its text, which may tell apart states that are alike but never the opposite
+        return String.valueOf(o).hashCode();
+    }
+
+    private static long hashCounters(Map<CounterType, Integer> counters) {
+        long h = 0;
+        for (Map.Entry<CounterType, Integer> e : counters.entrySet()) {
+            h += mix(((long) e.getKey().toString().hashCode() << 16) + e.getValue());
+        }
+        return h;
+    }
+
+    private static long combine(long h, long value) {
+        return mix(h + mix(value + SEED));
+    }
+
+    // The finalizer of SplitMix64, which turns each feature into a well-distributed key.
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,581 @@
+package forge.ai.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import forge.ai.AiCardMemory;
+import forge.ai.ComputerUtil;
+import forge.ai.ComputerUtilCost;
+import forge.ai.simulation.GameStateEvaluator.Score;
+import forge.game.Game;
+import forge.game.GameEntity;
+import forge.game.GameObject;
+import forge.game.card.Card;
+import forge.game.phase.PhaseHandler;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.LandAbility;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.PlayerZone;
+import forge.game.zone.ZoneType;
+import forge.util.MyRandom;
+
+/**
+ * Picks the spell ability to play with a Monte Carlo tree search (UCT), as an alternative to the
+ * exhaustive search of {@link SpellAbilityPicker}.
+ *
+ * Each playout starts from a copy of the game in which the hidden information is re-sampled
+ * (determinized): the cards of the opponents' hands the AI hasn't seen are re-dealt from their hands
+ * and libraries, and the rest of all libraries is shuffled. It then walks down the tree of the AI's
+ * own actions (a spell ability with one of its possible sets of targets, or passing), expanding one
+ * new node, and continues with random actions up to the playout depth. On the AI's turn it then
+ * plays out combat and continues with random actions in the second main phase, before scoring the
+ * result with {@link GameStateEvaluator}. Since the game is re-sampled for each playout, the actions
+ * of a node are re-matched to the spell abilities available in that playout's game (and their
+ * targets to the same objects, by way of the live game), and a playout stops early when one isn't
+ * available.
+ *
+ * With several workers, each one builds its own tree on its own copy of the game (root
+ * parallelization) and the visit counts of the top-level actions are added up at the end. The
+ * workers run on the pool shared with {@link ParallelCandidateEvaluator}.
+ */
+public class MonteCarloPicker {
+    private static final double EXPLORATION = Math.sqrt(2);
+    // How many points of evaluation score make the difference between a reward of 0.5 and 0.73.
+    private static final double SCORE_SCALE = 100.0;
+
+    private final Game game;
+    private final Player player;
+
+    private int numWorkers = 1;
+    private int maxPlayouts = 200;
+    private long timeBudget = 0;
+    private int playoutDepth = 3;
+    private int numPlayouts;
+
+    public MonteCarloPicker(Game game, Player player) {
+        this.game = game;
+        this.player = player;
+    }
+
+    public void setNumWorkers(int numWorkers) {
+        this.numWorkers = Math.max(1, numWorkers);
+    }
+
+    /**
+     * Sets how many playouts to run for a decision, in total over all workers.
+     */
+    public void setMaxPlayouts(int maxPlayouts) {
+        this.maxPlayouts = Math.max(1, maxPlayouts);
+    }
+
+    /**
+     * Sets how many milliseconds a decision may take, 0 for no limit.
+     * At least one playout is always run.
+     */
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = Math.max(0, timeBudget);
+    }
+
+    /**
+     * Sets how many random actions a playout may take after leaving the tree.
+     */
+    public void setPlayoutDepth(int playoutDepth) {
+        this.playoutDepth = Math.max(0, playoutDepth);
+    }
+
+    /**
+     * @return how many playouts the last decision took
+     */
+    public int getNumPlayouts() {
+        return numPlayouts;
+    }
+
+    private static final class Action {
+        static final Action PASS = new Action(-1, null, -1, null);
+
+        final int saIndex;
+        final String saStr;
+        // -1 if the spell ability doesn't target
+        final int targetIndex;
+        // the targets as the objects of the live game, null if some of them aren't part of it
+        final List<GameObject> targets;
+
+        Action(int saIndex, String saStr, int targetIndex, List<GameObject> targets) {
+            this.saIndex = saIndex;
+            this.saStr = saStr;
+            this.targetIndex = targetIndex;
+            this.targets = targets;
+        }
+
+        String getKey() {
+            if (this == PASS) {
+                return "pass";
+            }
+            StringBuilder sb = new StringBuilder().append(saIndex).append(':');
+            if (targets == null) {
+                sb.append(targetIndex);
+            } else {
+                for (GameObject o : targets) {
+                    sb.append(o instanceof Player ? 'p' : 'c').append(((GameEntity) o).getId()).append(' ');
+                }
+            }
+            return sb.append(':').append(saStr).toString();
+        }
+    }
+
+    private static final class Node {
+        final Action action;
+        List<Node> children;
+        int visits;
+        double totalReward;
+
+        Node(Action action) {
+            this.action = action;
+        }
+
+        double getMeanReward() {
+            return visits == 0 ? 0 : totalReward / visits;
+        }
+    }
+
+    public SpellAbility chooseSpellAbilityToPlay() {
+        numPlayouts = 0;
+        // Pass if top of stack is owned by me.
+        if (!game.getStack().isEmpty() && game.getStack().peekAbility().getActivatingPlayer().equals(player)) {
+            return null;
+        }
+        List<SpellAbility> candidateSAs = getCandidates(game, player);
+        if (candidateSAs.isEmpty()) {
+            return null;
+        }
+
+        final int origScore = new GameStateEvaluator().getScoreForGameState(game, player).value;
+        final long deadline = timeBudget > 0 ? System.currentTimeMillis() + timeBudget : 0;
+        final int workers = Math.min(numWorkers, maxPlayouts);
+        final int playoutsPerWorker = (maxPlayouts + workers - 1) / workers;
+
+        Set<Card> known = getKnownCards(game, player);
+        List<Node> roots = new ArrayList<>();
+        if (workers == 1) {
+            roots.add(search(game, player, known, Function.identity(), Function.identity(),
+                    playoutsPerWorker, deadline, origScore, MyRandom.getRandom()));
+        } else {
+            roots.addAll(searchInParallel(workers, known, playoutsPerWorker, deadline, origScore));
+        }
+
+        // The most visited action is the most robust choice.
+        Map<String, Node> merged = new LinkedHashMap<>();
+        for (Node root : roots) {
+            numPlayouts += root.visits;
+            if (root.children == null) {
+                continue;
+            }
+            for (Node child : root.children) {
+                Node total = merged.get(child.action.getKey());
+                if (total == null) {
+                    total = new Node(child.action);
+                    merged.put(child.action.getKey(), total);
+                }
+                total.visits += child.visits;
+                total.totalReward += child.totalReward;
+            }
+        }
+        Node best = null;
+        for (Node n : merged.values()) {
+            if (best == null || n.visits > best.visits
+                    || (n.visits == best.visits && n.getMeanReward() > best.getMeanReward())) {
+                best = n;
+            }
+        }
+        if (best == null || best.action == Action.PASS) {
+            return null;
+        }
+        SpellAbility sa = findSa(candidateSAs, best.action);
+        if (sa != null && !prepare(sa, player, best.action, Function.identity(), null)) {
+            return null;
+        }
+        return sa;
+    }
+
+    /**
+     * @return the cards in hidden zones that the AI player has seen, so they aren't re-sampled
+     */
+    private static Set<Card> getKnownCards(Game game, Player ai) {
+        Set<Card> known = new HashSet<>();
+        for (Player p : game.getPlayers()) {
+            for (Card c : p.getCardsIn(ZoneType.Library)) {
+                if (c.getView().canBeShownTo(ai.getView())) {
+                    known.add(c);
+                }
+            }
+            if (p == ai) {
+                continue;
+            }
+            for (Card c : p.getCardsIn(ZoneType.Hand)) {
+                if (c.getView().canBeShownTo(ai.getView()) || AiCardMemory.isRememberedCard(ai, c, AiCardMemory.MemorySet.REVEALED_CARDS)) {
+                    known.add(c);
+                }
+            }
+        }
+        return known;
+    }
+
+    private List<Node> searchInParallel(int workers, Set<Card> known, final int playoutsPerWorker, final long deadline, final int origScore) {
+        // The live game is only read on this thread, each worker searches on its own copy.
+        List<Callable<Node>> tasks = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            final GameCopier copier = new GameCopier(game);
+            final Game copy = copier.makeCopy();
+            final Player copyPlayer = (Player) copier.find(player);
+            final Set<Card> copyKnown = new HashSet<>();
+            for (Card c : known) {
+                copyKnown.add((Card) copier.find(c));
+            }
+            final long seed = MyRandom.getRandom().nextLong();
+            tasks.add(() -> {
+                Random random = new Random(seed);
+                Random origRandom = MyRandom.getThreadRandom();
+                MyRandom.setThreadRandom(random);
+                try {
+                    return search(copy, copyPlayer, copyKnown, copier::reverseFind, copier::find,
+                            playoutsPerWorker, deadline, origScore, random);
+                } finally {
+                    MyRandom.setThreadRandom(origRandom);
+                }
+            });
+        }
+        List<Node> roots = new ArrayList<>();
+        try {
+            for (Future<Node> f : ParallelCandidateEvaluator.getPool().invokeAll(tasks)) {
+                roots.add(f.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running playouts", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Monte Carlo playout failed", e.getCause());
+        }
+        return roots;
+    }
+
+    /**
+     * @param known the cards of the source game in hidden zones that stay where they are
+     * @param sourceToLive maps the objects of the source game to those of the live game
+     * @param liveToSource maps the objects of the live game to those of the source game
+     */
+    private Node search(Game source, Player sourcePlayer, Set<Card> known,
+            Function<GameObject, GameObject> sourceToLive, Function<GameObject, GameObject> liveToSource,
+            int playouts, long deadline, int origScore, Random random) {
+        Node root = new Node(null);
+        GameStateEvaluator eval = new GameStateEvaluator();
+        for (int i = 0; i < playouts; i++) {
+            if (i > 0 && deadline > 0 && System.currentTimeMillis() >= deadline) {
+                break;
+            }
+            final GameCopier copier = new GameCopier(source);
+            Game simGame = copier.makeCopy();
+            Player ai = (Player) copier.find(sourcePlayer);
+            Set<Card> simKnown = new HashSet<>();
+            for (Card c : known) {
+                simKnown.add((Card) copier.find(c));
+            }
+            determinize(simGame, ai, simKnown, random);
+            Function<GameObject, GameObject> simToLive = o -> {
+                GameObject sourceObject = copier.reverseFind(o);
+                return sourceObject == null ? null : sourceToLive.apply(sourceObject);
+            };
+            Function<GameObject, GameObject> liveToSim = o -> copier.find(liveToSource.apply(o));
+
+            List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            boolean failed = false;
+            // Selection and expansion
+            while (node.action != Action.PASS && !simGame.isGameOver()) {
+                boolean expanded = node.children == null;
+                if (expanded) {
+                    node.children = expand(simGame, ai, simToLive);
+                }
+                node = select(node, random);
+                path.add(node);
+                if (node.action != Action.PASS) {
+                    SpellAbility sa = findSa(getCandidates(simGame, ai), node.action);
+                    if (sa == null) {
+                        // Not available in this sample of the game, score it as it is.
+                        break;
+                    }
+                    if (!play(simGame, ai, sa, node.action, liveToSim, random)) {
+                        failed = true;
+                        break;
+                    }
+                }
+                if (expanded || node.visits == 0) {
+                    break;
+                }
+            }
+            // Random playout
+            if (!failed) {
+                if (node.action != Action.PASS) {
+                    playRandomly(simGame, ai, random);
+                }
+                if (advanceToMain2(simGame, ai)) {
+                    playRandomly(simGame, ai, random);
+                }
+            }
+            double reward = failed ? 0 : getReward(eval.getScoreForGameState(simGame, ai), origScore);
+            for (Node n : path) {
+                n.visits++;
+                n.totalReward += reward;
+            }
+        }
+        return root;
+    }
+
+    private void playRandomly(Game simGame, Player ai, Random random) {
+        for (int d = 0; d < playoutDepth && !simGame.isGameOver(); d++) {
+            List<SpellAbility> candidates = getCandidates(simGame, ai);
+            int choice = random.nextInt(candidates.size() + 1);
+            if (choice == candidates.size() || !play(simGame, ai, candidates.get(choice), null, null, random)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Plays out the combat of the AI player's turn, if it's still to come, the way
+     * {@link GameStateEvaluator} does for the states it scores.
+     * @return whether the game went on to the second main phase
+     */
+    private static boolean advanceToMain2(final Game simGame, final Player ai) {
+        PhaseHandler ph = simGame.getPhaseHandler();
+        if (simGame.isGameOver() || !ph.isPlayerTurn(ai) || !ph.getPhase().isBefore(PhaseType.MAIN2)) {
+            return false;
+        }
+        ph.devAdvanceToPhase(PhaseType.MAIN2, () -> GameSimulator.resolveStack(simGame, ai.getWeakestOpponent()));
+        return !simGame.isGameOver() && ph.is(PhaseType.MAIN2);
+    }
+
+    private static double getReward(Score score, int origScore) {
+        if (score.value == Integer.MAX_VALUE) {
+            return 1;
+        }
+        if (score.value == Integer.MIN_VALUE) {
+            return 0;
+        }
+        return 1 / (1 + Math.exp((origScore - score.value) / SCORE_SCALE));
+    }
+
+    private static Node select(Node node, Random random) {
+        List<Node> unvisited = new ArrayList<>();
+        for (Node child : node.children) {
+            if (child.visits == 0) {
+                unvisited.add(child);
+            }
+        }
+        if (!unvisited.isEmpty()) {
+            return unvisited.get(random.nextInt(unvisited.size()));
+        }
+        Node best = null;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double logVisits = Math.log(node.visits);
+        for (Node child : node.children) {
+            double value = child.getMeanReward() + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    private static List<Node> expand(Game simGame, Player ai, Function<GameObject, GameObject> simToLive) {
+        List<Node> children = new ArrayList<>();
+        children.add(new Node(Action.PASS));
+        List<SpellAbility> candidates = getCandidates(simGame, ai);
+        for (int i = 0; i < candidates.size(); i++) {
+            SpellAbility sa = candidates.get(i);
+            String saStr = sa.toString();
+            if (sa instanceof LandAbility) {
+                children.add(new Node(new Action(i, saStr, -1, null)));
+                continue;
+            }
+            sa.setActivatingPlayer(ai, true);
+            MultiTargetSelector selector = new MultiTargetSelector(sa, null);
+            if (!selector.hasPossibleTargets()) {
+                children.add(new Node(new Action(i, saStr, -1, null)));
+                continue;
+            }
+            // A spell ability whose targets can't be chosen after all isn't an option.
+            for (int t = 0; selector.selectNextTargets(); t++) {
+                children.add(new Node(new Action(i, saStr, t, mapTargets(getChosenTargets(sa), simToLive))));
+            }
+            selector.reset();
+        }
+        return children;
+    }
+
+    private static List<GameObject> getChosenTargets(SpellAbility sa) {
+        List<GameObject> targets = new ArrayList<>();
+        for (SpellAbility saOrSubSa = sa; saOrSubSa != null; saOrSubSa = saOrSubSa.getSubAbility()) {
+            if (saOrSubSa.usesTargeting()) {
+                for (GameObject o : saOrSubSa.getTargets()) {
+                    targets.add(o);
+                }
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * @return the targets mapped to another game, or null if some of them aren't cards or players of that game
+     */
+    private static List<GameObject> mapTargets(List<GameObject> targets, Function<GameObject, GameObject> mapping) {
+        List<GameObject> result = new ArrayList<>(targets.size());
+        for (GameObject o : targets) {
+            GameObject mapped = o instanceof Card || o instanceof Player ? mapping.apply(o) : null;
+            if (mapped == null) {
+                return null;
+            }
+            result.add(mapped);
+        }
+        return result;
+    }
+
+    private static int countTargetOptions(SpellAbility sa, Player ai) {
+        sa.setActivatingPlayer(ai, true);
+        MultiTargetSelector selector = new MultiTargetSelector(sa, null);
+        if (!selector.hasPossibleTargets()) {
+            return 0;
+        }
+        int count = 0;
+        while (selector.selectNextTargets()) {
+            count++;
+        }
+        selector.reset();
+        return count;
+    }
+
+    private static List<SpellAbility> getCandidates(Game simGame, Player ai) {
+        return new SpellAbilityPicker(simGame, ai).getCandidateSpellsAndAbilities();
+    }
+
+    private static SpellAbility findSa(List<SpellAbility> candidates, Action action) {
+        if (action.saIndex < candidates.size() && candidates.get(action.saIndex).toString().equals(action.saStr)) {
+            return candidates.get(action.saIndex);
+        }
+        // The candidates of a re-sampled game may differ a bit from those the action was created for.
+        for (SpellAbility sa : candidates) {
+            if (sa.toString().equals(action.saStr)) {
+                return sa;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param action the action to play the spell ability with, or null to choose its targets at random
+     */
+    private static boolean play(Game simGame, Player ai, SpellAbility sa, Action action,
+            Function<GameObject, GameObject> liveToSim, Random random) {
+        if (sa instanceof LandAbility) {
+            if (!ai.playLand(sa.getHostCard(), false)) {
+                return false;
+            }
+        } else {
+            sa.setActivatingPlayer(ai, true);
+            simGame.copyLastState();
+            final SpellAbility playingSa = sa;
+            final boolean[] prepared = { true };
+            if (!ComputerUtil.handlePlayingSpellAbility(ai, sa, simGame,
+                    () -> prepared[0] = prepare(playingSa, ai, action, liveToSim, random)) || !prepared[0]) {
+                return false;
+            }
+        }
+        GameSimulator.resolveStack(simGame, ai.getWeakestOpponent());
+        return true;
+    }
+
+    /**
+     * Announces X and chooses the targets of a spell ability that's about to be played: the targets
+     * of the action if it has any, otherwise one of the possible sets of targets at random (if random
+     * isn't null).
+     * @param liveToSim maps the targets of the action to the objects of the game it's played in
+     */
+    private static boolean prepare(SpellAbility sa, Player ai, Action action,
+            Function<GameObject, GameObject> liveToSim, Random random) {
+        if (sa.costHasManaX()) {
+            sa.setXManaCostPaid(ComputerUtilCost.getMaxXValue(sa, ai, sa.isTrigger()));
+        }
+        if (sa instanceof LandAbility) {
+            return true;
+        }
+        MultiTargetSelector selector = new MultiTargetSelector(sa, null);
+        if (!selector.hasPossibleTargets()) {
+            return true;
+        }
+        int targetIndex = action == null ? -1 : action.targetIndex;
+        if (targetIndex >= 0 && action.targets != null) {
+            List<GameObject> targets = mapTargets(action.targets, liveToSim);
+            while (targets != null && selector.selectNextTargets()) {
+                if (getChosenTargets(sa).equals(targets)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (targetIndex < 0) {
+            if (random == null) {
+                return true;
+            }
+            int numOptions = countTargetOptions(sa, ai);
+            if (numOptions == 0) {
+                return false;
+            }
+            targetIndex = random.nextInt(numOptions);
+            selector = new MultiTargetSelector(sa, null);
+        }
+        return selector.selectTargetsByIndex(targetIndex);
+    }
+
+    /**
+     * Re-samples what the AI player can't know: the cards in the opponents' hands are re-dealt from
+     * their hands and libraries, and the libraries are shuffled. The known cards keep their places.
+     */
+    private static void determinize(Game simGame, Player ai, Set<Card> known, Random random) {
+        for (Player p : simGame.getPlayers()) {
+            List<PlayerZone> zones = new ArrayList<>();
+            zones.add(p.getZone(ZoneType.Library));
+            if (p != ai) {
+                zones.add(p.getZone(ZoneType.Hand));
+            }
+            List<Card> unknown = new ArrayList<>();
+            for (PlayerZone zone : zones) {
+                for (Card c : zone) {
+                    if (!known.contains(c)) {
+                        unknown.add(c);
+                    }
+                }
+            }
+            Collections.shuffle(unknown, random);
+            int next = 0;
+            for (PlayerZone zone : zones) {
+                List<Card> cards = new ArrayList<>(zone.size());
+                for (Card c : zone) {
+                    cards.add(known.contains(c) ? c : unknown.get(next++));
+                }
+                zone.setCards(cards);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package forge.ai.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import forge.ai.simulation.GameStateEvaluator.Score;
+import forge.game.Game;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.util.MyRandom;
+
+/**
+ * Evaluates the top-level candidates of a {@link SpellAbilityPicker} on several threads.
+ *
+ * The live game is only read on the calling thread: it is copied once per worker up front, and
+ * each worker then runs the regular sequential search (including all the choices of
+ * {@link SpellAbilityChoicesIterator}) for the candidates it picks up on its own copy, with its
+ * own {@link SimulationController}. The random seeds are drawn in candidate order, like the
+ * sequential search does, and the controllers are merged back in candidate order, so the outcome
+ * is the same as evaluating the candidates one after another. The only difference is that the
+ * cache of negative effects and the transposition table of SimulationController aren't shared
+ * between candidates.
+ * <p>
+ * All evaluators share one pool, whose idle threads end after a while, so pickers that come and go
+ * don't leave threads behind. An evaluator never runs more tasks at once than its number of workers.
+ */
+public class ParallelCandidateEvaluator {
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final int numWorkers;
+
+    public ParallelCandidateEvaluator(int numWorkers) {
+        this.numWorkers = numWorkers;
+    }
+
+    /**
+     * @return the pool the simulations of the AI run on
+     */
+    static ForkJoinPool getPool() {
+        return POOL;
+    }
+
+    public int getNumWorkers() {
+        return numWorkers;
+    }
+
+    private static class Snapshot {
+        final SpellAbilityPicker picker;
+        final List<SpellAbility> candidateSAs;
+
+        Snapshot(SpellAbilityPicker picker, List<SpellAbility> candidateSAs) {
+            this.picker = picker;
+            this.candidateSAs = candidateSAs;
+        }
+    }
+
+    /**
+     * @param order the order to evaluate the candidates in, or null for their own order
+     * @return the score of each candidate, or null if the game couldn't be copied faithfully
+     * (in which case nothing has been evaluated and the caller should fall back to the sequential search).
+     * If the controller runs out of time, the candidates that weren't evaluated yet have no score.
+     */
+    public Score[] evaluate(SpellAbilityPicker picker, SimulationController controller, PhaseType phase,
+            List<SpellAbility> candidateSAs, Score origGameScore, int[] order) {
+        final int numCandidates = candidateSAs.size();
+        final List<Snapshot> snapshots = new ArrayList<>();
+        // Don't let copying the game consume numbers from the random the seeds are drawn from.
+        Random origRandom = MyRandom.getThreadRandom();
+        MyRandom.setThreadRandom(new Random(0));
+        try {
+            for (int w = 0; w < Math.min(numWorkers, numCandidates); w++) {
+                Snapshot snapshot = makeSnapshot(picker.getGame(), picker.getPlayer(), candidateSAs, origGameScore);
+                if (snapshot == null) {
+                    return null;
+                }
+                snapshots.add(snapshot);
+            }
+        } finally {
+            MyRandom.setThreadRandom(origRandom);
+        }
+
+        final int[] evalOrder = new int[numCandidates];
+        for (int k = 0; k < numCandidates; k++) {
+            evalOrder[k] = order != null ? order[k] : k;
+        }
+        final long[] seeds = new long[numCandidates];
+        for (int k = 0; k < numCandidates; k++) {
+            seeds[evalOrder[k]] = MyRandom.getRandom().nextLong();
+        }
+
+        final Score[] scores = new Score[numCandidates];
+        final SimulationController[] controllers = new SimulationController[numCandidates];
+        final AtomicInteger nextCandidate = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (final Snapshot snapshot : snapshots) {
+            tasks.add(() -> {
+                int k;
+                while ((k = nextCandidate.getAndIncrement()) < numCandidates) {
+                    int i = evalOrder[k];
+                    SimulationController candidateController = new SimulationController(origGameScore, controller.getMaxDepth());
+                    candidateController.setDeadline(controller.getDeadline());
+                    if (candidateController.isOutOfTime()) {
+                        controllers[i] = candidateController;
+                        break;
+                    }
+                    if (controller.getTranspositionTable() != null) {
+                        candidateController.setTranspositionTable(new TranspositionTable(controller.getTranspositionTable().getMaxSize()));
+                    }
+                    if (controller.getCombatOutcomeCache() != null) {
+                        candidateController.setCombatOutcomeCache(new CombatOutcomeCache(controller.getCombatOutcomeCache().getMaxSize()));
+                    }
+                    candidateController.setEstimateCombat(controller.isEstimateCombat());
+                    scores[i] = snapshot.picker.evaluateSa(candidateController, phase, snapshot.candidateSAs, i, seeds[i]);
+                    controllers[i] = candidateController;
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> f : POOL.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while simulating candidates", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Simulation of a candidate failed", e.getCause());
+        }
+
+        for (int k = 0; k < numCandidates; k++) {
+            int i = evalOrder[k];
+            if (controllers[i] == null) {
+                continue;
+            }
+            controller.mergeBestPlan(controllers[i]);
+            if (controller.getTranspositionTable() != null && controllers[i].getTranspositionTable() != null) {
+                controller.getTranspositionTable().addStats(controllers[i].getTranspositionTable());
+            }
+        }
+        for (Snapshot snapshot : snapshots) {
+            picker.addNumSimulations(snapshot.picker.getNumSimulations());
+        }
+        return scores;
+    }
+
+    private static Snapshot makeSnapshot(Game game, Player player, List<SpellAbility> candidateSAs, Score origGameScore) {
+        GameCopier copier = new GameCopier(game);
+        Game copy = copier.makeCopy();
+        Player copyPlayer = (Player) copier.find(player);
+        if (!new GameStateEvaluator().getScoreForGameState(copy, copyPlayer).equals(origGameScore)) {
+            return null;
+        }
+        SpellAbilityPicker copyPicker = new SpellAbilityPicker(copy, copyPlayer);
+        // The plan refers to candidates by index and description, so the copy has to come up with the same list.
+        List<SpellAbility> copyCandidates = copyPicker.getCandidateSpellsAndAbilities();
+        if (copyCandidates.size() != candidateSAs.size()) {
+            return null;
+        }
+        for (int i = 0; i < candidateSAs.size(); i++) {
+            if (!copyCandidates.get(i).toString().equals(candidateSAs.get(i).toString())) {
+                return null;
+            }
+        }
+        return new Snapshot(copyPicker, copyCandidates);
+    }
+}
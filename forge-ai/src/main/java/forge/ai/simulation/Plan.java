@@ -137,6 +137,20 @@ public class Plan {
             this.modesStr = modesStr;
         }
 
+        /**
+         * A copy of the given decision that follows a different previous decision.
+         */
+        public Decision(Decision other, Decision prevDecision) {
+            this.initialScore = other.initialScore;
+            this.prevDecision = prevDecision;
+            this.saRef = other.saRef;
+            this.xMana = other.xMana;
+            this.targets = other.targets;
+            this.choices = other.choices == null ? null : new ArrayList<>(other.choices);
+            this.modes = other.modes;
+            this.modesStr = other.modesStr;
+        }
+
         public String toString(boolean showHostCard) {
             StringBuilder sb = new StringBuilder();
             if (!showHostCard) {
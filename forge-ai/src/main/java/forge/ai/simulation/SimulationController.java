@@ -5,13 +5,18 @@ import java.util.Collections;
 import java.util.List;
 
 import forge.ai.simulation.GameStateEvaluator.Score;
+import forge.game.Game;
 import forge.game.GameObject;
 import forge.game.card.Card;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
 
 public class SimulationController {
-    private static int MAX_DEPTH = 3;
+    public static final int DEFAULT_MAX_DEPTH = 3;
+
+    private final int maxDepth;
+    private long deadline;
+    private boolean timedOut;
 
     private List<Plan.Decision> currentStack;
     private List<Score> scoreStack;
@@ -20,6 +25,9 @@ public class SimulationController {
     private Score bestScore;
     private List<CachedEffect> effectCache = new ArrayList<>();
     private GameObject[] currentHostAndTarget;
+    private TranspositionTable transpositionTable;
+    private CombatOutcomeCache combatOutcomeCache;
+    private boolean estimateCombat;
 
     private static class CachedEffect {
         final GameObject hostCard;
@@ -38,6 +46,11 @@ public class SimulationController {
     }
 
     public SimulationController(Score score) {
+        this(score, DEFAULT_MAX_DEPTH);
+    }
+
+    public SimulationController(Score score, int maxDepth) {
+        this.maxDepth = maxDepth;
         bestScore = score;
         scoreStack = new ArrayList<>();
         scoreStack.add(score);
@@ -50,7 +63,134 @@ public class SimulationController {
     }
 
     public boolean shouldRecurse() {
-        return bestScore.value != Integer.MAX_VALUE && getRecursionDepth() < MAX_DEPTH;
+        return bestScore.value != Integer.MAX_VALUE && getRecursionDepth() < maxDepth;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Sets the time (as per System.currentTimeMillis()) after which no further spell abilities
+     * should be evaluated, 0 for no limit.
+     */
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Checks whether the deadline has passed. Once it has, the search stops evaluating further
+     * candidates at every depth and {@link #hasTimedOut()} reports that its result is incomplete.
+     */
+    public boolean isOutOfTime() {
+        if (!timedOut && deadline > 0 && System.currentTimeMillis() >= deadline) {
+            timedOut = true;
+        }
+        return timedOut;
+    }
+
+    public boolean hasTimedOut() {
+        return timedOut;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+    public void setTranspositionTable(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+    }
+
+    public CombatOutcomeCache getCombatOutcomeCache() {
+        return combatOutcomeCache;
+    }
+
+    public void setCombatOutcomeCache(CombatOutcomeCache combatOutcomeCache) {
+        this.combatOutcomeCache = combatOutcomeCache;
+    }
+
+    public boolean isEstimateCombat() {
+        return estimateCombat;
+    }
+
+    public void setEstimateCombat(boolean estimateCombat) {
+        this.estimateCombat = estimateCombat;
+    }
+
+    /**
+     * @return an evaluator for the states of this simulation, sharing its combat outcome cache
+     */
+    public GameStateEvaluator createEvaluator() {
+        GameStateEvaluator evaluator = new GameStateEvaluator();
+        evaluator.setCombatOutcomeCache(combatOutcomeCache);
+        evaluator.setEstimateCombat(estimateCombat);
+        return evaluator;
+    }
+
+    /**
+     * The key of the given state in the transposition table. The score of a state depends on how
+     * much deeper the search goes from it, so the remaining depth is part of the key.
+     */
+    public long getTranspositionKey(Game game) {
+        return GameStateHasher.hash(game) * 31 + (maxDepth - getRecursionDepth());
+    }
+
+    /**
+     * Takes the result of a state that was already explored for the current decision. If the
+     * best line from that state beats the best one found so far, its decisions are put after the
+     * current decision so that the best plan still leads all the way there.
+     *
+     * @return the score to use for the current decision, or null if the state has to be explored
+     *         again because the table doesn't know how to reach its score
+     */
+    public Score transpositionHit(TranspositionTable.Entry entry, SpellAbility sa) {
+        Score score = entry.getScore();
+        if (score.value > bestScore.value) {
+            List<Plan.Decision> continuation = entry.getContinuation();
+            if (continuation == null) {
+                return null;
+            }
+            if (!continuation.isEmpty()) {
+                Plan.Decision last = getLastDecision();
+                for (Plan.Decision d : continuation) {
+                    last = new Plan.Decision(d, last);
+                }
+                bestSequence = last;
+                bestScore = score;
+            }
+        }
+        currentHostAndTarget = null;
+        printState(score, sa, " (transposition)", true);
+        return score;
+    }
+
+    public Plan.Decision getBestDecision() {
+        return bestSequence;
+    }
+
+    /**
+     * @return the decisions after the current one that lead to the best score, if the best
+     *         sequence was found since it was bestBefore and goes through the current decision,
+     *         otherwise null
+     */
+    public List<Plan.Decision> getContinuationSince(Plan.Decision bestBefore) {
+        if (bestSequence == bestBefore) {
+            return null;
+        }
+        Plan.Decision last = getLastDecision();
+        List<Plan.Decision> continuation = new ArrayList<>();
+        for (Plan.Decision d = bestSequence; d != null; d = d.prevDecision) {
+            if (d == last) {
+                Collections.reverse(continuation);
+                return continuation;
+            }
+            continuation.add(d);
+        }
+        return null;
     }
 
     public Plan.Decision getLastDecision() {
@@ -94,6 +234,24 @@ public class SimulationController {
         return bestScore;
     }
 
+    /**
+     * Takes over the best sequence found by another controller that was started from the same
+     * score, if it's better than the best one found by this one. Merging the controllers of
+     * independently evaluated candidates in candidate order gives the same best plan as
+     * evaluating them one after another with a single controller. If the other controller ran
+     * out of time, so does this one.
+     */
+    public void mergeBestPlan(SimulationController other) {
+        if (!currentStack.isEmpty() || !other.currentStack.isEmpty()) {
+            throw new RuntimeException("mergeBestPlan() expects both currentStacks to be empty!");
+        }
+        timedOut |= other.timedOut;
+        if (other.bestSequence != null && other.bestScore.value > bestScore.value) {
+            bestScore = other.bestScore;
+            bestSequence = other.bestSequence;
+        }
+    }
+
     public Plan getBestPlan() {
         if (!currentStack.isEmpty()) {
             throw new RuntimeException("getBestPlan() expects currentStack to be empty!");
@@ -2,10 +2,14 @@ package forge.ai.simulation;
 
 import forge.util.MyRandom;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
+import forge.ai.AiCandidatePipeline;
+import forge.ai.AiCandidatePipeline.Stage;
+import forge.ai.AiManaSources;
 import forge.ai.AiPlayDecision;
 import forge.ai.ComputerUtil;
 import forge.ai.ComputerUtilAbility;
@@ -39,16 +43,122 @@ public class SpellAbilityPicker {
 
     private Plan plan;
     private int numSimulations;
+    private int numWorkers = 1;
+    private int transpositionTableSize = 0;
+    private int maxDepth = SimulationController.DEFAULT_MAX_DEPTH;
+    private long timeBudget = 0;
+    private int combatOutcomeCacheSize = 0;
+    private boolean estimateCombat = false;
+    private TranspositionTable lastTranspositionTable;
+    private int[] lastSearchOrder;
+    private ParallelCandidateEvaluator parallelEvaluator;
+    private final AiCandidatePipeline candidatePipeline;
 
     public SpellAbilityPicker(Game game, Player player) {
         this.game = game;
         this.player = player;
+        this.candidatePipeline = new AiCandidatePipeline();
     }
 
     public void setInterceptor(SpellAbilityChoicesIterator in) {
         this.interceptor = in;
     }
 
+    Game getGame() {
+        return game;
+    }
+
+    Player getPlayer() {
+        return player;
+    }
+
+    public int getNumWorkers() {
+        return numWorkers;
+    }
+
+    /**
+     * Sets how many threads may be used to evaluate the top-level candidates.
+     * With more than one, each worker simulates on its own snapshot of the game.
+     */
+    public void setNumWorkers(int numWorkers) {
+        this.numWorkers = Math.max(1, numWorkers);
+    }
+
+    public int getTranspositionTableSize() {
+        return transpositionTableSize;
+    }
+
+    /**
+     * Sets how many explored states may be remembered while formulating a plan, 0 to not remember any.
+     */
+    public void setTranspositionTableSize(int transpositionTableSize) {
+        this.transpositionTableSize = Math.max(0, transpositionTableSize);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets how many spell abilities deep to look ahead after the one being evaluated.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = Math.max(0, maxDepth);
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Sets how many milliseconds formulating a plan may take, 0 for no limit. With a budget, the
+     * search is deepened one level at a time up to the max depth, and the best plan found by the
+     * time it runs out is used.
+     */
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = Math.max(0, timeBudget);
+    }
+
+    public int getCombatOutcomeCacheSize() {
+        return combatOutcomeCacheSize;
+    }
+
+    /**
+     * Sets how many combat outcomes may be remembered while formulating a plan, 0 to simulate the
+     * upcoming combat for every evaluated state.
+     */
+    public void setCombatOutcomeCacheSize(int combatOutcomeCacheSize) {
+        this.combatOutcomeCacheSize = Math.max(0, combatOutcomeCacheSize);
+    }
+
+    public boolean isEstimateCombat() {
+        return estimateCombat;
+    }
+
+    /**
+     * Sets whether the upcoming combat of evaluated states should be estimated with the AI's combat
+     * logic instead of simulated on a copy of the game.
+     */
+    public void setEstimateCombat(boolean estimateCombat) {
+        this.estimateCombat = estimateCombat;
+    }
+
+    /**
+     * @return the transposition table used to formulate the last plan, for its hit/miss statistics
+     * (which include those of the tables used for other phases considered for the same plan),
+     * or null if none was used
+     */
+    public TranspositionTable getLastTranspositionTable() {
+        return lastTranspositionTable;
+    }
+
+    /**
+     * @return the checks the candidates went through, with how many each of them turned down
+     */
+    public AiCandidatePipeline getCandidatePipeline() {
+        return candidatePipeline;
+    }
+
     private void print(String str) {
         if (printOutput) {
             System.out.println(str);
@@ -97,12 +207,13 @@ public class SpellAbilityPicker {
             return null;
         }
 
-        Score origGameScore = new GameStateEvaluator().getScoreForGameState(game, player);
+        GameStateEvaluator evaluator = controller != null ? controller.createEvaluator() : new GameStateEvaluator();
+        Score origGameScore = evaluator.getScoreForGameState(game, player);
         List<SpellAbility> candidateSAs = getCandidateSpellsAndAbilities();
         if (controller != null) {
             // This is a recursion during a higher-level simulation. Just return the head of the best
             // sequence directly, no need to create a Plan object.
-            return chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, null);
+            return chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, null, null, null);
         }
 
         printPhaseInfo();
@@ -114,13 +225,99 @@ public class SpellAbilityPicker {
         return getPlannedSpellAbility(origGameScore, candidateSAs);
     }
 
-    private Plan formulatePlanWithPhase(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase) {
-        SimulationController controller = new SimulationController(origGameScore);
-        SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase);
-        if (sa != null) {
-            return controller.getBestPlan();
+    private Plan formulatePlanWithPhase(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase, long deadline) {
+        TranspositionTable transpositionTable = transpositionTableSize > 0 ? new TranspositionTable(transpositionTableSize) : null;
+        CombatOutcomeCache combatOutcomeCache = combatOutcomeCacheSize > 0 ? new CombatOutcomeCache(combatOutcomeCacheSize) : null;
+        if (deadline == 0) {
+            SimulationController controller = createController(origGameScore, maxDepth, 0, transpositionTable, combatOutcomeCache);
+            SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase, null, null);
+            addTranspositionStats(controller);
+            return sa != null ? controller.getBestPlan() : null;
+        }
+
+        // Iterative deepening: each iteration searches one level deeper than the previous one and
+        // evaluates the candidates that scored best in it first. The iterations share the
+        // transposition table and the combat outcomes, since the table keys include the remaining
+        // depth. The first iteration isn't time limited, so that there is a plan.
+        Plan bestPlan = null;
+        int[] order = null;
+        lastSearchOrder = null;
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            SimulationController controller = createController(origGameScore, depth, depth == 0 ? 0 : deadline, transpositionTable, combatOutcomeCache);
+            Score[] scores = new Score[candidateSAs.size()];
+            lastSearchOrder = order;
+            SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase, order, scores);
+            if (controller.hasTimedOut()) {
+                // Every line the cut short search got to is still a line that can be played, and
+                // the best candidate of the previous iteration was searched first, so its best plan
+                // is kept if it's better than the previous one.
+                if (sa != null && (bestPlan == null || controller.getBestScore().value > bestPlan.getFinalScore().value)) {
+                    print("Out of time at depth " + depth + ", using the better plan it found so far");
+                    bestPlan = controller.getBestPlan();
+                } else {
+                    print("Out of time at depth " + depth + ", using the plan found at depth " + (depth - 1));
+                }
+                break;
+            }
+            bestPlan = sa != null ? controller.getBestPlan() : null;
+            if (controller.getBestScore().value == Integer.MAX_VALUE || System.currentTimeMillis() >= deadline) {
+                break;
+            }
+            order = getOrderByScore(scores);
         }
-        return null;
+        addTranspositionStats(transpositionTable);
+        return bestPlan;
+    }
+
+    private SimulationController createController(Score origGameScore, int depth, long deadline,
+            TranspositionTable transpositionTable, CombatOutcomeCache combatOutcomeCache) {
+        SimulationController controller = new SimulationController(origGameScore, depth);
+        controller.setDeadline(deadline);
+        controller.setTranspositionTable(transpositionTable);
+        controller.setCombatOutcomeCache(combatOutcomeCache);
+        controller.setEstimateCombat(estimateCombat);
+        return controller;
+    }
+
+    /**
+     * @return the order in which the last iteration of a time limited search evaluated the
+     *         candidates, the best scoring of the previous iteration first, or null if it was the
+     *         first iteration or the search wasn't time limited
+     */
+    int[] getLastSearchOrder() {
+        return lastSearchOrder;
+    }
+
+    private void addTranspositionStats(SimulationController controller) {
+        addTranspositionStats(controller.getTranspositionTable());
+    }
+
+    private void addTranspositionStats(TranspositionTable transpositionTable) {
+        if (transpositionTable == null) {
+            return;
+        }
+        print("Transposition table: " + transpositionTable);
+        if (lastTranspositionTable == null) {
+            lastTranspositionTable = transpositionTable;
+        } else {
+            lastTranspositionTable.addStats(transpositionTable);
+        }
+    }
+
+    /**
+     * @return the indices of the candidates, best scoring first (and in their original order when tied)
+     */
+    private static int[] getOrderByScore(final Score[] scores) {
+        Integer[] indices = new Integer[scores.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, (a, b) -> Integer.compare(scores[b].value, scores[a].value));
+        int[] order = new int[indices.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = indices[i];
+        }
+        return order;
     }
 
     private void printPlan(Plan plan, String intro) {
@@ -150,8 +347,11 @@ public class SpellAbilityPicker {
 
     private void createNewPlan(Score origGameScore, List<SpellAbility> candidateSAs) {
         plan = null;
+        lastTranspositionTable = null;
+        // The budget is shared by all the phases considered.
+        long deadline = timeBudget > 0 ? System.currentTimeMillis() + timeBudget : 0;
 
-        Plan bestPlan = formulatePlanWithPhase(origGameScore, candidateSAs, null);
+        Plan bestPlan = formulatePlanWithPhase(origGameScore, candidateSAs, null, deadline);
         if (bestPlan == null) {
             print("No good plan at this time");
             return;
@@ -168,7 +368,7 @@ public class SpellAbilityPicker {
             }
             if (!candidateSAs2.isEmpty()) {
                 System.err.println("Formula plan with phase bloom");
-                Plan afterBlockersPlan = formulatePlanWithPhase(origGameScore, candidateSAs2, PhaseType.COMBAT_DECLARE_BLOCKERS);
+                Plan afterBlockersPlan = formulatePlanWithPhase(origGameScore, candidateSAs2, PhaseType.COMBAT_DECLARE_BLOCKERS, deadline);
                 if (afterBlockersPlan != null && afterBlockersPlan.getFinalScore().value >= bestPlan.getFinalScore().value) {
                     printPlan(afterBlockersPlan, "After blockers");
                     print("Deciding to wait until after declare blockers.");
@@ -181,14 +381,42 @@ public class SpellAbilityPicker {
         plan = bestPlan;
     }
 
-    private SpellAbility chooseSpellAbilityToPlayImpl(SimulationController controller, List<SpellAbility> candidateSAs, Score origGameScore, PhaseType phase) {
+    /**
+     * @param order the order to evaluate the candidates in, or null for their own order
+     * @param scores if not null, receives the score of each evaluated candidate
+     */
+    private SpellAbility chooseSpellAbilityToPlayImpl(SimulationController controller, List<SpellAbility> candidateSAs,
+            Score origGameScore, PhaseType phase, int[] order, Score[] scores) {
         long startTime = System.currentTimeMillis();
 
         SpellAbility bestSa = null;
         Score bestSaValue = origGameScore;
         print("Evaluating... (orig score = " + origGameScore +  ")");
-        for (int i = 0; i < candidateSAs.size(); i++) {
-            Score value = evaluateSa(controller, phase, candidateSAs, i);
+        Score[] parallelScores = null;
+        if (numWorkers > 1 && candidateSAs.size() > 1) {
+            if (parallelEvaluator == null || parallelEvaluator.getNumWorkers() != numWorkers) {
+                parallelEvaluator = new ParallelCandidateEvaluator(numWorkers);
+            }
+            // null if the game couldn't be snapshotted faithfully, evaluate sequentially then
+            parallelScores = parallelEvaluator.evaluate(this, controller, phase, candidateSAs, origGameScore, order);
+        }
+        for (int k = 0; k < candidateSAs.size(); k++) {
+            int i = order != null ? order[k] : k;
+            Score value;
+            if (parallelScores != null) {
+                value = parallelScores[i];
+            } else if (!controller.isOutOfTime()) {
+                value = evaluateSa(controller, phase, candidateSAs, i);
+            } else {
+                value = null;
+            }
+            if (value == null) {
+                // Out of time, the result of this search won't be used.
+                break;
+            }
+            if (scores != null) {
+                scores[i] = value;
+            }
             if (value.value > bestSaValue.value) {
                 bestSaValue = value;
                 bestSa = candidateSAs.get(i);
@@ -323,57 +551,70 @@ public class SpellAbilityPicker {
     }
 
     private AiPlayDecision canPlayAndPayForSim(final SpellAbility sa) {
-        if (!sa.isLegalAfterStack()) {
-            return AiPlayDecision.CantPlaySa;
+        long start = candidatePipeline.start();
+        if (!candidatePipeline.passes(Stage.ManaValue, start, AiManaSources.mayAfford(player, sa))) {
+            return AiPlayDecision.CantAfford;
         }
-        if (!sa.checkRestrictions(sa.getHostCard(), player)) {
+
+        start = candidatePipeline.start();
+        if (!sa.isLegalAfterStack() || !sa.checkRestrictions(sa.getHostCard(), player)) {
+            candidatePipeline.passes(Stage.Legality, start, false);
             return AiPlayDecision.CantPlaySa;
         }
 
         if (sa instanceof LandAbility) {
+            candidatePipeline.passes(Stage.Legality, start, true);
             return AiPlayDecision.WillPlay;
         }
-        if (!sa.canPlay()) {
+        if (!candidatePipeline.passes(Stage.Legality, start, sa.canPlay())) {
             return AiPlayDecision.CantPlaySa;
         }
 
         // Note: Can't just check condition on the top ability, because it may have
         // sub-abilities without conditions (e.g. wild slash's main ability has a
         // main ability with conditions but the burn sub-ability has none).
-        if (!atLeastOneConditionMet(sa)) {
+        start = candidatePipeline.start();
+        if (!candidatePipeline.passes(Stage.Condition, start, atLeastOneConditionMet(sa))) {
             return AiPlayDecision.CantPlaySa;
         }
 
-        if (!ComputerUtilCost.canPayCost(sa, player, sa.isTrigger())) {
+        start = candidatePipeline.start();
+        if (!candidatePipeline.passes(Stage.Cost, start, ComputerUtilCost.canPayCost(sa, player, sa.isTrigger()))) {
             return AiPlayDecision.CantAfford;
         }
+        start = candidatePipeline.start();
         if (!ComputerUtilAbility.isFullyTargetable(sa)) {
+            candidatePipeline.passes(Stage.AiLogic, start, false);
             return AiPlayDecision.TargetingFailed;
         }
         if (shouldWaitForLater(sa)) {
+            candidatePipeline.passes(Stage.AiLogic, start, false);
             return AiPlayDecision.AnotherTime;
         }
 
+        candidatePipeline.passes(Stage.AiLogic, start, true);
         return AiPlayDecision.WillPlay;
     }
 
     public Score evaluateSa(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex) {
-        controller.evaluateSpellAbility(saList, saIndex);
-        SpellAbility sa = saList.get(saIndex);
-
         // Use a deterministic random seed when evaluating different choices of a spell ability.
         // This is needed as otherwise random effects may result in a different number of choices
         // each iteration, which will break the logic in SpellAbilityChoicesIterator.
-        Random origRandom = MyRandom.getRandom();
-        long randomSeedToUse = origRandom.nextLong();
+        return evaluateSa(controller, phase, saList, saIndex, MyRandom.getRandom().nextLong());
+    }
+
+    Score evaluateSa(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex, long randomSeedToUse) {
+        controller.evaluateSpellAbility(saList, saIndex);
+        SpellAbility sa = saList.get(saIndex);
 
+        Random origRandom = MyRandom.getThreadRandom();
         Score bestScore = new Score(Integer.MIN_VALUE);
         final SpellAbilityChoicesIterator choicesIterator = new SpellAbilityChoicesIterator(controller);
         Score lastScore;
         do {
-            // TODO: MyRandom should be an instance on the game object, so that we could do
-            // simulations in parallel without messing up global state.
-            MyRandom.setRandom(new Random(randomSeedToUse));
+            // TODO: MyRandom should be an instance on the game object. For now, the seed is only
+            // set for this thread so that parallel workers don't mess up each other's state.
+            MyRandom.setThreadRandom(new Random(randomSeedToUse));
             GameSimulator simulator = new GameSimulator(controller, game, player, phase);
             simulator.setInterceptor(choicesIterator);
             lastScore = simulator.simulateSpellAbility(sa);
@@ -383,7 +624,7 @@ public class SpellAbilityPicker {
             }
         } while (choicesIterator.advance(lastScore));
         controller.doneEvaluating(bestScore);
-        MyRandom.setRandom(origRandom);
+        MyRandom.setThreadRandom(origRandom);
         return bestScore;
     }
 
@@ -463,4 +704,8 @@ public class SpellAbilityPicker {
     public int getNumSimulations() {
         return numSimulations;
     }
+
+    void addNumSimulations(int num) {
+        numSimulations += num;
+    }
 }
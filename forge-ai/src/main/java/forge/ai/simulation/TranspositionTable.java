@@ -0,0 +1,111 @@
+package forge.ai.simulation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import forge.ai.simulation.GameStateEvaluator.Score;
+
+/**
+ * A bounded cache of the scores of game states the simulation has already explored, keyed by
+ * the {@link GameStateHasher} hash of the state combined with the remaining search depth.
+ * Along with the score, an entry keeps the decisions that lead from the state to it, so that
+ * a hit can still tell the rest of the plan. The least recently used entries are evicted once
+ * the table is full.
+ *
+ * A table belongs to a single {@link SimulationController} and isn't thread-safe.
+ */
+public class TranspositionTable {
+    private final int maxSize;
+    private final Map<Long, Entry> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TranspositionTable(final int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > TranspositionTable.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Entry get(long key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return entry;
+    }
+
+    /**
+     * @param continuation the decisions after the one that reached the state which lead to the
+     *                     score, empty if the score is the state's own, or null if the search
+     *                     from the state didn't find anything better than what it already had
+     */
+    public void put(long key, Score score, List<Plan.Decision> continuation) {
+        entries.put(key, new Entry(score, continuation));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Adds the hit/miss/eviction counts of another table to this one's.
+     */
+    public void addStats(TranspositionTable other) {
+        hits += other.hits;
+        misses += other.misses;
+        evictions += other.evictions;
+    }
+
+    public static class Entry {
+        private final Score score;
+        private final List<Plan.Decision> continuation;
+
+        Entry(Score score, List<Plan.Decision> continuation) {
+            this.score = score;
+            this.continuation = continuation;
+        }
+
+        public Score getScore() {
+            return score;
+        }
+
+        public List<Plan.Decision> getContinuation() {
+            return continuation;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size() + "/" + maxSize;
+    }
+}
@@ -0,0 +1,155 @@
+package forge.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.combat.CombatUtil;
+import forge.game.player.Player;
+
+public class AiBlockSolverTest extends AiTestBase {
+    private static final int NODE_BUDGET = 1000000;
+    // the largest gang the solver puts in front of an attacker that doesn't need more
+    private static final int MAX_GANG = 3;
+
+    /**
+     * Tries every way of spreading the blockers over the attackers, each blocker blocking at most one.
+     * @return the best score among them
+     */
+    private static int bestByExhaustiveSearch(AiBlockSolver solver, Combat combat, List<Card> attackers,
+            List<Card> blockers, int next, List<List<Card>> blocks) {
+        if (next == blockers.size()) {
+            for (int a = 0; a < attackers.size(); a++) {
+                int size = blocks.get(a).size();
+                if (size > MAX_GANG || (size > 0 && !CombatUtil.canAttackerBeBlockedWithAmount(attackers.get(a), size, combat))) {
+                    return Integer.MIN_VALUE;
+                }
+            }
+            return solver.score(blocks);
+        }
+        int best = bestByExhaustiveSearch(solver, combat, attackers, blockers, next + 1, blocks);
+        Card blocker = blockers.get(next);
+        for (int a = 0; a < attackers.size(); a++) {
+            if (!CombatUtil.canBlock(attackers.get(a), blocker, combat)) {
+                continue;
+            }
+            List<Card> gang = blocks.get(a);
+            gang.add(blocker);
+            best = Math.max(best, bestByExhaustiveSearch(solver, combat, attackers, blockers, next + 1, blocks));
+            gang.remove(gang.size() - 1);
+        }
+        return best;
+    }
+
+    /**
+     * The opponent of the AI attacks with the first cards, the AI blocks with the others.
+     */
+    private List<List<Card>> assertSameAsExhaustiveSearch(Game game, int life, List<Card> attackers, List<Card> blockers) {
+        Player opponent = game.getPlayers().get(0);
+        Player ai = game.getPlayers().get(1);
+        ai.setLife(life, null);
+        Combat combat = new Combat(opponent);
+        for (Card attacker : attackers) {
+            combat.addAttacker(attacker, ai);
+        }
+        game.getPhaseHandler().setCombat(combat);
+
+        AiBlockSolver solver = new AiBlockSolver(ai, combat, attackers, blockers, 0);
+        List<List<Card>> blocks = solver.solve(NODE_BUDGET);
+        AssertJUnit.assertNotNull(blocks);
+        List<List<Card>> empty = new ArrayList<>();
+        for (int a = 0; a < attackers.size(); a++) {
+            empty.add(new ArrayList<>());
+        }
+        int best = bestByExhaustiveSearch(solver, combat, attackers, blockers, 0, empty);
+        AssertJUnit.assertEquals(blocks.toString(), best, solver.score(blocks));
+        return blocks;
+    }
+
+    @Test
+    public void testTrample() {
+        Game game = createGame();
+        Player opponent = game.getPlayers().get(0);
+        Player ai = game.getPlayers().get(1);
+        List<Card> attackers = Arrays.asList(
+                addCard(opponent, "Trampling Beast", "PT:5/5", "K:Trample"),
+                addCard(opponent, "Grizzly Bears"));
+        List<Card> blockers = Arrays.asList(
+                addCard(ai, "Wall", "PT:0/4", "K:Defender"),
+                addCard(ai, "Grizzly Bears"),
+                addCard(ai, "Hill Giant", "PT:3/3"),
+                addCard(ai, "Squire", "PT:1/2"));
+        assertSameAsExhaustiveSearch(game, 20, attackers, blockers);
+        // low enough that the trample damage matters
+        assertSameAsExhaustiveSearch(game, 6, attackers, blockers);
+    }
+
+    @Test
+    public void testDeathtouch() {
+        Game game = createGame();
+        Player opponent = game.getPlayers().get(0);
+        Player ai = game.getPlayers().get(1);
+        List<Card> attackers = Arrays.asList(
+                addCard(opponent, "Deathtouch Rat", "PT:1/1", "K:Deathtouch"),
+                addCard(opponent, "Hill Giant", "PT:3/3"));
+        List<Card> blockers = Arrays.asList(
+                addCard(ai, "Grizzly Bears"),
+                addCard(ai, "Grizzly Bears"),
+                addCard(ai, "Craw Wurm", "PT:6/4"),
+                addCard(ai, "Deathtouch Snake", "PT:1/1", "K:Deathtouch"));
+        assertSameAsExhaustiveSearch(game, 20, attackers, blockers);
+        assertSameAsExhaustiveSearch(game, 4, attackers, blockers);
+    }
+
+    @Test
+    public void testFirstStrike() {
+        Game game = createGame();
+        Player opponent = game.getPlayers().get(0);
+        Player ai = game.getPlayers().get(1);
+        List<Card> attackers = Arrays.asList(
+                addCard(opponent, "White Knight", "PT:2/2", "K:First Strike"),
+                addCard(opponent, "Grizzly Bears"),
+                addCard(opponent, "Hill Giant", "PT:3/3"));
+        List<Card> blockers = Arrays.asList(
+                addCard(ai, "Grizzly Bears"),
+                addCard(ai, "Grizzly Bears"),
+                addCard(ai, "Striking Squire", "PT:2/1", "K:First Strike"),
+                addCard(ai, "Wall", "PT:0/4", "K:Defender"),
+                addCard(ai, "Hill Giant", "PT:3/3"));
+        assertSameAsExhaustiveSearch(game, 20, attackers, blockers);
+        assertSameAsExhaustiveSearch(game, 3, attackers, blockers);
+    }
+
+    @Test
+    public void testKillsTheAttackerForFree() {
+        Game game = createGame();
+        Player opponent = game.getPlayers().get(0);
+        Player ai = game.getPlayers().get(1);
+        Card attacker = addCard(opponent, "Grizzly Bears");
+        Card wall = addCard(ai, "Wall", "PT:0/4", "K:Defender");
+        Card giant = addCard(ai, "Hill Giant", "PT:3/3");
+        List<List<Card>> blocks = assertSameAsExhaustiveSearch(game, 20, Arrays.asList(attacker), Arrays.asList(wall, giant));
+        AssertJUnit.assertEquals(Arrays.asList(giant), blocks.get(0));
+    }
+
+    @Test
+    public void testRunsOutOfNodes() {
+        Game game = createGame();
+        Player opponent = game.getPlayers().get(0);
+        Player ai = game.getPlayers().get(1);
+        List<Card> attackers = Arrays.asList(addCard(opponent, "Grizzly Bears"), addCard(opponent, "Hill Giant", "PT:3/3"));
+        List<Card> blockers = Arrays.asList(addCard(ai, "Squire", "PT:1/2"), addCard(ai, "Wall", "PT:0/4", "K:Defender"));
+        Combat combat = new Combat(opponent);
+        for (Card attacker : attackers) {
+            combat.addAttacker(attacker, ai);
+        }
+        AssertJUnit.assertNull(new AiBlockSolver(ai, combat, attackers, blockers, 0).solve(1));
+        AssertJUnit.assertNotNull(new AiBlockSolver(ai, combat, attackers, blockers, 0).solve(NODE_BUDGET));
+    }
+}
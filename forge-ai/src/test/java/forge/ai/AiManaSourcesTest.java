@@ -0,0 +1,53 @@
+package forge.ai;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+
+public class AiManaSourcesTest extends AiTestBase {
+    private static final String[] LAND = { "Types:Land", "ManaCost:no cost", "A:AB$ Mana | Cost$ T | Produced$ G | SpellDescription$ Add {G}." };
+
+    @Test
+    public void testSourcesAfterStateChange() {
+        Game game = createGame();
+        Player ai = game.getPlayers().get(0);
+        Card land = addCard(ai, "Test Land", LAND);
+        AiManaSources sources = AiManaSources.of(ai);
+        AssertJUnit.assertNotNull(sources);
+        AssertJUnit.assertEquals(1, sources.getSources(true).size());
+        AssertJUnit.assertEquals(1, sources.getManaAmount(land));
+
+        Card other = addCard(ai, "Other Land", LAND);
+        AssertJUnit.assertEquals(2, sources.getSources(true).size());
+
+        land.tap(true, null, null);
+        AssertJUnit.assertEquals(1, sources.getSources(true).size());
+        AssertJUnit.assertTrue(sources.getSources(true).contains(other));
+
+        // the same answer without a change in between
+        AssertJUnit.assertSame(sources.getSources(true), sources.getSources(true));
+    }
+
+    @Test
+    public void testMayAfford() {
+        Game game = createGame();
+        Player ai = game.getPlayers().get(0);
+        addCard(ai, "Test Land", LAND);
+        Card bear = game.getAction().moveToHand(createCard(ai, "Grizzly Bears"), null);
+        Card giant = game.getAction().moveToHand(createCard(ai, "Big Giant", "ManaCost:4 G G", "PT:6/6"), null);
+        SpellAbility bearSpell = bear.getFirstSpellAbility();
+        AssertJUnit.assertFalse(AiManaSources.mayAfford(ai, bearSpell));
+
+        addCard(ai, "Other Land", LAND);
+        AssertJUnit.assertTrue(AiManaSources.mayAfford(ai, bearSpell));
+        AssertJUnit.assertFalse(AiManaSources.mayAfford(ai, giant.getFirstSpellAbility()));
+
+        // whatever could make it cheaper lets it through
+        addCard(ai, "Cost Reducer", "S:Mode$ ReduceCost | ValidCard$ Creature | Type$ Spell | Activator$ You | Amount$ 4");
+        AssertJUnit.assertTrue(AiManaSources.mayAfford(ai, giant.getFirstSpellAbility()));
+    }
+}
@@ -0,0 +1,15 @@
+package forge.ai;
+
+import forge.LobbyPlayer;
+import forge.game.GameTestBase;
+
+/**
+ * Sets up a game between two AI players with the default profile, and cards made from script lines,
+ * so that tests don't need the card database.
+ */
+public abstract class AiTestBase extends GameTestBase {
+    @Override
+    protected LobbyPlayer createLobbyPlayer(String name) {
+        return new LobbyPlayerAi(name, null);
+    }
+}
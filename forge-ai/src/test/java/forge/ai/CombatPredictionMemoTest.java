@@ -0,0 +1,32 @@
+package forge.ai;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+
+public class CombatPredictionMemoTest extends AiTestBase {
+    @Test
+    public void testPredictionAfterStateChange() {
+        Game game = createGame();
+        Player ai = game.getPlayers().get(0);
+        Player opponent = game.getPlayers().get(1);
+        Card blocker = addCard(ai, "Grizzly Bears");
+        Card attacker = addCard(opponent, "Small Bear", "PT:1/1");
+
+        CombatPredictionMemo memo = CombatPredictionMemo.open(game);
+        try {
+            AssertJUnit.assertFalse(ComputerUtilCombat.canDestroyBlocker(ai, blocker, attacker, null, false));
+            AssertJUnit.assertTrue(ComputerUtilCombat.canDestroyAttacker(ai, attacker, blocker, null, false));
+
+            // the same cards, but the game reported the change
+            attacker.addPTBoost(2, 2, game.getNextTimestamp(), 0);
+            AssertJUnit.assertTrue(ComputerUtilCombat.canDestroyBlocker(ai, blocker, attacker, null, false));
+            AssertJUnit.assertFalse(ComputerUtilCombat.canDestroyAttacker(ai, attacker, blocker, null, false));
+        } finally {
+            memo.close();
+        }
+    }
+}
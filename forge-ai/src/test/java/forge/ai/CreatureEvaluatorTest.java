@@ -0,0 +1,50 @@
+package forge.ai;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+
+public class CreatureEvaluatorTest extends AiTestBase {
+    private static final CreatureEvaluator fromScratch = new CreatureEvaluator() {
+        @Override
+        protected boolean remembersValues() {
+            return false;
+        }
+    };
+
+    @Test
+    public void testValueAfterStateChange() {
+        Game game = createGame();
+        Player ai = game.getPlayers().get(0);
+        Card bear = addCard(ai, "Grizzly Bears");
+        CreatureEvaluator evaluator = new CreatureEvaluator();
+
+        int before = evaluator.evaluateCreature(bear);
+        AssertJUnit.assertEquals(fromScratch.evaluateCreature(bear), before);
+        AssertJUnit.assertEquals(before, evaluator.evaluateCreature(bear));
+
+        // the same card, but the game reported the change
+        bear.addPTBoost(2, 2, game.getNextTimestamp(), 0);
+        int after = evaluator.evaluateCreature(bear);
+        AssertJUnit.assertEquals(fromScratch.evaluateCreature(bear), after);
+        AssertJUnit.assertTrue(after > before);
+    }
+
+    @Test
+    public void testValuesOfAnotherGame() {
+        CreatureEvaluator evaluator = new CreatureEvaluator();
+        Game game = createGame();
+        Card bear = addCard(game.getPlayers().get(0), "Grizzly Bears");
+        int bearValue = evaluator.evaluateCreature(bear);
+
+        // a card of another game may have the same id
+        Game other = createGame();
+        Card giant = addCard(other.getPlayers().get(0), "Big Giant", "PT:5/5");
+        AssertJUnit.assertEquals(bear.getId(), giant.getId());
+        AssertJUnit.assertEquals(fromScratch.evaluateCreature(giant), evaluator.evaluateCreature(giant));
+        AssertJUnit.assertTrue(evaluator.evaluateCreature(giant) > bearValue);
+    }
+}
@@ -0,0 +1,139 @@
+package forge.ai.simulation;
+
+import java.util.Arrays;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.ai.AiTestBase;
+import forge.game.Game;
+import forge.game.GameObject;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.trigger.TriggerHandler;
+import forge.game.zone.ZoneType;
+
+public class GameStateHasherTest extends AiTestBase {
+    private Card[] playInOrder(Game game, String... names) {
+        Card[] cards = new Card[names.length];
+        for (int i = 0; i < names.length; i++) {
+            cards[i] = createCard(game.getPlayers().get(0), names[i]);
+            game.getAction().moveToPlay(cards[i], null, null);
+        }
+        return cards;
+    }
+
+    @Test
+    public void testMoveOrderDoesNotMatter() {
+        Game game1 = createGame();
+        playInOrder(game1, "Grizzly Bears", "Runeclaw Bear");
+        Game game2 = createGame();
+        playInOrder(game2, "Runeclaw Bear", "Grizzly Bears");
+
+        AssertJUnit.assertEquals(GameStateHasher.hash(game1), GameStateHasher.hash(game2));
+    }
+
+    @Test
+    public void testDifferentStatesHashDifferently() {
+        Game game1 = createGame();
+        playInOrder(game1, "Grizzly Bears", "Runeclaw Bear");
+        Game game2 = createGame();
+        Card[] cards = playInOrder(game2, "Runeclaw Bear", "Grizzly Bears");
+        long hash = GameStateHasher.hash(game1);
+
+        cards[0].setTapped(true);
+        AssertJUnit.assertTrue(hash != GameStateHasher.hash(game2));
+        cards[0].setTapped(false);
+        AssertJUnit.assertEquals(hash, GameStateHasher.hash(game2));
+
+        cards[1].setChosenColors(Arrays.asList("red"));
+        AssertJUnit.assertTrue(hash != GameStateHasher.hash(game2));
+        cards[1].setChosenColors(null);
+        AssertJUnit.assertEquals(hash, GameStateHasher.hash(game2));
+
+        cards[1].addRemembered(cards[0]);
+        AssertJUnit.assertTrue(hash != GameStateHasher.hash(game2));
+    }
+
+    // the abilities of the caster come after the spell that casts it
+    private SpellAbility putOnStack(Card host, int ability, GameObject target) {
+        SpellAbility sa = host.getSpellAbilities().get(ability);
+        sa.setActivatingPlayer(host.getController(), true);
+        if (target != null) {
+            sa.getTargets().add(target);
+        }
+        host.getGame().getStack().add(sa);
+        return sa;
+    }
+
+    private Card addCaster(Game game) {
+        return addCard(game.getPlayers().get(0), "Caster",
+                "A:AB$ DealDamage | Cost$ 0 | ValidTgts$ Any | NumDmg$ 2 | SpellDescription$ Deal 2 damage.",
+                "A:AB$ GainLife | Cost$ 0 | LifeAmount$ 3 | SpellDescription$ Gain 3 life.");
+    }
+
+    @Test
+    public void testStackOrderAndTargets() {
+        Game game1 = createGame();
+        Card caster1 = addCaster(game1);
+        putOnStack(caster1, 1, game1.getPlayers().get(1));
+        putOnStack(caster1, 2, null);
+        AssertJUnit.assertEquals(2, game1.getStack().size());
+
+        Game game2 = createGame();
+        Card caster2 = addCaster(game2);
+        putOnStack(caster2, 1, game2.getPlayers().get(1));
+        putOnStack(caster2, 2, null);
+        AssertJUnit.assertEquals(GameStateHasher.hash(game1), GameStateHasher.hash(game2));
+
+        // the same abilities, resolving in the other order
+        Game game3 = createGame();
+        Card caster3 = addCaster(game3);
+        putOnStack(caster3, 2, null);
+        putOnStack(caster3, 1, game3.getPlayers().get(1));
+        AssertJUnit.assertTrue(GameStateHasher.hash(game1) != GameStateHasher.hash(game3));
+
+        // the same abilities, another target
+        Game game4 = createGame();
+        Card caster4 = addCaster(game4);
+        putOnStack(caster4, 1, game4.getPlayers().get(0));
+        putOnStack(caster4, 2, null);
+        AssertJUnit.assertTrue(GameStateHasher.hash(game1) != GameStateHasher.hash(game4));
+    }
+
+    // what DamagePreventEffectBase leaves in the command zone, without the card database it needs to make it
+    private Game addShieldEffect(Game game, int amount) {
+        Player p = game.getPlayers().get(0);
+        Card effect = createCard(p, "Healing Salve's Effect", "Types:Effect");
+        effect.setSVar("ShieldAmount", "Number$" + amount);
+        effect.addRemembered(p);
+        p.getZone(ZoneType.Command).add(effect);
+        return game;
+    }
+
+    @Test
+    public void testDelayedTriggersAndShields() {
+        Game game1 = createGame();
+        playInOrder(game1, "Grizzly Bears");
+        Game game2 = createGame();
+        Card bear2 = playInOrder(game2, "Grizzly Bears")[0];
+        long hash = GameStateHasher.hash(game1);
+        AssertJUnit.assertEquals(hash, GameStateHasher.hash(game2));
+
+        bear2.setSVar("TrigSac", "DB$ Sacrifice | Defined$ Self");
+        game2.getTriggerHandler().registerDelayedTrigger(TriggerHandler.parseTrigger(
+                "Mode$ Phase | Phase$ End of Turn | Execute$ TrigSac | TriggerDescription$ Sacrifice it.", bear2, false));
+        AssertJUnit.assertTrue(hash != GameStateHasher.hash(game2));
+        game2.getTriggerHandler().clearDelayedTrigger();
+        AssertJUnit.assertEquals(hash, GameStateHasher.hash(game2));
+
+        bear2.incShieldCount();
+        AssertJUnit.assertTrue(hash != GameStateHasher.hash(game2));
+
+        // prevention shields that only differ in how much they still prevent
+        hash = GameStateHasher.hash(addShieldEffect(createGame(), 3));
+        AssertJUnit.assertEquals(hash, GameStateHasher.hash(addShieldEffect(createGame(), 3)));
+        AssertJUnit.assertTrue(hash != GameStateHasher.hash(addShieldEffect(createGame(), 2)));
+    }
+}
@@ -0,0 +1,185 @@
+package forge;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A binary image of all the card scripts of a folder, so that starting up reads one file
+ * instead of tens of thousands of small ones.
+ * <p>
+ * Each script is stored with a stamp of its source (last modified time and length for a file,
+ * CRC and size for a zip entry). Scripts whose source changed are read again, and the image is
+ * rewritten after loading when anything was added, changed or removed. An image with another
+ * version or a wrong checksum is ignored and rebuilt.
+ * <p>
+ * Used by {@link CardStorageReader} from several threads while loading.
+ */
+public final class CardScriptCache {
+    private static final int MAGIC = 0x46435343; // FCSC
+    private static final int VERSION = 1;
+
+    private static final class Script {
+        private final long stamp;
+        private final long size;
+        private final List<String> lines;
+
+        private Script(final long stamp, final long size, final List<String> lines) {
+            this.stamp = stamp;
+            this.size = size;
+            this.lines = lines;
+        }
+    }
+
+    private final File file;
+    private final Map<String, Script> stored;
+    private final Map<String, Script> used = new ConcurrentHashMap<>();
+    private volatile boolean changed = false;
+
+    private CardScriptCache(final File file, final Map<String, Script> stored) {
+        this.file = file;
+        this.stored = stored;
+    }
+
+    /**
+     * Reads the image, or starts an empty one if it's missing or can't be used.
+     */
+    public static CardScriptCache load(final File file) {
+        Map<String, Script> stored = Collections.emptyMap();
+        if (file.isFile()) {
+            try {
+                stored = read(Files.readAllBytes(file.toPath()));
+            } catch (final IOException | RuntimeException e) {
+                System.err.println("Ignoring card script cache " + file + ": " + e);
+            }
+        }
+        return new CardScriptCache(file, stored);
+    }
+
+    /**
+     * @return the lines of the script stored for this key, or the ones from {@code reader}
+     * if its source changed since the image was written
+     */
+    public List<String> getScript(final String key, final long stamp, final long size, final Supplier<List<String>> reader) {
+        Script script = stored.get(key);
+        if (script == null || script.stamp != stamp || script.size != size) {
+            script = new Script(stamp, size, reader.get());
+            changed = true;
+        }
+        used.put(key, script);
+        return script.lines;
+    }
+
+    /**
+     * Rewrites the image with the scripts asked for since it was loaded, if any of them changed
+     * or if scripts were removed.
+     */
+    public void save() {
+        if (!changed && used.size() == stored.size()) {
+            return;
+        }
+        // several instances may rebuild the image at the same time, e.g. for batch simulations, so each one writes
+        // its own file and the last one to finish replaces the image with a whole one
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(file.getAbsoluteFile().getParentFile().toPath(), file.getName(), ".tmp");
+            write(tmp.toFile(), used);
+            try {
+                Files.move(tmp, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            System.err.println("Could not write card script cache " + file + ": " + e);
+            if (tmp != null) {
+                tmp.toFile().delete();
+            }
+        }
+    }
+
+    private static Map<String, Script> read(final byte[] bytes) throws IOException {
+        if (bytes.length < 8) {
+            throw new IOException("truncated");
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 8);
+        final ByteBuffer data = ByteBuffer.wrap(bytes);
+        if (data.getLong(bytes.length - 8) != crc.getValue()) {
+            throw new IOException("wrong checksum");
+        }
+
+        data.limit(bytes.length - 8);
+        if (data.getInt() != MAGIC || data.getInt() != VERSION) {
+            throw new IOException("unknown format");
+        }
+        final int count = data.getInt();
+        final Map<String, Script> result = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            final String key = readString(data);
+            final long stamp = data.getLong();
+            final long size = data.getLong();
+            final int lineCount = data.getInt();
+            final List<String> lines = new ArrayList<>(lineCount);
+            for (int j = 0; j < lineCount; j++) {
+                lines.add(readString(data));
+            }
+            result.put(key, new Script(stamp, size, lines));
+        }
+        return result;
+    }
+
+    private static void write(final File file, final Map<String, Script> scripts) throws IOException {
+        final CheckedOutputStream checked = new CheckedOutputStream(new FileOutputStream(file), new CRC32());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(scripts.size());
+            for (final Map.Entry<String, Script> e : scripts.entrySet()) {
+                final Script script = e.getValue();
+                writeString(out, e.getKey());
+                out.writeLong(script.stamp);
+                out.writeLong(script.size);
+                out.writeInt(script.lines.size());
+                for (final String line : script.lines) {
+                    writeString(out, line);
+                }
+            }
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+        }
+    }
+
+    // unlike writeUTF, not limited to 64k
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        final byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(final ByteBuffer data) throws IOException {
+        final int length = data.getInt();
+        if (length < 0 || length > data.remaining()) {
+            throw new IOException("corrupt string length");
+        }
+        final String s = new String(data.array(), data.position(), length, StandardCharsets.UTF_8);
+        data.position(data.position() + length);
+        return s;
+    }
+}
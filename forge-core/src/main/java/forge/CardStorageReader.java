@@ -73,9 +73,21 @@ public class CardStorageReader {
 
     private final boolean loadCardsLazily;
 
+    private final File scriptCacheFile;
+    private transient CardScriptCache scriptCache;
+
     public CardStorageReader(final String cardDataDir, final CardStorageReader.ProgressObserver progressObserver, boolean loadCardsLazily) {
+        this(cardDataDir, progressObserver, loadCardsLazily, null);
+    }
+
+    /**
+     * @param scriptCacheFile where to keep an image of the card scripts between runs, so they don't have to be
+     * read from each file again, see {@link CardScriptCache}; null to always read the files
+     */
+    public CardStorageReader(final String cardDataDir, final CardStorageReader.ProgressObserver progressObserver, boolean loadCardsLazily, final String scriptCacheFile) {
         this.progressObserver = progressObserver != null ? progressObserver : CardStorageReader.ProgressObserver.emptyObserver;
         this.cardsfolder = new File(cardDataDir);
+        this.scriptCacheFile = scriptCacheFile == null ? null : new File(scriptCacheFile);
 
         this.loadingTokens = cardDataDir.contains("token");
 
@@ -241,6 +253,10 @@ public class CardStorageReader {
         if (loadCardsLazily) {
             return result;
         }
+
+        if (scriptCacheFile != null) {
+            scriptCache = CardScriptCache.load(scriptCacheFile);
+        }
  
         final List<File> allFiles = collectCardFiles(new ArrayList<>(), this.cardsfolder);
         if (!allFiles.isEmpty()) {
@@ -274,6 +290,11 @@ public class CardStorageReader {
             System.out.printf("Read cards: %s archived files in %d ms (%d parts) %s%n", this.zip.size(), timeOnParse, taskZip.size(), useThreadPool ? "using thread pool" : "in same thread");
         }
 
+        if (scriptCache != null) {
+            scriptCache.save();
+            scriptCache = null;
+        }
+
         return result;
     }
 
@@ -385,27 +406,18 @@ public class CardStorageReader {
         return FileUtil.readAllLines(new InputStreamReader(inputStream, this.charset), true);
     }
 
-    /**
-     * Load a card from a txt file.
-     *
-     * @return a new Card instance
-     */
-    protected final CardRules loadCard(final CardRules.Reader reader, final File file) {
+    private List<String> readScript(final File file) {
         FileInputStream fileInputStream = null;
         try {
             fileInputStream = new FileInputStream(file);
-            reader.reset();
-            final List<String> lines = readScript(fileInputStream);
-            return reader.readCard(lines, Files.getNameWithoutExtension(file.getName()));
+            return readScript(fileInputStream);
         } catch (final FileNotFoundException ex) {
             throw new RuntimeException("CardReader : run error -- file not found: " + file.getPath(), ex);
-        } catch (final Exception ex) {
-            System.out.println("Error loading cardscript " + file.getName() + ". Please close Forge and resolve this.");
-            throw ex;
         } finally {
             try {
-                assert fileInputStream != null;
-                fileInputStream.close();
+                if (fileInputStream != null) {
+                    fileInputStream.close();
+                }
             } catch (final IOException ignored) {
                 // 11:08
                 // PM
@@ -413,21 +425,11 @@ public class CardStorageReader {
         }
     }
 
-    /**
-     * Load a card from an entry in a zip file.
-     *
-     * @param entry
-     *            to load from
-     *
-     * @return a new Card instance
-     */
-    protected final CardRules loadCard(final CardRules.Reader rulesReader, final ZipEntry entry) {
+    private List<String> readScript(final ZipEntry entry) {
         InputStream zipInputStream = null;
         try {
             zipInputStream = this.zip.getInputStream(entry);
-            rulesReader.reset();
-
-            return rulesReader.readCard(readScript(zipInputStream), Files.getNameWithoutExtension(entry.getName()));
+            return readScript(zipInputStream);
         } catch (final IOException exn) {
             throw new RuntimeException(exn);
             // PM
@@ -443,4 +445,45 @@ public class CardStorageReader {
         }
     }
 
+    /**
+     * Load a card from a txt file.
+     *
+     * @return a new Card instance
+     */
+    protected final CardRules loadCard(final CardRules.Reader reader, final File file) {
+        try {
+            reader.reset();
+            final List<String> lines;
+            if (scriptCache != null) {
+                final String key = file.getPath().substring(cardsfolder.getPath().length());
+                lines = scriptCache.getScript(key, file.lastModified(), file.length(), () -> readScript(file));
+            } else {
+                lines = readScript(file);
+            }
+            return reader.readCard(lines, Files.getNameWithoutExtension(file.getName()));
+        } catch (final Exception ex) {
+            System.out.println("Error loading cardscript " + file.getName() + ". Please close Forge and resolve this.");
+            throw ex;
+        }
+    }
+
+    /**
+     * Load a card from an entry in a zip file.
+     *
+     * @param entry
+     *            to load from
+     *
+     * @return a new Card instance
+     */
+    protected final CardRules loadCard(final CardRules.Reader rulesReader, final ZipEntry entry) {
+        rulesReader.reset();
+        final List<String> lines;
+        if (scriptCache != null) {
+            lines = scriptCache.getScript("zip:" + entry.getName(), entry.getCrc(), entry.getSize(), () -> readScript(entry));
+        } else {
+            lines = readScript(entry);
+        }
+        return rulesReader.readCard(lines, Files.getNameWithoutExtension(entry.getName()));
+    }
+
 }
@@ -25,13 +25,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
-
 /**
  * TODO: Write javadoc for this type.
  * 
@@ -68,15 +66,20 @@ public class FileSection {
 
     private static final String BAR_PAIR_SPLITTER = Pattern.quote("|");
 
-    private static Table<String, Pattern, Map<String, String>> parseToMapCache = HashBasedTable.create();
+    // concurrent since cards may be created by simulations on several threads at once
+    private static final Map<Pattern, Map<String, Map<String, String>>> parseToMapCache = new ConcurrentHashMap<>();
 
     public static Map<String, String> parseToMap(final String line, final Pattern kvSeparator) {
-        Map<String, String> result = parseToMapCache.get(line, kvSeparator);
+        if (StringUtils.isEmpty(line)) {
+            return Collections.emptyMap();
+        }
+        Map<String, Map<String, String>> cache = parseToMapCache.computeIfAbsent(kvSeparator, k -> new ConcurrentHashMap<>());
+        Map<String, String> result = cache.get(line);
         if (result != null) {
             return result;
         }
         result = parseToMapImpl(line, kvSeparator);
-        parseToMapCache.put(line, kvSeparator, result);
+        cache.put(line, result);
         return result;
     }
 
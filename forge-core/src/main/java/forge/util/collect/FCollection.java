@@ -1,12 +1,12 @@
 package forge.util.collect;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
@@ -25,13 +25,17 @@ import com.google.common.collect.Sets;
  * Collection with unique elements ({@link Set}) that maintains the order in
  * which the elements are added to it ({@link List}).
  *
+ * The order is kept in an array backed list, so indexed access is constant
+ * time and positional lookups are a plain array scan; membership is answered
+ * by the set.
+ *
  * This object is serializable if all elements it contains are.
  *
  * @param <T> the type of the elements this collection contains.
  * @see FCollectionView
  */
 public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>, Cloneable, Serializable {
-    private static final long serialVersionUID = -1664555336364294106L;
+    private static final long serialVersionUID = -1664555336364294107L;
 
     private static final FCollection<?> EMPTY = new EmptyFCollection<>();
 
@@ -48,7 +52,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
     /**
      * The {@link List} representation of this collection.
      */
-    private final LinkedList<T> list = Lists.newLinkedList();
+    private final ArrayList<T> list = Lists.newArrayList();
 
     /**
      * Create an empty {@link FCollection}.
@@ -169,7 +173,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T getFirst() {
-        return list.getFirst();
+        if (list.isEmpty()) {
+            throw new NoSuchElementException("Collection is empty");
+        }
+        return list.get(0);
     }
 
     /**
@@ -180,7 +187,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T getLast() {
-        return list.getLast();
+        if (list.isEmpty()) {
+            throw new NoSuchElementException("Collection is empty");
+        }
+        return list.get(list.size() - 1);
     }
 
     /**
@@ -306,6 +316,9 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      * @see #addAll(Collection)
      */
     public boolean addAll(final Iterable<? extends T> i) {
+        if (i instanceof Collection) {
+            list.ensureCapacity(list.size() + ((Collection<?>) i).size());
+        }
         boolean changed = false;
         for (final T e : i) {
             changed |= add(e);
@@ -533,8 +546,8 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public Iterable<T> threadSafeIterable() {
-        //create a new linked list for iterating to make it thread safe and avoid concurrent modification exceptions
-        return Iterables.unmodifiableIterable(new LinkedList<>(list));
+        //create a copy of the list for iterating to make it thread safe and avoid concurrent modification exceptions
+        return Iterables.unmodifiableIterable(new ArrayList<>(list));
     }
 
     @Override
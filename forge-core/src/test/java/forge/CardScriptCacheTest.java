@@ -0,0 +1,205 @@
+package forge;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import forge.card.CardRules;
+import forge.util.Lang;
+import forge.util.Localizer;
+
+public class CardScriptCacheTest {
+    private static final List<String> BEARS = Arrays.asList("Name:Grizzly Bears", "ManaCost:1 G", "Types:Creature Bear", "PT:2/2");
+    private static final List<String> BOLT = Arrays.asList("Name:Lightning Bolt", "ManaCost:R", "Types:Instant",
+            "A:SP$ DealDamage | ValidTgts$ Any | NumDmg$ 3 | SpellDescription$ CARDNAME deals 3 damage to any target.",
+            "Oracle:Lightning Bolt deals 3 damage to any target.");
+
+    private File dir;
+    private File image;
+
+    @BeforeClass
+    public void initLocalization() {
+        Lang.createInstance("en-US");
+        Localizer.getInstance().initialize("en-US", "../forge-gui/res/languages/");
+    }
+
+    @BeforeMethod
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("scriptcache").toFile();
+        image = new File(dir, "cards.bin");
+    }
+
+    @AfterMethod
+    public void deleteDir() {
+        deleteRecursively(dir);
+    }
+
+    private static void deleteRecursively(File f) {
+        File[] children = f.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        f.delete();
+    }
+
+    /** Counts how often the script had to be read from its source. */
+    private static Supplier<List<String>> reader(List<String> lines, AtomicInteger reads) {
+        return () -> {
+            reads.incrementAndGet();
+            return lines;
+        };
+    }
+
+    private void writeImage(Map<String, List<String>> scripts) {
+        CardScriptCache cache = CardScriptCache.load(image);
+        AtomicInteger reads = new AtomicInteger();
+        for (Map.Entry<String, List<String>> e : scripts.entrySet()) {
+            cache.getScript(e.getKey(), 1L, 10L, reader(e.getValue(), reads));
+        }
+        cache.save();
+        AssertJUnit.assertEquals(scripts.size(), reads.get());
+        AssertJUnit.assertTrue(image.isFile());
+    }
+
+    private static Map<String, List<String>> scripts(String... keys) {
+        Map<String, List<String>> result = new TreeMap<>();
+        for (String key : keys) {
+            result.put(key, key.startsWith("bears") ? BEARS : BOLT);
+        }
+        return result;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        writeImage(scripts("bears.txt", "bolt.txt"));
+
+        CardScriptCache cache = CardScriptCache.load(image);
+        AtomicInteger reads = new AtomicInteger();
+        AssertJUnit.assertEquals(BEARS, cache.getScript("bears.txt", 1L, 10L, reader(BEARS, reads)));
+        AssertJUnit.assertEquals(BOLT, cache.getScript("bolt.txt", 1L, 10L, reader(BOLT, reads)));
+        AssertJUnit.assertEquals(0, reads.get());
+
+        // nothing changed, so the image isn't written again
+        AssertJUnit.assertTrue(image.delete());
+        cache.save();
+        AssertJUnit.assertFalse(image.exists());
+        AssertJUnit.assertEquals(0, dir.list().length);
+    }
+
+    @Test
+    public void testChecksumMismatchIsIgnored() throws IOException {
+        writeImage(scripts("bears.txt"));
+        try (RandomAccessFile f = new RandomAccessFile(image, "rw")) {
+            f.seek(20);
+            int b = f.read();
+            f.seek(20);
+            f.write(b ^ 0xFF);
+        }
+
+        CardScriptCache cache = CardScriptCache.load(image);
+        AtomicInteger reads = new AtomicInteger();
+        AssertJUnit.assertEquals(BEARS, cache.getScript("bears.txt", 1L, 10L, reader(BEARS, reads)));
+        AssertJUnit.assertEquals(1, reads.get());
+
+        // and the rebuilt image can be used again
+        cache.save();
+        reads.set(0);
+        CardScriptCache.load(image).getScript("bears.txt", 1L, 10L, reader(BEARS, reads));
+        AssertJUnit.assertEquals(0, reads.get());
+    }
+
+    @Test
+    public void testChangedStampIsReadAgain() {
+        writeImage(scripts("bears.txt", "bolt.txt"));
+        List<String> newBears = new ArrayList<>(BEARS);
+        newBears.add("K:Trample");
+
+        CardScriptCache cache = CardScriptCache.load(image);
+        AtomicInteger reads = new AtomicInteger();
+        AssertJUnit.assertEquals(newBears, cache.getScript("bears.txt", 2L, 10L, reader(newBears, reads)));
+        AssertJUnit.assertEquals(BOLT, cache.getScript("bolt.txt", 1L, 10L, reader(BOLT, reads)));
+        AssertJUnit.assertEquals(1, reads.get());
+        cache.save();
+
+        // a different size with the same time is a change too
+        cache = CardScriptCache.load(image);
+        reads.set(0);
+        AssertJUnit.assertEquals(newBears, cache.getScript("bears.txt", 2L, 10L, reader(BEARS, reads)));
+        AssertJUnit.assertEquals(BOLT, cache.getScript("bolt.txt", 1L, 11L, reader(BOLT, reads)));
+        AssertJUnit.assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testRemovedScriptRewritesImage() {
+        writeImage(scripts("bears.txt", "bolt.txt"));
+        long written = image.length();
+
+        CardScriptCache cache = CardScriptCache.load(image);
+        AtomicInteger reads = new AtomicInteger();
+        cache.getScript("bears.txt", 1L, 10L, reader(BEARS, reads));
+        cache.save();
+        AssertJUnit.assertEquals(0, reads.get());
+        AssertJUnit.assertTrue(image.length() < written);
+        // no temporary files are left behind
+        AssertJUnit.assertEquals(Collections.singletonList(image.getName()), Arrays.asList(dir.list()));
+
+        cache = CardScriptCache.load(image);
+        cache.getScript("bolt.txt", 1L, 10L, reader(BOLT, reads));
+        AssertJUnit.assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testLoadedCardsAreTheSame() throws IOException {
+        File cards = new File(dir, "cardsfolder");
+        File folder = new File(cards, "b");
+        AssertJUnit.assertTrue(folder.mkdirs());
+        Files.write(new File(folder, "grizzly_bears.txt").toPath(), BEARS, StandardCharsets.UTF_8);
+        Files.write(new File(folder, "lightning_bolt.txt").toPath(), BOLT, StandardCharsets.UTF_8);
+
+        List<CardRules> plain = load(new CardStorageReader(cards.getPath(), null, false));
+        List<CardRules> cold = load(new CardStorageReader(cards.getPath(), null, false, image.getPath()));
+        AssertJUnit.assertTrue(image.isFile());
+        List<CardRules> warm = load(new CardStorageReader(cards.getPath(), null, false, image.getPath()));
+
+        AssertJUnit.assertEquals(2, plain.size());
+        AssertJUnit.assertEquals(describe(plain), describe(cold));
+        AssertJUnit.assertEquals(describe(plain), describe(warm));
+    }
+
+    private static List<CardRules> load(CardStorageReader reader) {
+        List<CardRules> result = new ArrayList<>();
+        for (CardRules rules : reader.loadCards()) {
+            result.add(rules);
+        }
+        return result;
+    }
+
+    private static List<String> describe(List<CardRules> cards) {
+        List<String> result = new ArrayList<>();
+        for (CardRules rules : cards) {
+            result.add(rules.getName() + "|" + rules.getType() + "|" + rules.getManaCost() + "|"
+                    + rules.getPower() + "/" + rules.getToughness() + "|" + rules.getOracleText()
+                    + "|" + rules.getMainPart().getAbilities());
+        }
+        Collections.sort(result);
+        return result;
+    }
+}
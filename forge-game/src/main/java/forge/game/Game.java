@@ -31,19 +31,24 @@ import forge.game.combat.Combat;
 import forge.game.event.Event;
 import forge.game.event.GameEventDayTimeChanged;
 import forge.game.event.GameEventGameOutcome;
+import forge.game.event.GameEventPlayerPriority;
+import forge.game.event.GameEventTokenStateUpdate;
 import forge.game.phase.Phase;
 import forge.game.phase.PhaseHandler;
 import forge.game.phase.PhaseType;
 import forge.game.phase.Untap;
 import forge.game.player.*;
+import forge.game.replacement.ReplacementEffectIndex;
 import forge.game.replacement.ReplacementHandler;
 import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.staticability.StaticAbilityIndex;
 import forge.game.trigger.TriggerHandler;
 import forge.game.trigger.TriggerType;
 import forge.game.zone.CostPaymentStack;
 import forge.game.zone.MagicStack;
 import forge.game.zone.Zone;
+import forge.game.zone.ZoneCardsView;
 import forge.game.zone.ZoneType;
 import forge.trackable.Tracker;
 import forge.util.Aggregates;
@@ -53,14 +58,15 @@ import forge.util.collect.FCollection;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents the state of a <i>single game</i>, a new instance is created for each game.
  */
 public class Game {
 
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /** The ID. */
     private int id;
@@ -82,8 +88,10 @@ public class Game {
     public final CostPaymentStack costPaymentStack = new CostPaymentStack();
     private final PhaseHandler phaseHandler;
     private final StaticEffects staticEffects = new StaticEffects();
+    private final StaticAbilityIndex staticAbilityIndex = new StaticAbilityIndex(this);
     private final TriggerHandler triggerHandler = new TriggerHandler(this);
     private final ReplacementHandler replacementHandler = new ReplacementHandler(this);
+    private final ReplacementEffectIndex replacementEffectIndex = new ReplacementEffectIndex(this);
     private final EventBus events = new EventBus("game events");
     private final GameLog gameLog = new GameLog();
 
@@ -91,6 +99,11 @@ public class Game {
 
     private CardCollection lastStateBattlefield = new CardCollection();
     private CardCollection lastStateGraveyard = new CardCollection();
+    // what changed since the last state was copied, see copyLastState
+    private boolean lastStateUpToDate = false;
+    private final Set<Integer> lastStateChangedCards = Sets.newHashSet();
+    // copies pointing to each other, e.g. for attachments, can't be mixed with newer ones
+    private boolean lastStateLinked = false;
 
     private CardZoneTable untilHostLeavesPlayTriggerList = new CardZoneTable();
 
@@ -118,9 +131,12 @@ public class Game {
     private long timestamp = 0;
     public final GameAction action;
     private final Match match;
+    private final long seed;
+    private final Random random;
     private GameStage age = GameStage.BeforeMulligan;
     private GameOutcome outcome;
     private final Game maingame;
+    private boolean simulation = false;
 
     private final GameView view;
     private final Tracker tracker = new Tracker();
@@ -173,7 +189,24 @@ public class Game {
         return lastStateGraveyard;
     }
 
+    /**
+     * Copies the battlefields and graveyards as last known information.
+     * <p>
+     * Copying every card is expensive, so the copies of the last time are kept for the cards that
+     * didn't change since. Game events other than priority changes and new timestamps can change
+     * anything, then all cards are copied again, see {@link #lastStateChanged()}. Applying the
+     * continuous effects only changes the cards it reports, see {@link #lastStateChanged(Iterable)},
+     * so the events fired meanwhile don't count.
+     */
     public void copyLastState() {
+        if (lastStateUpToDate) {
+            if (lastStateChangedCards.isEmpty()) {
+                return;
+            }
+            if (!lastStateLinked && copyChangedLastState()) {
+                return;
+            }
+        }
         lastStateBattlefield.clear();
         lastStateGraveyard.clear();
         Map<Integer, Card> cachedMap = Maps.newHashMap();
@@ -181,8 +214,66 @@ public class Game {
             lastStateBattlefield.addAll(p.getZone(ZoneType.Battlefield).getLKICopy(cachedMap));
             lastStateGraveyard.addAll(p.getZone(ZoneType.Graveyard).getLKICopy(cachedMap));
         }
+        lastStateLinked = Iterables.any(cachedMap.values(), Game::isLinkedLKI);
+        lastStateChangedCards.clear();
+        lastStateUpToDate = true;
+    }
+
+    private boolean copyChangedLastState() {
+        Map<Integer, Card> kept = Maps.newHashMap();
+        for (final Card lki : Iterables.concat(lastStateBattlefield, lastStateGraveyard)) {
+            if (!lastStateChangedCards.contains(lki.getId())) {
+                kept.put(lki.getId(), lki);
+            }
+        }
+        CardCollection battlefield = new CardCollection();
+        CardCollection graveyard = new CardCollection();
+        Map<Integer, Card> cachedMap = Maps.newHashMap();
+        for (final Player p : getPlayers()) {
+            battlefield.addAll(p.getZone(ZoneType.Battlefield).getLKICopy(cachedMap, kept));
+            graveyard.addAll(p.getZone(ZoneType.Graveyard).getLKICopy(cachedMap, kept));
+        }
+        // the new copies can't point to the kept ones
+        if (Iterables.any(cachedMap.values(), Game::isLinkedLKI)) {
+            return false;
+        }
+        lastStateBattlefield.clear();
+        lastStateBattlefield.addAll(battlefield);
+        lastStateGraveyard.clear();
+        lastStateGraveyard.addAll(graveyard);
+        lastStateChangedCards.clear();
+        return true;
+    }
+
+    private static boolean isLinkedLKI(final Card lki) {
+        return lki.hasCardAttachments() || lki.getEntityAttachedTo() != null || lki.getMeldedWith() != null
+                || lki.getExiledWith() != null || lki.getEffectSource() != null;
+    }
+
+    /**
+     * Lets the game know that anything may have changed since {@link #copyLastState()}.
+     */
+    public void lastStateChanged() {
+        lastStateUpToDate = false;
+    }
+
+    /**
+     * Lets the game know that these cards may have changed since {@link #copyLastState()}.
+     */
+    public void lastStateChanged(final Iterable<Card> cards) {
+        if (!lastStateUpToDate) {
+            return;
+        }
+        for (final Card c : cards) {
+            lastStateChangedCards.add(c.getId());
+        }
     }
 
+    /**
+     * Fresh copies of the cards in that zone, unlike {@link #copyLastState()} this doesn't reuse any:
+     * it's called while a spell resolves, after changes no event reports (like a chosen color), and
+     * the caller may change the copies.
+     */
     public CardCollectionView copyLastState(ZoneType type) {
         CardCollection result = new CardCollection();
         Map<Integer, Card> cachedMap = Maps.newHashMap();
@@ -214,6 +305,8 @@ public class Game {
             lastStateBattlefield.remove(c);
             lastStateGraveyard.remove(c);
             lookup.add(CardUtil.getLKICopy(c));
+            // a new copy would have the cards in zone order again
+            lastStateUpToDate = false;
         }
     }
 
@@ -265,13 +358,23 @@ public class Game {
     }
 
     public Game(Iterable<RegisteredPlayer> players0, GameRules rules0, Match match0) {
-        this(players0, rules0, match0, null, -1);
+        this(players0, rules0, match0, match0 != null ? match0.nextGameSeed() : MyRandom.getRandom().nextLong());
+    }
+
+    public Game(Iterable<RegisteredPlayer> players0, GameRules rules0, Match match0, long seed0) {
+        this(players0, rules0, match0, null, -1, seed0);
     }
 
-    public Game(Iterable<RegisteredPlayer> players0, GameRules rules0, Match match0, Game maingame0, int startingLife) { /* no more zones to map here */
+    public Game(Iterable<RegisteredPlayer> players0, GameRules rules0, Match match0, Game maingame0, int startingLife) {
+        this(players0, rules0, match0, maingame0, startingLife, maingame0.getRandom().nextLong());
+    }
+
+    private Game(Iterable<RegisteredPlayer> players0, GameRules rules0, Match match0, Game maingame0, int startingLife, long seed0) { /* no more zones to map here */
         rules = rules0;
         match = match0;
         maingame = maingame0;
+        seed = seed0;
+        random = new Random(seed0);
         this.id = nextId();
 
         int highestTeam = -1;
@@ -434,6 +537,10 @@ public class Game {
         return staticEffects;
     }
 
+    public final StaticAbilityIndex getStaticAbilityIndex() {
+        return staticAbilityIndex;
+    }
+
     public final TriggerHandler getTriggerHandler() {
         return triggerHandler;
     }
@@ -491,6 +598,8 @@ public class Game {
      * Create and return the next timestamp.
      */
     public final long getNextTimestamp() {
+        staticEffects.stateChanged();
+        lastStateChanged();
         timestamp = getTimestamp() + 1;
         return getTimestamp();
     }
@@ -506,10 +615,25 @@ public class Game {
         return maingame;
     }
 
+    /**
+     * A simulation game is a copy made for the AI to look ahead, nobody ever watches it.
+     * Some view data that is expensive to work out is then only built when actually read.
+     */
+    public boolean isSimulation() {
+        return simulation;
+    }
+    public void setSimulation(boolean simulation) {
+        this.simulation = simulation;
+    }
+
     public ReplacementHandler getReplacementHandler() {
         return replacementHandler;
     }
 
+    public ReplacementEffectIndex getReplacementEffectIndex() {
+        return replacementEffectIndex;
+    }
+
     public synchronized boolean isGameOver() {
         return age == GameStage.GameOver;
     }
@@ -564,11 +688,26 @@ public class Game {
     }
 
     public CardCollectionView getCardsIn(final Iterable<ZoneType> zones) {
-        CardCollection cards = new CardCollection();
-        for (final ZoneType z : zones) {
-            cards.addAll(getCardsIn(z));
-        }
-        return cards;
+        // copied once instead of zone by zone
+        return new CardCollection(getCardsInView(ImmutableList.copyOf(zones)));
+    }
+
+    /**
+     * The same cards as {@link #getCardsIn(Iterable)} without copying them, for callers that only
+     * look at them or count them. See {@link ZoneCardsView}.
+     */
+    public ZoneCardsView getCardsInView(final ZoneType... zones) {
+        return new ZoneCardsView(this, Arrays.asList(zones));
+    }
+    public ZoneCardsView getCardsInView(final List<ZoneType> zones) {
+        return new ZoneCardsView(this, zones);
+    }
+
+    public int countCardsIn(final ZoneType zone, final Predicate<Card> predicate) {
+        return getCardsInView(zone).count(predicate);
+    }
+    public int countCardsIn(final List<ZoneType> zones, final Predicate<Card> predicate) {
+        return getCardsInView(zones).count(predicate);
     }
 
     public CardCollectionView getCardsInOwnedBy(final Iterable<ZoneType> zones, Player p) {
@@ -580,15 +719,15 @@ public class Game {
     }
 
     public boolean isCardExiled(final Card c) {
-        return getCardsIn(ZoneType.Exile).contains(c);
+        return getCardsInView(ZoneType.Exile).contains(c);
     }
 
     public boolean isCardInPlay(final String cardName) {
-        return Iterables.any(getCardsIn(ZoneType.Battlefield), CardPredicates.nameEquals(cardName));
+        return getCardsInView(ZoneType.Battlefield).anyMatch(CardPredicates.nameEquals(cardName));
     }
 
     public boolean isCardInCommand(final String cardName) {
-        return Iterables.any(getCardsIn(ZoneType.Command), CardPredicates.nameEquals(cardName));
+        return getCardsInView(ZoneType.Command).anyMatch(CardPredicates.nameEquals(cardName));
     }
 
     public CardCollectionView getColoredCardsInPlay(final String color) {
@@ -725,6 +864,22 @@ public class Game {
         return match;
     }
 
+    /**
+     * @return the seed of {@link #getRandom()}, written in the game log so that the game can be replayed
+     * with {@link Match#createGame(long)}
+     */
+    public final long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Where the random numbers of this game come from. While {@link Match#startGame(Game)} plays it,
+     * {@link MyRandom#getRandom()} returns this on the thread of the game.
+     */
+    public final Random getRandom() {
+        return random;
+    }
+
     /**
      * Get the player whose turn it is after a given player's turn, taking turn
      * order into account.
@@ -933,6 +1088,16 @@ public class Game {
      * The events are sent to UI, log and sound system. Network listeners are under development.
      */
     public void fireEvent(final Event event) {
+        if (!(event instanceof GameEventPlayerPriority)) {
+            staticEffects.stateChanged();
+            if (event instanceof GameEventTokenStateUpdate) {
+                // only refreshes the view of these cards
+                lastStateChanged(((GameEventTokenStateUpdate) event).cards);
+            } else if (!staticEffects.isApplying()) {
+                // the changes of the continuous effects are reported card by card, see GameAction.checkStaticAbilities
+                lastStateChanged();
+            }
+        }
         events.post(event);
     }
     public void subscribeToEvents(final Object subscriber) {
@@ -1100,6 +1265,7 @@ public class Game {
     public void clearCaches() {
         lastStateBattlefield.clear();
         lastStateGraveyard.clear();
+        lastStateUpToDate = false;
         //playerCache.clear();
     }
 
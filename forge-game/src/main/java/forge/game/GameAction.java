@@ -1048,7 +1048,7 @@ public class GameAction {
 
     // This doesn't check layers or if the ability gets removed by other effects
     public boolean hasStaticAbilityAffectingZone(ZoneType zone, StaticAbilityLayer layer) {
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith("Continuous")) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions("Continuous")) {
                     continue;
@@ -1079,77 +1079,62 @@ public class GameAction {
         }
         game.getTracker().freeze(); //prevent views flickering during while updating for state-based effects
 
-        // remove old effects
-        game.getStaticEffects().clearStaticEffects(affectedCards);
+        final StaticEffects staticEffects = game.getStaticEffects();
+        // preList means that this is run by a pre Check with LKI objects, which is never up to date
+        final boolean upToDate = preList.isEmpty() && staticEffects.isUpToDate();
+        final boolean apply = !upToDate || staticEffects.isVerifyIncremental();
+        final Map<Card, String> before = upToDate && staticEffects.isVerifyIncremental() ? describeContinuousEffects() : null;
 
-        for (final Player p : game.getPlayers()) {
-            p.clearStaticAbilities();
-        }
-
-        // search for cards with static abilities
         final FCollection<StaticAbility> staticAbilities = new FCollection<>();
         final CardCollection staticList = new CardCollection();
 
-        game.forEachCardInGame(new Visitor<Card>() {
-            @Override
-            public boolean visit(final Card c) {
-                // need to get Card from preList if able
-                final Card co = preList.get(c);
-                for (StaticAbility stAb : co.getStaticAbilities()) {
-                    if (stAb.checkMode("Continuous")) {
-                        staticAbilities.add(stAb);
-                    }
-                 }
-                 if (!co.getStaticCommandList().isEmpty()) {
-                     staticList.add(co);
-                 }
-                 return true;
-            }
-        }, true);
+        staticEffects.setApplying(true);
+        try {
+            if (apply) {
+                // remove old effects
+                staticEffects.clearStaticEffects(affectedCards);
 
-        final Comparator<StaticAbility> comp = new Comparator<StaticAbility>() {
-            @Override
-            public int compare(final StaticAbility a, final StaticAbility b) {
-                return ComparisonChain.start()
-                        .compareTrueFirst(a.hasParam("CharacteristicDefining"), b.hasParam("CharacteristicDefining"))
-                        .compare(a.getHostCard().getTimestamp(), b.getHostCard().getTimestamp())
-                        .result();
+                for (final Player p : game.getPlayers()) {
+                    p.clearStaticAbilities();
+                }
             }
-        };
-        Collections.sort(staticAbilities, comp);
 
-        final Map<StaticAbility, CardCollectionView> affectedPerAbility = Maps.newHashMap();
-        for (final StaticAbilityLayer layer : StaticAbilityLayer.CONTINUOUS_LAYERS) {
-            List<StaticAbility> toAdd = Lists.newArrayList();
-            for (final StaticAbility stAb : staticAbilities) {
-                final CardCollectionView previouslyAffected = affectedPerAbility.get(stAb);
-                final CardCollectionView affectedHere;
-                if (previouslyAffected == null) {
-                    affectedHere = stAb.applyContinuousAbilityBefore(layer, preList);
-                    if (affectedHere != null) {
-                        affectedPerAbility.put(stAb, affectedHere);
-                    }
-                } else {
-                    affectedHere = previouslyAffected;
-                    stAb.applyContinuousAbility(layer, previouslyAffected);
-                }
-                if (affectedHere != null) {
-                    for (final Card c : affectedHere) {
-                        for (final StaticAbility st2 : c.getStaticAbilities()) {
-                            if (!staticAbilities.contains(st2)) {
-                                toAdd.add(st2);
-                                st2.applyContinuousAbilityBefore(layer, preList);
+            // search for cards with static abilities
+            game.forEachCardInGame(new Visitor<Card>() {
+                @Override
+                public boolean visit(final Card c) {
+                    // need to get Card from preList if able
+                    final Card co = preList.get(c);
+                    if (apply) {
+                        for (StaticAbility stAb : co.getStaticAbilities()) {
+                            if (stAb.checkMode("Continuous")) {
+                                staticAbilities.add(stAb);
                             }
                         }
                     }
+                    if (!co.getStaticCommandList().isEmpty()) {
+                        staticList.add(co);
+                    }
+                    return true;
                 }
+            }, true);
+
+            if (apply) {
+                applyContinuousAbilities(staticAbilities, affectedCards, preList);
             }
-            staticAbilities.addAll(toAdd);
+        } finally {
+            staticEffects.setApplying(false);
         }
+        staticEffects.setUpToDate(preList.isEmpty());
 
-        for (final CardCollectionView affected : affectedPerAbility.values()) {
-            if (affected != null) {
-                Iterables.addAll(affectedCards, affected);
+        String outOfDate = null;
+        if (before != null) {
+            final Map<Card, String> after = describeContinuousEffects();
+            for (final Map.Entry<Card, String> e : after.entrySet()) {
+                if (!e.getValue().equals(before.get(e.getKey()))) {
+                    outOfDate = "Continuous effects were out of date for " + e.getKey() + ": " + before.get(e.getKey()) + " -> " + e.getValue();
+                    break;
+                }
             }
         }
 
@@ -1170,7 +1155,10 @@ public class GameAction {
                     affectedCards.add(c);
                 }
             }
-            c.getStaticCommandList().removeAll(toRemove);
+            if (!toRemove.isEmpty()) {
+                c.getStaticCommandList().removeAll(toRemove);
+                staticEffects.stateChanged();
+            }
         }
 
         // preList means that this is run by a pre Check with LKI objects
@@ -1199,6 +1187,10 @@ public class GameAction {
             game.getTriggerHandler().runTrigger(TriggerType.Immediate, runParams, false);
         }
 
+        if (!affectedCards.isEmpty()) {
+            game.lastStateChanged(affectedCards);
+        }
+
         // Update P/T and type in the view only once after all the cards have been processed, to avoid flickering
         for (Card c : affectedCards) {
             c.updateNameforView();
@@ -1210,9 +1202,92 @@ public class GameAction {
         // TODO filter out old copies from zone change
 
         if (runEvents && !affectedCards.isEmpty()) {
-            game.fireEvent(new GameEventCardStatsChanged(affectedCards));
+            // only reports what was already applied
+            staticEffects.setApplying(true);
+            try {
+                game.fireEvent(new GameEventCardStatsChanged(affectedCards));
+            } finally {
+                staticEffects.setApplying(false);
+            }
         }
         game.getTracker().unfreeze();
+
+        if (outOfDate != null) {
+            // a change of the game that wasn't reported to StaticEffects#stateChanged
+            throw new IllegalStateException(outOfDate);
+        }
+    }
+
+    private void applyContinuousAbilities(final FCollection<StaticAbility> staticAbilities, final Set<Card> affectedCards, final CardCollectionView preList) {
+        final Comparator<StaticAbility> comp = new Comparator<StaticAbility>() {
+            @Override
+            public int compare(final StaticAbility a, final StaticAbility b) {
+                return ComparisonChain.start()
+                        .compareTrueFirst(a.hasParam("CharacteristicDefining"), b.hasParam("CharacteristicDefining"))
+                        .compare(a.getHostCard().getTimestamp(), b.getHostCard().getTimestamp())
+                        .result();
+            }
+        };
+        Collections.sort(staticAbilities, comp);
+
+        final Map<StaticAbility, CardCollectionView> affectedPerAbility = Maps.newHashMap();
+        for (final StaticAbilityLayer layer : StaticAbilityLayer.CONTINUOUS_LAYERS) {
+            List<StaticAbility> toAdd = Lists.newArrayList();
+            for (final StaticAbility stAb : staticAbilities) {
+                final CardCollectionView previouslyAffected = affectedPerAbility.get(stAb);
+                final CardCollectionView affectedHere;
+                if (previouslyAffected == null) {
+                    affectedHere = stAb.applyContinuousAbilityBefore(layer, preList);
+                    if (affectedHere != null) {
+                        affectedPerAbility.put(stAb, affectedHere);
+                    }
+                } else {
+                    affectedHere = previouslyAffected;
+                    stAb.applyContinuousAbility(layer, previouslyAffected);
+                }
+                if (affectedHere != null) {
+                    for (final Card c : affectedHere) {
+                        for (final StaticAbility st2 : c.getStaticAbilities()) {
+                            if (!staticAbilities.contains(st2)) {
+                                toAdd.add(st2);
+                                st2.applyContinuousAbilityBefore(layer, preList);
+                            }
+                        }
+                    }
+                }
+            }
+            staticAbilities.addAll(toAdd);
+        }
+
+        for (final CardCollectionView affected : affectedPerAbility.values()) {
+            if (affected != null) {
+                Iterables.addAll(affectedCards, affected);
+            }
+        }
+    }
+
+    // what the continuous effects decide about each card, to compare incremental updates with applying them again
+    private Map<Card, String> describeContinuousEffects() {
+        final Map<Card, String> result = Maps.newHashMap();
+        game.forEachCardInGame(new Visitor<Card>() {
+            @Override
+            public boolean visit(final Card c) {
+                StringBuilder sb = new StringBuilder();
+                sb.append(c.getName()).append(" ").append(c.getController());
+                sb.append(" ").append(c.getNetPower()).append("/").append(c.getNetToughness());
+                sb.append(" ").append(c.getType()).append(" ").append(c.getColor());
+                for (final KeywordInterface kw : c.getKeywords()) {
+                    sb.append(" ").append(kw.getOriginal());
+                }
+                sb.append(" S").append(c.getSpellAbilities().size());
+                sb.append(" T").append(c.getTriggers().size());
+                sb.append(" R").append(c.getReplacementEffects().size());
+                sb.append(" A").append(c.getStaticAbilities().size());
+                result.put(c, sb.toString());
+                return true;
+            }
+        }, true);
+        return result;
     }
 
     public final boolean checkStateEffects(final boolean runEvents) {
@@ -1330,7 +1405,7 @@ public class GameAction {
                 }
 
                 if (c.hasKeyword("The number of loyalty counters on CARDNAME is equal to the number of Beebles you control.")) {
-                    int beeble = CardLists.getValidCardCount(game.getCardsIn(ZoneType.Battlefield), "Beeble.YouCtrl", c.getController(), c, null);
+                    int beeble = CardLists.getValidCardCount(game.getCardsInView(ZoneType.Battlefield), "Beeble.YouCtrl", c.getController(), c, null);
                     int loyal = c.getCounters(CounterEnumType.LOYALTY);
                     if (loyal < beeble) {
                         GameEntityCounterTable counterTable = new GameEntityCounterTable();
@@ -1451,7 +1526,13 @@ public class GameAction {
         game.getTracker().unfreeze();
 
         if (runEvents && !affectedCards.isEmpty()) {
-            game.fireEvent(new GameEventCardStatsChanged(affectedCards));
+            // the changes themselves were already reported
+            game.getStaticEffects().setApplying(true);
+            try {
+                game.fireEvent(new GameEventCardStatsChanged(affectedCards));
+            } finally {
+                game.getStaticEffects().setApplying(false);
+            }
         }
 
         // recheck the game over condition at this point to make sure no other win conditions apply now.
@@ -1835,7 +1916,7 @@ public class GameAction {
     }
 
     private boolean handleWorldRule(CardCollection noRegCreats) {
-        final List<Card> worlds = CardLists.getType(game.getCardsIn(ZoneType.Battlefield), "World");
+        final List<Card> worlds = CardLists.getType(game.getCardsInView(ZoneType.Battlefield), "World");
         if (worlds.size() <= 1) {
             return false;
         }
@@ -2019,7 +2100,7 @@ public class GameAction {
 
         //shuffle
         List<Card> shuffledCards = Lists.newArrayList(p1.getZone(ZoneType.Library).getCards().threadSafeIterable());
-        Collections.shuffle(shuffledCards);
+        Collections.shuffle(shuffledCards, MyRandom.getRandom());
 
         //check a second hand
         List<Card> hand2 = shuffledCards.subList(0,p1.getMaxHandSize());
@@ -2564,7 +2645,7 @@ public class GameAction {
                     zones.remove(ZoneType.Graveyard);
                 }
             }
-            list.addAll(game.getCardsIn(zones));
+            list.addAll(game.getCardsInView(zones));
 
             list = CardLists.filter(list, CardPredicates.canBeAttached(source, aura));
             if (list.isEmpty()) {
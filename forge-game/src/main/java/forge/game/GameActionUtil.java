@@ -404,7 +404,7 @@ public final class GameActionUtil {
         }
 
         final CardCollection costSources = new CardCollection(source);
-        costSources.addAll(game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES));
+        costSources.addAll(game.getStaticAbilityIndex().getCardsWith("OptionalCost"));
         for (final Card ca : costSources) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions("OptionalCost")) {
@@ -28,7 +28,7 @@ import java.util.*;
 import java.util.Map.Entry;
 
 public class Match {
-    private static List<PaperCard> removedCards = Lists.newArrayList();
+    private final List<PaperCard> removedCards = Lists.newArrayList();
     private final List<RegisteredPlayer> players;
     private final GameRules rules;
     private final String title;
@@ -38,12 +38,43 @@ public class Match {
 
     private GameOutcome lastOutcome = null;
 
+    private long seed;
+    private SplittableRandom gameSeeds = null;
+    private boolean firstGameSeeded = false;
+
     public Match(final GameRules rules0, final List<RegisteredPlayer> players0, final String title) {
         players = Collections.unmodifiableList(Lists.newArrayList(players0));
         rules = rules0;
         this.title = title;
     }
 
+    public long getSeed() {
+        if (gameSeeds == null) {
+            // drawn when first needed, the copies of a game made by the AI don't need one
+            setSeed(MyRandom.getRandom().nextLong());
+        }
+        return seed;
+    }
+
+    /**
+     * Sets the seed of the next game, the ones after it get seeds drawn from it, so that a whole match can be played again.
+     */
+    public void setSeed(final long seed0) {
+        seed = seed0;
+        gameSeeds = new SplittableRandom(seed0);
+        firstGameSeeded = false;
+    }
+
+    long nextGameSeed() {
+        getSeed();
+        if (!firstGameSeeded) {
+            // a game can be played again in a new match with the seed from its log
+            firstGameSeeded = true;
+            return seed;
+        }
+        return gameSeeds.nextLong();
+    }
+
     public GameRules getRules() {
         return rules;
     }
@@ -71,11 +102,30 @@ public class Match {
         return new Game(players, rules, this);
     }
 
+    /**
+     * Creates a game whose random numbers come from the given seed, e.g. the one written in the log of a game to play again.
+     */
+    public Game createGame(final long gameSeed) {
+        return new Game(players, rules, this, gameSeed);
+    }
+
     public void startGame(final Game game) {
         startGame(game, null);
     }
 
     public void startGame(final Game game, Runnable startGameHook) {
+        // the game is played on this thread, so this makes every use of MyRandom in it draw from the game's own seed
+        final Random previousRandom = MyRandom.getThreadRandom();
+        MyRandom.setThreadRandom(game.getRandom());
+        try {
+            playGame(game, startGameHook);
+        } finally {
+            MyRandom.setThreadRandom(previousRandom);
+        }
+    }
+
+    private void playGame(final Game game, Runnable startGameHook) {
+        game.getGameLog().add(GameLogEntryType.INFORMATION, "Random seed: " + game.getSeed());
         prepareAllZones(game);
         if (rules.useAnte()) {  // Deciding which cards go to ante
             Multimap<Player, Card> list = game.chooseCardsForAnte(rules.getMatchAnteRarity());
@@ -186,7 +236,7 @@ public class Match {
         return myRemovedAnteCards;
     }
 
-    public static List<PaperCard> getRemovedCards() { return removedCards; }
+    public List<PaperCard> getRemovedCards() { return removedCards; }
 
     public void removeCard(PaperCard c) {
         removedCards.add(c);
@@ -42,6 +42,13 @@ public class StaticEffects {
     //Global rule changes
     private final Set<GlobalRuleChange> ruleChanges = EnumSet.noneOf(GlobalRuleChange.class);
 
+    // With incremental updates, the continuous effects are only applied again after something happened in the game
+    private boolean incremental = false;
+    private boolean verifyIncremental = false;
+    private boolean upToDate = false;
+    private boolean applying = false;
+    private long changes = 0;
+
     public final void clearStaticEffects(final Set<Card> affectedCards) {
         ruleChanges.clear();
 
@@ -52,6 +59,63 @@ public class StaticEffects {
         this.staticEffects.clear();
     }
 
+    /**
+     * Whether the continuous effects only need to be applied again after the game changed since the last time,
+     * see {@link GameAction#checkStaticAbilities(boolean, Set, forge.game.card.CardCollectionView)}.
+     * The game reports its changes through {@link #stateChanged()}, which covers game events and new timestamps.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+    public void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+        upToDate = false;
+    }
+
+    /**
+     * For debugging: apply the continuous effects even when they are up to date, and fail with an
+     * {@link IllegalStateException} when a card came out different, i.e. after a change of the game
+     * that wasn't reported.
+     */
+    public boolean isVerifyIncremental() {
+        return verifyIncremental;
+    }
+    public void setVerifyIncremental(final boolean verify) {
+        this.verifyIncremental = verify;
+    }
+
+    public boolean isUpToDate() {
+        return incremental && upToDate;
+    }
+    public void setUpToDate(final boolean upToDate) {
+        this.upToDate = upToDate;
+    }
+
+    /**
+     * Changes made while the continuous effects are being applied are their result, not a reason to apply them again.
+     */
+    public void setApplying(final boolean applying) {
+        this.applying = applying;
+    }
+    public boolean isApplying() {
+        return applying;
+    }
+
+    public void stateChanged() {
+        changes++;
+        if (!applying) {
+            upToDate = false;
+        }
+    }
+
+    /**
+     * @return how many changes the game reported through {@link #stateChanged()}, to tell whether
+     * anything happened since some earlier point
+     */
+    public long getChangeCount() {
+        return changes;
+    }
+
     public void setGlobalRuleChange(final GlobalRuleChange change) {
         this.ruleChanges.add(change);
     }
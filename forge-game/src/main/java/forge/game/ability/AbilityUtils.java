@@ -489,9 +489,8 @@ public class AbilityUtils {
         } else if (calcX[0].startsWith("Number")) {
             val = xCount(card, svarval, ability);
         } else if (calcX[0].startsWith("SVar")) {
-            final String[] l = calcX[1].split("/");
-            final String m = CardFactoryUtil.extractOperators(calcX[1]);
-            val = doXMath(calculateAmount(card, l[0], ability), m, card, ability);
+            final CountExpression l = CountExpression.of(calcX[1]);
+            val = l.applyMath(calculateAmount(card, l.getFirst(), ability), card, ability);
         } else if (calcX[0].startsWith("PlayerCount")) {
             final String hType = calcX[0].substring(11);
             final FCollection<Player> players = new FCollection<>();
@@ -689,19 +688,19 @@ public class AbilityUtils {
                 // TriggerCount is similar to a regular Count, but just
                 // pulls Integer Values from Trigger objects
                 final SpellAbility root = sa.getRootAbility();
-                final String[] l = calcX[1].split("/");
-                final String m = CardFactoryUtil.extractOperators(calcX[1]);
+                final CountExpression l = CountExpression.of(calcX[1]);
+                final String m = l.getOperators();
                 Integer count = null;
                 if (calcX[0].endsWith("Max")) {
                     @SuppressWarnings("unchecked")
-                    Iterable<Integer> numbers = (Iterable<Integer>) root.getTriggeringObject(AbilityKey.fromString(l[0]));
+                    Iterable<Integer> numbers = (Iterable<Integer>) root.getTriggeringObject(AbilityKey.fromString(l.getFirst()));
                     for (Integer n : numbers) {
                         if (count == null || n > count) {
                             count = n;
                         }
                     }
                 } else {
-                    count = (Integer) root.getTriggeringObject(AbilityKey.fromString(l[0]));
+                    count = (Integer) root.getTriggeringObject(AbilityKey.fromString(l.getFirst()));
                 }
 
                 val = doXMath(ObjectUtils.firstNonNull(count, 0), m, card, ability);
@@ -710,9 +709,9 @@ public class AbilityUtils {
                 // ReplaceCount is similar to a regular Count, but just
                 // pulls Integer Values from Replacement objects
                 final SpellAbility root = sa.getRootAbility();
-                final String[] l = calcX[1].split("/");
-                final String m = CardFactoryUtil.extractOperators(calcX[1]);
-                final Integer count = (Integer) root.getReplacingObject(AbilityKey.fromString(l[0]));
+                final CountExpression l = CountExpression.of(calcX[1]);
+                final String m = l.getOperators();
+                final Integer count = (Integer) root.getReplacingObject(AbilityKey.fromString(l.getFirst()));
 
                 val = doXMath(ObjectUtils.firstNonNull(count, 0), m, card, ability);
             } else { // these ones only for handling lists
@@ -1632,9 +1631,8 @@ public class AbilityUtils {
      * @return a int.
      */
     public static int xCount(final Card c, final String s, final CardTraitBase ctb) {
-        final String s2 = applyAbilityTextChangeEffects(s, ctb);
-        final String[] l = s2.split("/");
-        final String expr = CardFactoryUtil.extractOperators(s2);
+        final CountExpression parsed = CountExpression.of(applyAbilityTextChangeEffects(s, ctb));
+        final String expr = parsed.getOperators();
 
         Player player = null;
         if (ctb != null) {
@@ -1647,23 +1645,22 @@ public class AbilityUtils {
         }
 
         // accept straight numbers
-        if (l[0].startsWith("Number$")) {
-            final String number = l[0].substring(7);
+        if (parsed.getFirst().startsWith("Number$")) {
+            final String number = parsed.getFirst().substring(7);
             return doXMath(Integer.parseInt(number), expr, c, ctb);
         }
 
-        if (l[0].startsWith("Count$")) {
-            l[0] = l[0].substring(6);
-        }
+        // without a leading Count$
+        final String countStr = parsed.getCount();
 
-        if (l[0].startsWith("SVar$")) {
-            String n = l[0].substring(5);
+        if (countStr.startsWith("SVar$")) {
+            String n = countStr.substring(5);
             String v = ctb == null ? c.getSVar(n) : ctb.getSVar(n);
             return doXMath(xCount(c, v, ctb), expr, c, ctb);
         }
 
-        final String[] sq;
-        sq = l[0].split("\\.");
+        // shared with the cached expression, don't modify
+        final String[] sq = parsed.getProperties();
 
         final Game game = c.getGame();
 
@@ -1822,7 +1819,7 @@ public class AbilityUtils {
                 }
 
                 if (sq[0].startsWith("LastStateBattlefield")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = countStr.split(" ");
                     CardCollectionView list;
                     // this is only for spells that were cast
                     if (sq[0].contains("WithFallback")) {
@@ -1846,7 +1843,7 @@ public class AbilityUtils {
                 }
 
                 if (sq[0].startsWith("LastStateGraveyard")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = countStr.split(" ");
                     CardCollectionView list;
                     // this is only for spells that were cast
                     if (sq[0].contains("WithFallback")) {
@@ -1892,14 +1889,14 @@ public class AbilityUtils {
             } else {
                 // fallback if ctb isn't a spellability
                 if (sq[0].startsWith("LastStateBattlefield")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = countStr.split(" ");
                     CardCollectionView list = game.getLastStateBattlefield();
                     list = CardLists.getValidCards(list, k[1], player, c, ctb);
                     return doXMath(list.size(), expr, c, ctb);
                 }
 
                 if (sq[0].startsWith("LastStateGraveyard")) {
-                    final String[] k = l[0].split(" ");
+                    final String[] k = countStr.split(" ");
                     CardCollectionView list = game.getLastStateGraveyard();
                     list = CardLists.getValidCards(list, k[1], player, c, ctb);
                     return doXMath(list.size(), expr, c, ctb);
@@ -2046,7 +2043,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("TotalValue")) {
-            return doXMath(c.getKeywordMagnitude(Keyword.smartValueOf(l[0].split(" ")[1])), expr, c, ctb);
+            return doXMath(c.getKeywordMagnitude(Keyword.smartValueOf(countStr.split(" ")[1])), expr, c, ctb);
         }
         if (sq[0].contains("TimesKicked")) {
             return doXMath(isUnlinkedFromCastSA(ctb, c) ? 0 : c.getKickerMagnitude(), expr, c, ctb);
@@ -2148,7 +2145,7 @@ public class AbilityUtils {
 
         // Count$AttachedTo <restriction>
         if (sq[0].startsWith("AttachedTo")) {
-            final String[] k = l[0].split(" ");
+            final String[] k = countStr.split(" ");
             int sum = CardLists.getValidCardCount(c.getAttachedCards(), k[1], player, c, ctb);
             return doXMath(sum, expr, c, ctb);
         }
@@ -2309,7 +2306,7 @@ public class AbilityUtils {
             return doXMath(player.getCommanderCast(c), expr, c, ctb);
         }
 
-        if (l[0].startsWith("TotalCommanderCastFromCommandZone")) {
+        if (countStr.startsWith("TotalCommanderCastFromCommandZone")) {
             return doXMath(player.getTotalCommanderCast(), expr, c, ctb);
         }
 
@@ -2354,7 +2351,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("TotalDamageThisTurn")) {
-            String[] props = l[0].split(" ");
+            String[] props = countStr.split(" ");
             int sum = 0;
             for (Pair<Integer, Boolean> p : c.getDamageReceivedThisTurn()) {
                 if (game.getDamageLKI(p).getLeft().isValid(props[1], player, c, ctb)) {
@@ -2365,7 +2362,7 @@ public class AbilityUtils {
         }
 
         if (sq[0].contains("DamageThisTurn")) {
-            String[] props = l[0].split(" ");
+            String[] props = countStr.split(" ");
             Boolean isCombat = null;
             if (sq[0].contains("CombatDamage")) {
                 isCombat = !sq[0].contains("Non");
@@ -2394,7 +2391,7 @@ public class AbilityUtils {
         if (sq[0].startsWith("TypesSharedWith")) {
             Set<CardType.CoreType> thisTypes = Sets.newHashSet(c.getType().getCoreTypes());
             Set<CardType.CoreType> matches = new HashSet<>();
-            for (Card c1 : AbilityUtils.getDefinedCards(ctb.getHostCard(), l[0].split(" ", 2)[1], ctb)) {
+            for (Card c1 : AbilityUtils.getDefinedCards(ctb.getHostCard(), countStr.split(" ", 2)[1], ctb)) {
                 for (CardType.CoreType type : Sets.newHashSet(c1.getType().getCoreTypes())) {
                     if (thisTypes.contains(type)) {
                         matches.add(type);
@@ -2432,28 +2429,28 @@ public class AbilityUtils {
 
         // Count$CardAttackedThisTurn <Valid>
         if (sq[0].startsWith("CreaturesAttackedThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = countStr.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(player.getCreaturesAttackedThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
 
         // Count$LeftBattlefieldThisTurn <Valid>
         if (sq[0].startsWith("LeftBattlefieldThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = countStr.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(game.getLeftBattlefieldThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
 
         // Count$LeftBattlefieldThisTurn <Valid>
         if (sq[0].startsWith("LeftGraveyardThisTurn")) {
-            final String[] workingCopy = l[0].split(" ", 2);
+            final String[] workingCopy = countStr.split(" ", 2);
             final String validFilter = workingCopy[1];
             return doXMath(CardLists.getValidCardCount(game.getLeftGraveyardThisTurn(), validFilter, player, c, ctb), expr, c, ctb);
         }
 
         // Manapool
         if (sq[0].startsWith("ManaPool")) {
-            final String color = l[0].split(":")[1];
+            final String color = countStr.split(":")[1];
             int v = 0;
             if (color.equals("All")) {
                 v = player.getManaPool().totalMana();
@@ -2591,11 +2588,11 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("CreatureType")) {
-            String[] sqparts = l[0].split(" ", 2);
+            String[] sqparts = countStr.split(" ", 2);
             final String[] rest = sqparts[1].split(",");
 
-            final CardCollectionView cardsInZones = sqparts[0].length() > 12
-                ? game.getCardsIn(ZoneType.listValueOf(sqparts[0].substring(12)))
+            final Iterable<Card> cardsInZones = sqparts[0].length() > 12
+                ? game.getCardsInView(ZoneType.listValueOf(sqparts[0].substring(12)))
                 : game.getCardsIn(ZoneType.Battlefield);
 
             CardCollection cards = CardLists.getValidCards(cardsInZones, rest, player, c, ctb);
@@ -2635,12 +2632,12 @@ public class AbilityUtils {
             return doXMath(colorOcurrencices, expr, c, ctb);
         }
 
-        if (l[0].contains("ExactManaCost")) {
-            String[] sqparts = l[0].split(" ", 2);
+        if (countStr.contains("ExactManaCost")) {
+            String[] sqparts = countStr.split(" ", 2);
             final String[] rest = sqparts[1].split(",");
 
-            final CardCollectionView cardsInZones = sqparts[0].length() > 13
-                ? game.getCardsIn(ZoneType.listValueOf(sqparts[0].substring(13)))
+            final Iterable<Card> cardsInZones = sqparts[0].length() > 13
+                ? game.getCardsInView(ZoneType.listValueOf(sqparts[0].substring(13)))
                 : game.getCardsIn(ZoneType.Battlefield);
 
             CardCollection cards = CardLists.getValidCards(cardsInZones, rest, player, c, ctb);
@@ -2715,7 +2712,7 @@ public class AbilityUtils {
             return MyRandom.getRandom().nextInt(1+max-min) + min;
         }
 
-        String[] paidparts = l[0].split("\\$", 2);
+        String[] paidparts = countStr.split("\\$", 2);
         Iterable<Card> someCards = null;
 
         // Count$ThisTurnCast <Valid>
@@ -2747,13 +2744,13 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("CountersAddedThisTurn")) {
-            final String[] parts = l[0].split(" ");
+            final String[] parts = countStr.split(" ");
             CounterType cType = CounterType.getType(parts[1]);
 
             return doXMath(game.getCounterAddedThisTurn(cType, parts[2], parts[3], c, player, ctb), expr, c, ctb);
         }
         if (sq[0].startsWith("CountersRemovedThisTurn")) {
-            final String[] parts = l[0].split(" ");
+            final String[] parts = countStr.split(" ");
             CounterType cType = CounterType.getType(parts[1]);
 
             return doXMath(game.getCounterRemovedThisTurn(cType, parts[2], c, player, ctb), expr, c, ctb);
@@ -2763,7 +2760,7 @@ public class AbilityUtils {
         if (sq[0].startsWith("Valid")) {
             String[] lparts = paidparts[0].split(" ", 2);
 
-            CardCollectionView cardsInZones = null;
+            Iterable<Card> cardsInZones = null;
             if (lparts[0].contains("All")) {
                 cardsInZones = game.getCardsInGame();
             } else {
@@ -2782,7 +2779,7 @@ public class AbilityUtils {
                     }
                 }
                 if (!usedLastState) {
-                    cardsInZones = game.getCardsIn(zones);
+                    cardsInZones = game.getCardsInView(zones);
                 }
             }
 
@@ -2790,11 +2787,11 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("MostCardName")) {
-            String[] lparts = l[0].split(" ", 2);
+            String[] lparts = countStr.split(" ", 2);
             final String[] rest = lparts[1].split(",");
 
-            final CardCollectionView cardsInZones = lparts[0].length() > 12
-                ? game.getCardsIn(ZoneType.listValueOf(lparts[0].substring(12)))
+            final Iterable<Card> cardsInZones = lparts[0].length() > 12
+                ? game.getCardsInView(ZoneType.listValueOf(lparts[0].substring(12)))
                 : game.getCardsIn(ZoneType.Battlefield);
 
             CardCollection cards = CardLists.getValidCards(cardsInZones, rest, player, c, ctb);
@@ -2816,7 +2813,7 @@ public class AbilityUtils {
 
         if (sq[0].startsWith("DifferentCardNames_")) {
             final List<String> crdname = Lists.newArrayList();
-            final String restriction = l[0].substring(19);
+            final String restriction = countStr.substring(19);
             CardCollection list = CardLists.getValidCards(game.getCardsInGame(), restriction, player, c, ctb);
             for (final Card card : list) {
                 String name = card.getName();
@@ -2829,46 +2826,46 @@ public class AbilityUtils {
         }
 
         if (sq[0].startsWith("MostProminentCreatureType")) {
-            String restriction = l[0].split(" ")[1];
-            CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
+            String restriction = countStr.split(" ")[1];
+            CardCollection list = CardLists.getValidCards(game.getCardsInView(ZoneType.Battlefield), restriction, player, c, ctb);
             return doXMath(CardFactoryUtil.getMostProminentCreatureTypeSize(list), expr, c, ctb);
         }
 
         if (sq[0].startsWith("SecondMostProminentColor")) {
-            String restriction = l[0].split(" ")[1];
-            CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
+            String restriction = countStr.split(" ")[1];
+            CardCollection list = CardLists.getValidCards(game.getCardsInView(ZoneType.Battlefield), restriction, player, c, ctb);
             int[] colorSize = CardFactoryUtil.SortColorsFromList(list);
             return doXMath(colorSize[colorSize.length - 2], expr, c, ctb);
         }
 
         if (sq[0].startsWith("ColorsCtrl")) {
-            final String restriction = l[0].substring(11);
+            final String restriction = countStr.substring(11);
             final CardCollection list = CardLists.getValidCards(player.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
             return doXMath(CardUtil.getColorsFromCards(list).countColors(), expr, c, ctb);
         }
 
         if (sq[0].startsWith("ColorsDefined")) {
-            final String restriction = l[0].substring(14);
+            final String restriction = countStr.substring(14);
             final CardCollection list = getDefinedCards(c, restriction, ctb);
             return doXMath(CardUtil.getColorsFromCards(list).countColors(), expr, c, ctb);
         }
 
         // TODO move below to handlePaid
         if (sq[0].startsWith("SumPower")) {
-            final String[] restrictions = l[0].split("_");
-            CardCollection filteredCards = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restrictions[1], player, c, ctb);
+            final String[] restrictions = countStr.split("_");
+            CardCollection filteredCards = CardLists.getValidCards(game.getCardsInView(ZoneType.Battlefield), restrictions[1], player, c, ctb);
             return doXMath(Aggregates.sum(filteredCards, CardPredicates.Accessors.fnGetNetPower), expr, c, ctb);
         }
         if (sq[0].startsWith("DifferentPower_")) {
-            final String restriction = l[0].substring(15);
-            CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), restriction, player, c, ctb);
+            final String restriction = countStr.substring(15);
+            CardCollection list = CardLists.getValidCards(game.getCardsInView(ZoneType.Battlefield), restriction, player, c, ctb);
             final Iterable<Card> powers = Aggregates.uniqueByLast(list, CardPredicates.Accessors.fnGetNetPower);
             return doXMath(Iterables.size(powers), expr, c, ctb);
         }
         if (sq[0].startsWith("DifferentCounterKinds_")) {
             final Set<CounterType> kinds = Sets.newHashSet();
-            final String rest = l[0].substring(22);
-            CardCollection list = CardLists.getValidCards(game.getCardsIn(ZoneType.Battlefield), rest, player, c, ctb);
+            final String rest = countStr.substring(22);
+            CardCollection list = CardLists.getValidCards(game.getCardsInView(ZoneType.Battlefield), rest, player, c, ctb);
             for (final Card card : list) {
                 kinds.addAll(card.getCounters().keySet());
             }
@@ -3170,65 +3167,7 @@ public class AbilityUtils {
     }
 
     public static int doXMath(final int num, final String operators, final Card c, CardTraitBase ctb) {
-        if (operators == null || operators.equals("none")) {
-            return num;
-        }
-
-        final String[] s = operators.split("\\.");
-        int secondaryNum = 0;
-
-        try {
-            if (s.length == 2) {
-                secondaryNum = Integer.parseInt(s[1]);
-            }
-        } catch (final Exception e) {
-            secondaryNum = calculateAmount(c, s[1], ctb);
-        }
-
-        if (s[0].contains("Plus")) {
-            return num + secondaryNum;
-        } else if (s[0].contains("NMinus")) {
-            return secondaryNum - num;
-        } else if (s[0].contains("Minus")) {
-            return num - secondaryNum;
-        } else if (s[0].contains("Twice")) {
-            return num * 2;
-        } else if (s[0].contains("Thrice")) {
-            return num * 3;
-        } else if (s[0].contains("HalfUp")) {
-            return (int) (Math.ceil(num / 2.0));
-        } else if (s[0].contains("HalfDown")) {
-            return (int) (Math.floor(num / 2.0));
-        } else if (s[0].contains("ThirdUp")) {
-            return (int) (Math.ceil(num / 3.0));
-        } else if (s[0].contains("ThirdDown")) {
-            return (int) (Math.floor(num / 3.0));
-        } else if (s[0].contains("Negative")) {
-            return num * -1;
-        } else if (s[0].contains("Times")) {
-            return num * secondaryNum;
-        } else if (s[0].contains("DivideEvenlyDown")) {
-            if (secondaryNum == 0) {
-                return 0;
-            }
-            return num / secondaryNum;
-        } else if (s[0].contains("Mod")) {
-            return num % secondaryNum;
-        } else if (s[0].contains("Abs")) {
-            return Math.abs(num);
-        } else if (s[0].contains("LimitMax")) {
-            if (num < secondaryNum) {
-                return num;
-            }
-            return secondaryNum;
-        } else if (s[0].contains("LimitMin")) {
-            if (num > secondaryNum) {
-                return num;
-            }
-            return secondaryNum;
-        } else {
-            return num;
-        }
+        return CountExpression.applyMath(num, operators, c, ctb);
     }
 
     /**
@@ -3382,7 +3321,7 @@ public class AbilityUtils {
         // count valid cards on the battlefield
         if (l[0].startsWith("Valid ")) {
             final String restrictions = l[0].substring(6);
-            int num = CardLists.getValidCardCount(game.getCardsIn(ZoneType.Battlefield), restrictions, player, source, ctb);
+            int num = CardLists.getValidCardCount(game.getCardsInView(ZoneType.Battlefield), restrictions, player, source, ctb);
             return doXMath(num, m, source, ctb);
         }
 
@@ -3391,7 +3330,7 @@ public class AbilityUtils {
             String[] lparts = l[0].split(" ", 2);
             final List<ZoneType> vZone = ZoneType.listValueOf(lparts[0].split("Valid")[1]);
             String restrictions = TextUtil.fastReplace(l[0], TextUtil.addSuffix(lparts[0]," "), "");
-            int num = CardLists.getValidCardCount(game.getCardsIn(vZone), restrictions, player, source, ctb);
+            int num = CardLists.getValidCardCount(game.getCardsInView(vZone), restrictions, player, source, ctb);
             return doXMath(num, m, source, ctb);
         }
 
@@ -3818,10 +3757,8 @@ public class AbilityUtils {
         // "Named <CARDNAME> in all graveyards" - Count$NamedAllYards.<CARDNAME>
 
         if (sq[0].contains("Named")) {
-            if (sq[1].equals("CARDNAME")) {
-                sq[1] = c.getName();
-            }
-            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(sq[1]));
+            final String name = sq[1].equals("CARDNAME") ? c.getName() : sq[1];
+            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(name));
         }
 
         // Refined qualities
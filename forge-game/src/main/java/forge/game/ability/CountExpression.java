@@ -0,0 +1,203 @@
+package forge.game.ability;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import forge.game.CardTraitBase;
+import forge.game.card.Card;
+
+/**
+ * The parsed form of a count expression like {@code Count$Valid Creature.YouCtrl/Plus.2}.
+ * <p>
+ * {@link AbilityUtils#xCount} and {@link AbilityUtils#doXMath} are evaluated over and over with the
+ * same strings, mostly by the AI predicting X values and damage. The string splitting is done once here
+ * and shared through a cache keyed by the expression string. Text changes produce a different string,
+ * so they simply end up with their own entry.
+ * <p>
+ * Instances are shared: the arrays they hand out must be treated as read-only.
+ */
+public final class CountExpression {
+
+    // text changes and Compare/ChosenNumber style expressions can build strings at runtime
+    private static final int MAX_CACHE_SIZE = 20000;
+    private static final Map<String, CountExpression> cache = new ConcurrentHashMap<>();
+    private static final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    public static CountExpression of(final String expression) {
+        CountExpression result = cache.get(expression);
+        if (result == null) {
+            result = new CountExpression(expression);
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(expression, result);
+        }
+        return result;
+    }
+
+    private final String first;
+    private final String count;
+    private final String[] properties;
+    private final String operators;
+
+    private CountExpression(final String expression) {
+        final String[] l = expression.split("/");
+        first = l[0];
+        operators = l.length > 1 ? l[1] : null;
+        count = first.startsWith("Count$") ? first.substring(6) : first;
+        properties = count.split("\\.");
+    }
+
+    /**
+     * @return the part before the math operators, as written.
+     */
+    public String getFirst() {
+        return first;
+    }
+
+    /**
+     * @return the part before the math operators, without a leading {@code Count$}.
+     */
+    public String getCount() {
+        return count;
+    }
+
+    /**
+     * @return {@link #getCount()} split on dots; shared, don't modify it.
+     */
+    public String[] getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return the math operators after the slash, or null when there are none.
+     */
+    public String getOperators() {
+        return operators;
+    }
+
+    /**
+     * Same as {@link AbilityUtils#doXMath} with the operators of this expression.
+     */
+    public int applyMath(final int num, final Card c, final CardTraitBase ctb) {
+        return applyMath(num, operators, c, ctb);
+    }
+
+    public static int applyMath(final int num, final String operators, final Card c, final CardTraitBase ctb) {
+        if (operators == null) {
+            return num;
+        }
+        Operation op = operations.get(operators);
+        if (op == null) {
+            op = new Operation(operators);
+            if (operations.size() >= MAX_CACHE_SIZE) {
+                operations.clear();
+            }
+            operations.put(operators, op);
+        }
+        return op.apply(num, c, ctb);
+    }
+
+    private enum Operator {
+        // checked in this order, the first one contained in the operator name wins
+        Plus, NMinus, Minus, Twice, Thrice, HalfUp, HalfDown, ThirdUp, ThirdDown,
+        Negative, Times, DivideEvenlyDown, Mod, Abs, LimitMax, LimitMin
+    }
+
+    /**
+     * A parsed {@code Operator.Amount} suffix. The amount is either a plain number or
+     * something for {@link AbilityUtils#calculateAmount} to work out on every call.
+     */
+    private static final class Operation {
+        private final Operator operator;
+        private final int secondary;
+        private final String secondaryAmount;
+
+        private Operation(final String operators) {
+            if (operators.equals("none")) {
+                operator = null;
+                secondary = 0;
+                secondaryAmount = null;
+                return;
+            }
+
+            final String[] s = operators.split("\\.");
+            int num = 0;
+            String amount = null;
+            if (s.length == 2) {
+                try {
+                    num = Integer.parseInt(s[1]);
+                } catch (final NumberFormatException e) {
+                    amount = s[1];
+                }
+            }
+            secondary = num;
+            secondaryAmount = amount;
+
+            Operator found = null;
+            for (final Operator o : Operator.values()) {
+                if (s[0].contains(o.name())) {
+                    found = o;
+                    break;
+                }
+            }
+            operator = found;
+        }
+
+        private int apply(final int num, final Card c, final CardTraitBase ctb) {
+            if (operator == null && secondaryAmount == null) {
+                return num;
+            }
+            final int secondaryNum = secondaryAmount == null ? secondary : AbilityUtils.calculateAmount(c, secondaryAmount, ctb);
+            if (operator == null) {
+                return num;
+            }
+
+            switch (operator) {
+            case Plus:
+                return num + secondaryNum;
+            case NMinus:
+                return secondaryNum - num;
+            case Minus:
+                return num - secondaryNum;
+            case Twice:
+                return num * 2;
+            case Thrice:
+                return num * 3;
+            case HalfUp:
+                return (int) (Math.ceil(num / 2.0));
+            case HalfDown:
+                return (int) (Math.floor(num / 2.0));
+            case ThirdUp:
+                return (int) (Math.ceil(num / 3.0));
+            case ThirdDown:
+                return (int) (Math.floor(num / 3.0));
+            case Negative:
+                return num * -1;
+            case Times:
+                return num * secondaryNum;
+            case DivideEvenlyDown:
+                if (secondaryNum == 0) {
+                    return 0;
+                }
+                return num / secondaryNum;
+            case Mod:
+                return num % secondaryNum;
+            case Abs:
+                return Math.abs(num);
+            case LimitMax:
+                if (num < secondaryNum) {
+                    return num;
+                }
+                return secondaryNum;
+            case LimitMin:
+                if (num > secondaryNum) {
+                    return num;
+                }
+                return secondaryNum;
+            default:
+                return num;
+            }
+        }
+    }
+}
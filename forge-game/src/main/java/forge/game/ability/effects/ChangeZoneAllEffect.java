@@ -59,7 +59,7 @@ public class ChangeZoneAllEffect extends SpellAbilityEffect {
         CardCollectionView lastStateGraveyard = game.copyLastStateGraveyard();
 
         if ((!sa.usesTargeting() && !sa.hasParam("Defined")) || sa.hasParam("UseAllOriginZones")) {
-            cards = new CardCollection(game.getCardsIn(origin));
+            cards = new CardCollection(game.getCardsInView(origin));
         } else {
             cards = new CardCollection();
             for (final Player p : tgtPlayers) {
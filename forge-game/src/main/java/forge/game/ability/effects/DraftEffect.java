@@ -12,6 +12,7 @@ import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
 import forge.game.zone.ZoneType;
 import forge.util.Localizer;
+import forge.util.MyRandom;
 
 import java.util.*;
 
@@ -52,7 +53,7 @@ import java.util.*;
 
          for (int i = 0; i < numToDraft; i++) {
              String chosen = "";
-             Collections.shuffle(spellbook);
+             Collections.shuffle(spellbook, MyRandom.getRandom());
              List<Card> draftOptions = new ArrayList<>();
              for (String name : spellbook.subList(0, 3)) {
                  // Cardnames that include "," must use ";" instead in Spellbook$ (i.e. Tovolar; Dire Overlord)
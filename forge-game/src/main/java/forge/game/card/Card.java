@@ -50,6 +50,7 @@ import forge.game.player.Player;
 import forge.game.player.PlayerCollection;
 import forge.game.replacement.ReplaceMoved;
 import forge.game.replacement.ReplacementEffect;
+import forge.game.replacement.ReplacementEffectIndex;
 import forge.game.replacement.ReplacementHandler;
 import forge.game.replacement.ReplacementLayer;
 import forge.game.replacement.ReplacementResult;
@@ -135,6 +136,16 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     private final Table<Long, Long, CardChangedType> changedCardTypesCharacterDefining = TreeBasedTable.create(); // Layer 4 CDA
     private final Table<Long, Long, CardChangedType> changedCardTypes = TreeBasedTable.create(); // Layer 4
 
+    // characteristics derived from the changed types/colors and the keywords, for the state they were computed for
+    // cleared by characteristicsChanged() whenever one of their inputs changes
+    // the keywords themselves aren't memoized here: CardState already caches them, and rebuilding that cache
+    // bumps the state's characteristics version, which also invalidates ptSwitchedMemo
+    private CharacteristicMemo<CardTypeView> typeMemo;
+    private CharacteristicMemo<ColorSet> colorMemo;
+    private CharacteristicMemo<Boolean> ptSwitchedMemo;
+    // bumped by modified(), see getModificationCount()
+    private int modifications = 0;
+
     private final Table<Long, Long, CardChangedName> changedCardNames = TreeBasedTable.create(); // Layer 3
     private final Table<Long, Long, KeywordsChange> changedCardKeywordsByText = TreeBasedTable.create(); // Layer 3 by Text Change
     protected KeywordsChange changedCardKeywordsByWord = new KeywordsChange(ImmutableList.<KeywordInterface>of(), ImmutableList.<KeywordInterface>of(), false); // Layer 3 by Word Change
@@ -483,6 +494,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         // For Ertai's Meddling a morph spell
         currentState = CardUtil.getFaceDownCharacteristic(this, CardStateName.Original);
         states.put(CardStateName.Original, currentState);
+        traitsChanged();
     }
 
     public boolean setState(final CardStateName state, boolean updateView) {
@@ -522,6 +534,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
         currentStateName = state;
         currentState = getState(state);
+        traitsChanged();
 
         if (updateView) {
             view.updateState(this);
@@ -1195,15 +1208,19 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void addEncodedCard(final Card c) {
         encodedCards = view.addCard(encodedCards, c, TrackableProperty.EncodedCards);
+        modified();
     }
     public final void addEncodedCards(final Iterable<Card> cards) {
         encodedCards = view.addCards(encodedCards, cards, TrackableProperty.EncodedCards);
+        modified();
     }
     public final void removeEncodedCard(final Card c) {
         encodedCards = view.removeCard(encodedCards, c, TrackableProperty.EncodedCards);
+        modified();
     }
     public final void clearEncodedCards() {
         encodedCards = view.clearCards(encodedCards, TrackableProperty.EncodedCards);
+        modified();
     }
 
     public final Card getEncodingCard() {
@@ -1697,6 +1714,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         getGame().getTriggerHandler().runTrigger(TriggerType.CounterRemovedOnce, runParams, false);
     }
 
+    @Override
+    public void setCounters(final CounterType counterType, final Integer num) {
+        super.setCounters(counterType, num);
+        modified();
+    }
+
     @Override
     public final void setCounters(final Map<CounterType, Integer> allCounters) {
         boolean changed = false;
@@ -1707,6 +1730,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         }
         counters = allCounters;
         view.updateCounters(this);
+        modified();
 
         for (CounterType ct : counters.keySet()) {
             if (addCounterTimestamp(ct, false)) {
@@ -1724,6 +1748,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (counters.isEmpty()) { return; }
         counters.clear();
         view.updateCounters(this);
+        modified();
 
         boolean changed = false;
         for (CounterType ct : Lists.newArrayList(counterTypeTimestamps.keySet())) {
@@ -1765,6 +1790,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final void setSVar(final String var, final String str) {
         currentState.setSVar(var, str);
+        modified();
     }
 
     public final void copyChangedSVarsFrom(Card other) {
@@ -1784,17 +1810,21 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final void setSVars(final Map<String, String> newSVars) {
         currentState.setSVars(newSVars);
+        modified();
     }
 
     public final void removeSVar(final String var) {
         currentState.removeSVar(var);
+        modified();
     }
 
     public final void addChangedSVars(Map<String, String> map, long timestamp, long staticId) {
         this.changedSVars.put(timestamp, staticId, map);
+        modified();
     }
     public final void removeChangedSVars(long timestamp, long staticId) {
         this.changedSVars.remove(timestamp, staticId);
+        modified();
     }
 
     public final int getTurnInZone() {
@@ -2769,7 +2799,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
         // CantBlockBy static abilities
         if (game != null && isCreature() && isInPlay()) {
-            for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+            for (final Card ca : game.getStaticAbilityIndex().getCardsWith("CantBlockBy", StaticAbilityCantAttackBlock.MinMaxBlockerMode)) {
                 if (equals(ca)) {
                     continue;
                 }
@@ -3537,6 +3567,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public void setCameUnderControlSinceLastUpkeep(boolean underControlSinceLastUpkeep) {
         this.cameUnderControlSinceLastUpkeep = underControlSinceLastUpkeep;
+        modified();
     }
 
     public final Player getOwner() {
@@ -3572,16 +3603,19 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         controller = player;
         controllerTimestamp = tstamp;
         view.updateController(this);
+        modified();
     }
 
     public final void addTempController(final Player player, final long tstamp) {
         tempControllers.put(tstamp, player);
         view.updateController(this);
+        modified();
     }
 
     public final void removeTempController(final long tstamp) {
         if (tempControllers.remove(tstamp) != null) {
             view.updateController(this);
+            modified();
         }
     }
 
@@ -3593,6 +3627,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         }
         if (changed) {
             view.updateController(this);
+            modified();
         }
     }
 
@@ -3600,6 +3635,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (tempControllers.isEmpty()) { return; }
         tempControllers.clear();
         view.updateController(this);
+        modified();
     }
 
     public final void clearControllers() {
@@ -3742,6 +3778,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (entityAttachedTo == e) { return; }
         entityAttachedTo = e;
         view.updateAttachedTo(this);
+        modified();
     }
     public final void removeAttachedTo(final GameEntity e) {
         if (entityAttachedTo == e) {
@@ -3892,19 +3929,60 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return getType(currentState);
     }
     public final CardTypeView getType(CardState state) {
-        final Iterable<CardChangedType> changedCardTypes = getChangedCardTypes();
-        if (Iterables.isEmpty(changedCardTypes)) {
+        if (!hasChangedCardTypes()) {
             return state.getType();
         }
+        CardTypeView types;
+        final CharacteristicMemo<CardTypeView> memo = typeMemo;
+        if (memo != null && memo.isFor(state)) {
+            types = memo.value;
+        } else {
+            types = state.getType().getTypeWithChanges(getChangedCardTypes());
+            typeMemo = new CharacteristicMemo<>(state, types);
+        }
         // CR 506.4 attacked planeswalkers leave combat
-        boolean checkCombat = state.getType().isPlaneswalker() && game.getCombat() != null && !game.getCombat().getAttackersOf(this).isEmpty();
-        CardTypeView types = state.getType().getTypeWithChanges(changedCardTypes);
-        if (checkCombat && !types.isPlaneswalker()) {
+        if (state.getType().isPlaneswalker() && !types.isPlaneswalker()
+                && game.getCombat() != null && !game.getCombat().getAttackersOf(this).isEmpty()) {
             game.getCombat().removeFromCombat(this);
         }
         return types;
     }
 
+    /**
+     * Forget the memoized type, color and switched P/T, because one of the layer tables they are computed from changed.
+     */
+    public final void characteristicsChanged() {
+        typeMemo = null;
+        colorMemo = null;
+        ptSwitchedMemo = null;
+        // the type decides about the loyalty, defense and lore counter replacement effects, so both the
+        // replacement effect index and the static ability index look at the card again
+        traitsChanged();
+    }
+
+    /**
+     * A derived characteristic together with the state (and its version) it was computed for.
+     */
+    private static final class CharacteristicMemo<T> {
+        private final CardState state;
+        private final int stateVersion;
+        private final T value;
+
+        private CharacteristicMemo(final CardState state, final T value) {
+            this.state = state;
+            this.stateVersion = state.getCharacteristicsVersion();
+            this.value = value;
+        }
+
+        private boolean isFor(final CardState other) {
+            return state == other && stateVersion == other.getCharacteristicsVersion();
+        }
+    }
+
+    private boolean hasChangedCardTypes() {
+        return !(changedCardTypesByText.isEmpty() && changedTypeByText == null && changedCardTypesCharacterDefining.isEmpty() && changedCardTypes.isEmpty());
+    }
+
     public final CardTypeView getOriginalType() {
         return getOriginalType(currentState);
     }
@@ -3917,7 +3995,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         // If there are no changed types, just return an empty immutable list, which actually
         // produces a surprisingly large speedup by avoid lots of temp objects and making iteration
         // over the result much faster. (This function gets called a lot!)
-        if (changedCardTypesByText.isEmpty() && changedTypeByText == null && changedCardTypesCharacterDefining.isEmpty() && changedCardTypes.isEmpty()) {
+        if (!hasChangedCardTypes()) {
             return ImmutableList.of();
         }
         Iterable<CardChangedType> byText = changedTypeByText == null ? ImmutableList.of() : ImmutableList.of(this.changedTypeByText);
@@ -3955,6 +4033,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             changed = true;
         changedCardTypes.clear();
 
+        characteristicsChanged();
         return changed;
     }
 
@@ -3973,6 +4052,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             changed = true;
         changedCardColors.clear();
 
+        characteristicsChanged();
         return changed;
     }
 
@@ -4013,6 +4093,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
                 EnumSet.of(RemoveType.SuperTypes,
                         RemoveType.CardTypes,
                         RemoveType.SubTypes)));
+        characteristicsChanged();
 
         // setting card type via text, does overwrite any other word change effects?
         this.changedTextColors.addEmpty(timestamp, staticId);
@@ -4030,6 +4111,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             final long timestamp, final long staticId, final boolean updateView, final boolean cda) {
         (cda ? changedCardTypesCharacterDefining : changedCardTypes).put(timestamp, staticId, new CardChangedType(
                 addType, removeType, addAllCreatureTypes, remove));
+        characteristicsChanged();
         if (updateView) {
             updateTypesForView();
         }
@@ -4058,6 +4140,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         boolean removed = false;
         removed |= changedCardTypes.remove(timestamp, staticId) != null;
         removed |= changedCardTypesCharacterDefining.remove(timestamp, staticId) != null;
+        if (removed) {
+            characteristicsChanged();
+        }
         if (removed && updateView) {
             updateTypesForView();
         }
@@ -4065,11 +4150,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public void addColorByText(final ColorSet color, final long timestamp, final long staticId) {
         changedCardColorsByText.put(timestamp, staticId, new CardColor(color, false));
+        characteristicsChanged();
         updateColorForView();
     }
 
     public final void addColor(final ColorSet color, final boolean addToColors, final long timestamp, final long staticId, final boolean cda) {
         (cda ? changedCardColorsCharacterDefining : changedCardColors).put(timestamp, staticId, new CardColor(color, addToColors));
+        characteristicsChanged();
         updateColorForView();
     }
 
@@ -4080,6 +4167,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         removed |= changedCardColorsCharacterDefining.remove(timestampIn, staticId) != null;
 
         if (removed) {
+            characteristicsChanged();
             updateColorForView();
         }
     }
@@ -4100,6 +4188,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return getColor(currentState);
     }
     public final ColorSet getColor(CardState state) {
+        final CharacteristicMemo<ColorSet> memo = colorMemo;
+        if (memo != null && memo.isFor(state)) {
+            return memo.value;
+        }
         byte colors = state.getColor();
         for (final CardColor cc : getChangedCardColors()) {
             if (cc.isAdditional()) {
@@ -4108,7 +4200,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
                 colors = cc.getColorMask();
             }
         }
-        return ColorSet.fromMask(colors);
+        final ColorSet result = ColorSet.fromMask(colors);
+        colorMemo = new CharacteristicMemo<>(state, result);
+        return result;
     }
 
     public final int getCurrentLoyalty() {
@@ -4250,6 +4344,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void setPTTable(Table<Long, Long, Pair<Integer, Integer>> table) {
         newPT.clear();
         newPT.putAll(table);
+        modified();
     }
 
     public final Table<Long, Long, Pair<Integer, Integer>> getSetPTCharacterDefiningTable() {
@@ -4259,10 +4354,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void setPTCharacterDefiningTable(Table<Long, Long, Pair<Integer, Integer>> table) {
         newPTCharacterDefining.clear();
         newPTCharacterDefining.putAll(table);
+        modified();
     }
 
     public final void addNewPTByText(final Integer power, final Integer toughness, final long timestamp, final long staticId) {
         newPTText.put(timestamp, staticId, Pair.of(power, toughness));
+        modified();
         updatePTforView();
     }
 
@@ -4271,6 +4368,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void addNewPT(final Integer power, final Integer toughness, final long timestamp, final long staticId, final boolean cda) {
         (cda ? newPTCharacterDefining : newPT).put(timestamp, staticId, Pair.of(power, toughness));
+        modified();
         updatePTforView();
     }
 
@@ -4282,6 +4380,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         removed |= newPTCharacterDefining.remove(timestamp, staticId) != null;
 
         if (removed) {
+            modified();
             updatePTforView();
         }
     }
@@ -4340,14 +4439,24 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
                 - 2 * getCounters(CounterEnumType.M2M2) - getCounters(CounterEnumType.M1M0) + 2 * getCounters(CounterEnumType.P2P0);
     }
 
+    public final boolean isPTSwitched() {
+        final CharacteristicMemo<Boolean> memo = ptSwitchedMemo;
+        if (memo != null && memo.isFor(currentState)) {
+            return memo.value;
+        }
+        final boolean switched = getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0;
+        ptSwitchedMemo = new CharacteristicMemo<>(currentState, switched);
+        return switched;
+    }
+
     public final StatBreakdown getNetPowerBreakdown() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedToughnessBreakdown();
         }
         return getUnswitchedPowerBreakdown();
     }
     public final int getNetPower() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedToughness();
         }
         return getUnswitchedPower();
@@ -4405,7 +4514,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final StatBreakdown getNetToughnessBreakdown() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedPowerBreakdown();
         }
         return getUnswitchedToughnessBreakdown();
@@ -4547,10 +4656,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public void addPTBoost(final Integer power, final Integer toughness, final long timestamp, final long staticId) {
         boostPT.put(timestamp, staticId, Pair.of(power, toughness));
+        modified();
     }
 
     public void removePTBoost(final long timestamp, final long staticId) {
         boostPT.remove(timestamp, staticId);
+        modified();
     }
 
     public Table<Long, Long, Pair<Integer, Integer>> getPTBoostTable() {
@@ -4560,6 +4671,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public void setPTBoost(Table<Long, Long, Pair<Integer, Integer>> table) {
         this.boostPT.clear();
         boostPT.putAll(table);
+        modified();
     }
 
     public final boolean isUntapped() {
@@ -4573,6 +4685,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (tapped == tapped0) { return; }
         tapped = tapped0;
         view.updateTapped(this);
+        modified();
     }
 
     public final boolean canTap() {
@@ -4647,12 +4760,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         for (Table.Cell<Long, Long, CardTraitChanges> e : changes.cellSet()) {
             changedCardTraitsByText.put(e.getRowKey(), e.getColumnKey(), e.getValue().copy(this, true));
         }
+        traitsChanged();
     }
     public final void addChangedCardTraitsByText(Collection<SpellAbility> spells,
             Collection<Trigger> trigger, Collection<ReplacementEffect> replacements, Collection<StaticAbility> statics, long timestamp, long staticId) {
         changedCardTraitsByText.put(timestamp, staticId, new CardTraitChanges(
             spells, null, trigger, replacements, statics, true, false
         ));
+        traitsChanged();
         // update view
         updateAbilityTextForView();
     }
@@ -4788,12 +4903,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         changedCardTraits.put(timestamp, staticId, new CardTraitChanges(
             spells, removedAbilities, trigger, replacements, statics, removeAll, removeNonMana
         ));
+        traitsChanged();
         // update view
         updateAbilityTextForView();
     }
 
     public final void addChangedCardTraits(CardTraitChanges ctc, long timestamp, long staticId) {
         changedCardTraits.put(timestamp, staticId, ctc);
+        traitsChanged();
         // update view
         updateAbilityTextForView();
     }
@@ -4802,6 +4919,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         boolean changed = false;
         changed |= changedCardTraitsByText.remove(timestamp, staticId) != null;
         changed |= changedCardTraits.remove(timestamp, staticId) != null;
+        if (changed) {
+            traitsChanged();
+        }
         return changed;
     }
 
@@ -4825,6 +4945,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         for (Table.Cell<Long, Long, CardTraitChanges> e : changes.cellSet()) {
             changedCardTraits.put(e.getRowKey(), e.getColumnKey(), e.getValue().copy(this, true));
         }
+        traitsChanged();
     }
 
     public boolean clearChangedCardTraits() {
@@ -4837,6 +4958,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             changed = true;
         }
         changedCardTraits.clear();
+        traitsChanged();
         return changed;
     }
 
@@ -5062,6 +5184,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         }
 
         state.setCachedKeywords(keywords);
+        traitsChanged();
     }
     private void visitUnhiddenKeywords(CardState state, Visitor<KeywordInterface> visitor) {
         for (KeywordInterface kw : getUnhiddenKeywords(state)) {
@@ -5128,6 +5251,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         }
 
         this.changedTypeByText = new CardChangedType(new CardType(toAdd, true), new CardType(toRemove, true), false, EnumSet.noneOf(RemoveType.class));
+        characteristicsChanged();
 
         currentState.updateChangedText();
 
@@ -5222,6 +5346,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void addHiddenExtrinsicKeywords(long timestamp, long staticId, Iterable<String> keywords) {
         // TODO if some keywords aren't removed anymore, then no need for extra Array List
         hiddenExtrinsicKeywords.put(timestamp, staticId, Lists.newArrayList(keywords));
+        characteristicsChanged();
 
         view.updateNonAbilityText(this);
         updateKeywords();
@@ -5229,6 +5354,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final void removeHiddenExtrinsicKeywords(long timestamp, long staticId) {
         if (hiddenExtrinsicKeywords.remove(timestamp, staticId) != null) {
+            characteristicsChanged();
             view.updateNonAbilityText(this);
             updateKeywords();
         }
@@ -5242,6 +5368,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             }
         }
         if (updated) {
+            characteristicsChanged();
             view.updateNonAbilityText(this);
             updateKeywords();
         }
@@ -5300,6 +5427,31 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         currentState.removeStaticAbility(stAb);
     }
 
+    /**
+     * @return a number that changes whenever this card changes in a way that may change what it's worth, e.g. its
+     * characteristics, counters, attachments, P/T or whether it's tapped, so it can be told apart from how it was
+     * when some value was computed for it. Changes of the game around it aren't counted, see
+     * {@link forge.game.StaticEffects#getChangeCount()} for those.
+     */
+    public final int getModificationCount() {
+        return modifications;
+    }
+    final void modified() {
+        modifications++;
+    }
+
+    /**
+     * Lets the game know the static abilities or replacement effects of this card may have changed,
+     * see {@link StaticAbilityIndex} and {@link ReplacementEffectIndex}.
+     */
+    final void traitsChanged() {
+        modified();
+        if (game != null) {
+            game.getStaticAbilityIndex().cardChanged(this);
+            game.getReplacementEffectIndex().cardChanged(this);
+        }
+    }
+
     public void updateStaticAbilities(List<StaticAbility> list, CardState state) {
         for (final CardTraitChanges ck : getChangedCardTraitsList(state)) {
             if (ck.isRemoveAll()) {
@@ -5399,6 +5551,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (phasedOut == phasedOut0) { return; }
         phasedOut = phasedOut0;
         view.updatePhasedOut(this);
+        modified();
     }
 
     public final void phase(final boolean fromUntapStep) {
@@ -5621,63 +5774,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     // Takes one argument like Permanent.Blue+withFlying
     @Override
     public final boolean isValid(final String restriction, final Player sourceController, final Card source, CardTraitBase spellAbility) {
-        // Inclusive restrictions are Card types
-        final String[] incR = restriction.split("\\.", 2);
-
-        boolean testFailed = false;
-        if (incR[0].startsWith("!")) {
-            testFailed = true; // a bit counter logical))
-            incR[0] = incR[0].substring(1); // consume negation sign
-        }
-
-        if (incR[0].equals("Spell")) {
-            if (!isSpell()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Permanent")) {
-            if (!isPermanent()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Effect")) {
-            if (!isImmutable()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Emblem")) {
-            if (!isEmblem()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Boon")) {
-            if (!isBoon()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("card") || incR[0].equals("Card")) {
-            if (isImmutable()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Any")) {
-            if (!(isCreature() || isPlaneswalker() || isBattle())) {
-                return false;
-            }
-            //todo further check for Effect API and other replacement Effect
-            /*if (spellAbility == null)
-                return false;
-            ApiType apiType = ((SpellAbility) spellAbility).getApi();
-            if (!(ApiType.DealDamage.equals(apiType) || ApiType.PreventDamage.equals(apiType)))
-                return false;*/
-        } else if (!getType().hasStringType(incR[0])) {
-            return testFailed; // Check for wrong type
-        }
-
-        if (incR.length > 1) {
-            final String excR = incR[1];
-            final String[] exRs = excR.split("\\+"); // Exclusive Restrictions are ...
-            for (String exR : exRs) {
-                if (!hasProperty(exR, sourceController, source, spellAbility)) {
-                    return testFailed;
-                }
-            }
-        }
-        return !testFailed;
+        return CardRestriction.compile(restriction).matches(this, sourceController, source, spellAbility);
     }
 
     // Takes arguments like Blue or withFlying
@@ -5989,7 +6086,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     @Override
     public final int staticReplaceDamage(final int damage, final Card source, final boolean isCombat) {
         int restDamage = damage;
-        for (Card c : getGame().getCardsIn(ZoneType.Battlefield)) {
+        for (Card c : getGame().getCardsInView(ZoneType.Battlefield)) {
             if (c.getName().equals("Sulfuric Vapors")) {
                 if (source.isSpell() && source.isRed()) {
                     restDamage += 1;
@@ -6044,7 +6141,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
         // TODO: improve such that this can be predicted from the replacement effect itself
         // (+ move this function out into ComputerUtilCombat?)
-        for (Card c : getGame().getCardsIn(ZoneType.Command)) {
+        for (Card c : getGame().getCardsInView(ZoneType.Command)) {
             if (c.getName().equals("Insult Effect")) {
                 if (c.getController().equals(source.getController())) {
                     restDamage *= 2;
@@ -6475,6 +6572,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void setPairedWith(final Card c) {
         pairedWith = view.setCard(pairedWith, c, TrackableProperty.PairedWith);
+        modified();
     }
     public final boolean isPaired() {
         return pairedWith != null;
@@ -7403,10 +7501,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public void setChangedCardTypes(Table<Long, Long, CardChangedType> changedCardTypes) {
         this.changedCardTypes.clear();
         this.changedCardTypes.putAll(changedCardTypes);
+        characteristicsChanged();
     }
     public void setChangedCardTypesCharacterDefining(Table<Long, Long, CardChangedType> changedCardTypes) {
         this.changedCardTypesCharacterDefining.clear();
         this.changedCardTypesCharacterDefining.putAll(changedCardTypes);
+        characteristicsChanged();
     }
 
     public void setChangedCardKeywords(Table<Long, Long, KeywordsChange> changedCardKeywords) {
@@ -7419,10 +7519,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public void setChangedCardColors(Table<Long, Long, CardColor> changedCardColors) {
         this.changedCardColors.clear();
         this.changedCardColors.putAll(changedCardColors);
+        characteristicsChanged();
     }
     public void setChangedCardColorsCharacterDefining(Table<Long, Long, CardColor> changedCardColors) {
         this.changedCardColorsCharacterDefining.clear();
         this.changedCardColorsCharacterDefining.putAll(changedCardColors);
+        characteristicsChanged();
     }
 
     public void cleanupCopiedChangesFrom(Card c) {
@@ -7442,11 +7544,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final void addGoad(Long timestamp, final Player p) {
         goad.put(timestamp, p);
+        modified();
         updateAbilityTextForView();
     }
 
     public final void removeGoad(Long timestamp) {
         if (goad.remove(timestamp) != null) {
+            modified();
             updateAbilityTextForView();
         }
     }
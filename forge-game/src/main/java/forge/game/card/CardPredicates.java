@@ -225,19 +225,29 @@ public final class CardPredicates {
     }
 
     public static final Predicate<Card> restriction(final String[] restrictions, final Player sourceController, final Card source, final CardTraitBase spellAbility) {
+        final CardRestriction[] compiled = CardRestriction.compile(restrictions);
         return new Predicate<Card>() {
             @Override
             public boolean apply(final Card c) {
-                return c != null && c.isValid(restrictions, sourceController, source, spellAbility);
+                if (c == null) {
+                    return false;
+                }
+                for (final CardRestriction r : compiled) {
+                    if (r.matches(c, sourceController, source, spellAbility)) {
+                        return true;
+                    }
+                }
+                return false;
             }
         };
     }
 
     public static final Predicate<Card> restriction(final String restrictions, final Player sourceController, final Card source, final CardTraitBase spellAbility) {
+        final CardRestriction compiled = CardRestriction.compile(restrictions);
         return new Predicate<Card>() {
             @Override
             public boolean apply(final Card c) {
-                return c != null && c.isValid(restrictions, sourceController, source, spellAbility);
+                return c != null && compiled.matches(c, sourceController, source, spellAbility);
             }
         };
     }
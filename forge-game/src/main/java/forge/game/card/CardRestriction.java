@@ -0,0 +1,267 @@
+package forge.game.card;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import forge.card.CardType;
+import forge.card.CardTypeView;
+import forge.game.CardTraitBase;
+import forge.game.player.Player;
+import forge.util.Expressions;
+
+/**
+ * A valid-card restriction like {@code Creature.YouCtrl+powerGE3}, parsed once.
+ * <p>
+ * The type part and each of the {@code +} separated properties are turned into small test objects,
+ * so matching a card no longer splits the string or walks the type keywords every time.
+ * The most common properties are checked directly; everything else is still handed to
+ * {@link CardProperty#cardHasProperty}, so the result is always the same as the string based check.
+ * <p>
+ * Restrictions only depend on their text, so compiled instances are shared through a cache
+ * keyed by the restriction string.
+ */
+public final class CardRestriction {
+
+    // some restrictions are built at runtime (CardUID_, named...), so don't let the cache grow forever
+    private static final int MAX_CACHE_SIZE = 20000;
+    private static final Map<String, CardRestriction> cache = new ConcurrentHashMap<>();
+
+    public static CardRestriction compile(final String restriction) {
+        CardRestriction result = cache.get(restriction);
+        if (result == null) {
+            result = new CardRestriction(restriction);
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(restriction, result);
+        }
+        return result;
+    }
+
+    public static CardRestriction[] compile(final String[] restrictions) {
+        final CardRestriction[] result = new CardRestriction[restrictions.length];
+        for (int i = 0; i < restrictions.length; i++) {
+            result[i] = compile(restrictions[i]);
+        }
+        return result;
+    }
+
+    public static int getCacheSize() {
+        return cache.size();
+    }
+
+    private enum TypeTest {
+        Spell, Permanent, Effect, Emblem, Boon, Card, Any, StringType
+    }
+
+    private interface PropertyTest {
+        boolean test(Card card, Player sourceController, Card source, CardTraitBase spellAbility);
+    }
+
+    private final String restriction;
+    private final boolean negated;
+    private final TypeTest typeTest;
+    private final String typeName;
+    private final CardType.CoreType coreType;
+    private final CardType.Supertype supertype;
+    private final PropertyTest[] properties;
+
+    private CardRestriction(final String restriction) {
+        this.restriction = restriction;
+
+        final String[] incR = restriction.split("\\.", 2);
+        String type = incR[0];
+        negated = type.startsWith("!");
+        if (negated) {
+            type = type.substring(1);
+        }
+        typeName = type;
+
+        if (type.equals("card")) {
+            typeTest = TypeTest.Card;
+        } else {
+            TypeTest test = TypeTest.StringType;
+            for (TypeTest t : TypeTest.values()) {
+                if (t != TypeTest.StringType && t.name().equals(type)) {
+                    test = t;
+                    break;
+                }
+            }
+            typeTest = test;
+        }
+
+        // same lookups as CardType.hasStringType, done once
+        final String capitalized = StringUtils.capitalize(type);
+        coreType = type.isEmpty() ? null : CardType.CoreType.getEnum(capitalized);
+        supertype = type.isEmpty() || coreType != null ? null : CardType.Supertype.getEnum(capitalized);
+
+        if (incR.length > 1) {
+            final String[] exRs = incR[1].split("\\+");
+            properties = new PropertyTest[exRs.length];
+            for (int i = 0; i < exRs.length; i++) {
+                properties[i] = compileProperty(exRs[i]);
+            }
+        } else {
+            properties = new PropertyTest[0];
+        }
+    }
+
+    public String getRestriction() {
+        return restriction;
+    }
+
+    /**
+     * Same result as {@link Card#isValid(String, Player, Card, CardTraitBase)} with the original string.
+     */
+    public boolean matches(final Card card, final Player sourceController, final Card source, final CardTraitBase spellAbility) {
+        switch (typeTest) {
+        case Spell:
+            if (!card.isSpell()) {
+                return negated;
+            }
+            break;
+        case Permanent:
+            if (!card.isPermanent()) {
+                return negated;
+            }
+            break;
+        case Effect:
+            if (!card.isImmutable()) {
+                return negated;
+            }
+            break;
+        case Emblem:
+            if (!card.isEmblem()) {
+                return negated;
+            }
+            break;
+        case Boon:
+            if (!card.isBoon()) {
+                return negated;
+            }
+            break;
+        case Card:
+            if (card.isImmutable()) {
+                return negated;
+            }
+            break;
+        case Any:
+            if (!(card.isCreature() || card.isPlaneswalker() || card.isBattle())) {
+                return false;
+            }
+            break;
+        default:
+            if (!hasStringType(card.getType())) {
+                return negated; // Check for wrong type
+            }
+        }
+
+        for (PropertyTest property : properties) {
+            if (!property.test(card, sourceController, source, spellAbility)) {
+                return negated;
+            }
+        }
+        return !negated;
+    }
+
+    private boolean hasStringType(final CardTypeView type) {
+        if (typeName.isEmpty()) {
+            return false;
+        }
+        if (type.hasSubtype(typeName)) {
+            return true;
+        }
+        if (coreType != null) {
+            return type.hasType(coreType);
+        }
+        if (supertype != null) {
+            return type.hasSupertype(supertype);
+        }
+        return false;
+    }
+
+    private static PropertyTest compileProperty(final String exR) {
+        // same single negation as Card.hasProperty
+        final boolean negate = exR.startsWith("!");
+        final String property = negate ? exR.substring(1) : exR;
+
+        final PropertyTest direct = directProperty(property);
+        final PropertyTest test;
+        if (direct == null) {
+            test = (card, sourceController, source, sa) -> CardProperty.cardHasProperty(card, property, sourceController, source, sa);
+        } else {
+            // CR 702.25b phased out cards only match properties asking for them, see CardProperty
+            test = (card, sourceController, source, sa) -> !card.isPhasedOut() && direct.test(card, sourceController, source, sa);
+        }
+        if (negate) {
+            return (card, sourceController, source, sa) -> !test.test(card, sourceController, source, sa);
+        }
+        return test;
+    }
+
+    /**
+     * Properties that are common enough to be worth checking without going through {@link CardProperty}.
+     * Each one has to behave exactly like the first branch of {@link CardProperty#cardHasProperty} it would reach.
+     */
+    private static PropertyTest directProperty(final String property) {
+        switch (property) {
+        case "YouCtrl":
+            return (card, sourceController, source, sa) -> lkiController(card).equals(sourceController);
+        case "OppCtrl":
+            return (card, sourceController, source, sa) -> lkiController(card).getOpponents().contains(sourceController);
+        case "YouOwn":
+            return (card, sourceController, source, sa) -> card.getOwner().equals(sourceController);
+        case "OppOwn":
+            return (card, sourceController, source, sa) -> card.getOwner().getOpponents().contains(sourceController);
+        case "Other":
+            return (card, sourceController, source, sa) -> !card.equals(source);
+        case "Self":
+            return (card, sourceController, source, sa) -> card.equals(source);
+        case "token":
+            return (card, sourceController, source, sa) -> card.isToken() || card.isTokenCard();
+        case "nonToken":
+            return (card, sourceController, source, sa) -> !card.isToken() && !card.isTokenCard();
+        case "tapped":
+            return (card, sourceController, source, sa) -> card.isTapped();
+        case "untapped":
+            return (card, sourceController, source, sa) -> card.isUntapped();
+        default:
+            break;
+        }
+
+        // power, toughness and cmc against a plain number
+        final String rhs;
+        final boolean power = property.startsWith("power");
+        final boolean toughness = property.startsWith("toughness");
+        if (power) {
+            rhs = property.length() > 7 ? property.substring(7) : "";
+        } else if (toughness) {
+            rhs = property.length() > 11 ? property.substring(11) : "";
+        } else if (property.startsWith("cmc")) {
+            rhs = property.length() > 5 ? property.substring(5) : "";
+        } else {
+            return null;
+        }
+        if (!StringUtils.isNumeric(rhs) || rhs.isEmpty() || rhs.length() > 9) {
+            return null;
+        }
+        final int value = Integer.parseInt(rhs);
+        return (card, sourceController, source, sa) -> {
+            final int y = power ? card.getNetPower() : toughness ? card.getNetToughness() : card.getCMC();
+            // AbilityUtils.calculateAmount gives 0 without a source
+            return Expressions.compare(y, property, source == null ? 0 : value);
+        };
+    }
+
+    private static Player lkiController(final Card card) {
+        // lki can't be null but it does return this
+        return card.getGame().getChangeZoneLKIInfo(card).getController();
+    }
+
+    @Override
+    public String toString() {
+        return restriction;
+    }
+}
@@ -74,6 +74,8 @@ public class CardState extends GameObject implements IHasSVars {
     private Map<String, String> sVars = Maps.newTreeMap();
 
     private KeywordCollection cachedKeywords = new KeywordCollection();
+    // bumped whenever the type, color or keywords change, see Card.CharacteristicMemo
+    private int characteristicsVersion = 0;
 
     private CardRarity rarity = CardRarity.Unknown;
     private String setCode = CardEdition.UNKNOWN.getCode();
@@ -132,13 +134,21 @@ public class CardState extends GameObject implements IHasSVars {
     public final CardTypeView getType() {
         return type;
     }
+
+    public final int getCharacteristicsVersion() {
+        return characteristicsVersion;
+    }
     public final void addType(String type0) {
         if (type.add(type0)) {
+            characteristicsVersion++;
+            card.traitsChanged();
             view.updateType(this);
         }
     }
     public final void addType(Iterable<String> type0) {
         if (type.addAll(type0)) {
+            characteristicsVersion++;
+            card.traitsChanged();
             view.updateType(this);
         }
     }
@@ -150,17 +160,23 @@ public class CardState extends GameObject implements IHasSVars {
         if (type0.isEmpty() && type.isEmpty()) { return; }
         type.clear();
         type.addAll(type0);
+        characteristicsVersion++;
+        card.traitsChanged();
         view.updateType(this);
     }
 
     public final void removeType(final CardType.Supertype st) {
         if (type.remove(st)) {
+            characteristicsVersion++;
+            card.traitsChanged();
             view.updateType(this);
         }
     }
 
     public final void removeCardTypes(boolean sanisfy) {
         type.removeCardTypes();
+        characteristicsVersion++;
+        card.traitsChanged();
         if (sanisfy) {
             type.sanisfySubtypes();
         }
@@ -168,6 +184,8 @@ public class CardState extends GameObject implements IHasSVars {
 
     public final void setCreatureTypes(Collection<String> ctypes) {
         if (type.setCreatureTypes(ctypes)) {
+            characteristicsVersion++;
+            card.traitsChanged();
             view.updateType(this);
         }
     }
@@ -185,10 +203,12 @@ public class CardState extends GameObject implements IHasSVars {
     }
     public final void addColor(final byte color) {
         this.color |= color;
+        characteristicsVersion++;
         view.updateColors(card);
     }
     public final void setColor(final byte color) {
         this.color = color;
+        characteristicsVersion++;
         view.updateColors(card);
     }
 
@@ -199,6 +219,7 @@ public class CardState extends GameObject implements IHasSVars {
         if (basePower == basePower0) { return; }
         basePower = basePower0;
         view.updatePower(this);
+        card.modified();
     }
 
     public final int getBaseToughness() {
@@ -208,6 +229,7 @@ public class CardState extends GameObject implements IHasSVars {
         if (baseToughness == baseToughness0) { return; }
         baseToughness = baseToughness0;
         view.updateToughness(this);
+        card.modified();
     }
 
     // values that are printed on card
@@ -250,6 +272,7 @@ public class CardState extends GameObject implements IHasSVars {
 
     public final void setCachedKeywords(final KeywordCollection col) {
         cachedKeywords = col;
+        characteristicsVersion++;
     }
 
     public final boolean hasKeyword(Keyword key) {
@@ -439,16 +462,20 @@ public class CardState extends GameObject implements IHasSVars {
         return result;
     }
     public final boolean addStaticAbility(StaticAbility stab) {
+        card.traitsChanged();
         return staticAbilities.add(stab);
     }
     public final boolean removeStaticAbility(StaticAbility stab) {
+        card.traitsChanged();
         return staticAbilities.remove(stab);
     }
     public final void setStaticAbilities(final Iterable<StaticAbility> staticAbilities0) {
         staticAbilities = new FCollection<>(staticAbilities0);
+        card.traitsChanged();
     }
     public final void clearStaticAbilities() {
         staticAbilities.clear();
+        card.traitsChanged();
     }
 
     public final String getImageKey() {
@@ -495,13 +522,16 @@ public class CardState extends GameObject implements IHasSVars {
         return result;
     }
     public boolean addReplacementEffect(final ReplacementEffect replacementEffect) {
+        card.traitsChanged();
         return replacementEffects.add(replacementEffect);
     }
     public boolean removeReplacementEffect(final ReplacementEffect replacementEffect) {
+        card.traitsChanged();
         return replacementEffects.remove(replacementEffect);
     }
     public void clearReplacementEffects() {
         replacementEffects.clear();
+        card.traitsChanged();
     }
 
     public final boolean hasReplacementEffect(final ReplacementEffect re) {
@@ -637,6 +667,7 @@ public class CardState extends GameObject implements IHasSVars {
                 staticAbilities.add(sa.copy(card, lki));
             }
         }
+        card.traitsChanged();
         if (lki) {
             if (source.loyaltyRep != null) {
                 loyaltyRep = source.loyaltyRep.copy(card, true);
@@ -684,6 +715,7 @@ public class CardState extends GameObject implements IHasSVars {
                 staticAbilities.add(sa.copy(card, lki));
             }
         }
+        card.traitsChanged();
     }
 
     public CardState copy(final Card host, CardStateName name, final boolean lki) {
@@ -467,7 +467,7 @@ public final class CardUtil {
                     sa.setActivatingPlayer(sa.getHostCard().getController());
                 }
                 final Player activator = sa.getActivatingPlayer();
-                cards = CardLists.getValidCards(activator.getGame().getCardsIn(ZoneType.Battlefield), validCard, activator, card, sa);
+                cards = CardLists.getValidCards(activator.getGame().getCardsInView(ZoneType.Battlefield), validCard, activator, card, sa);
             }
 
             // remove anything cards that is already in parents
@@ -571,7 +571,7 @@ public final class CardUtil {
         final Game game = ability.getActivatingPlayer().getGame();
         final List<ZoneType> zone = tgt.getZone();
 
-        List<Card> validCards = CardLists.getValidCards(game.getCardsIn(zone), tgt.getValidTgts(), ability.getActivatingPlayer(), activatingCard, ability);
+        List<Card> validCards = CardLists.getValidCards(game.getCardsInView(zone), tgt.getValidTgts(), ability.getActivatingPlayer(), activatingCard, ability);
         List<Card> choices = CardLists.getTargetableCards(validCards, ability);
         final boolean canTgtStack = zone.contains(ZoneType.Stack);
         if (canTgtStack) {
@@ -1150,6 +1150,9 @@ public class CardView extends GameEntityView {
         private static final long serialVersionUID = 6673944200513430607L;
 
         private final CardStateName state;
+        // set while the ability text of a simulation game still needs to be worked out
+        private transient Card pendingAbilityTextCard;
+        private transient CardState pendingAbilityText;
 
         public CardStateView(final int id0, final CardStateName state0, final Tracker tracker) {
             super(id0, tracker);
@@ -1527,9 +1530,23 @@ public class CardView extends GameEntityView {
         }
 
         public String getAbilityText() {
+            if (pendingAbilityText != null) {
+                Card c = pendingAbilityTextCard;
+                CardState pending = pendingAbilityText;
+                pendingAbilityTextCard = null;
+                pendingAbilityText = null;
+                set(TrackableProperty.AbilityText, c.getAbilityText(pending));
+            }
             return get(TrackableProperty.AbilityText);
         }
         void updateAbilityText(Card c, CardState state) {
+            if (c.getGame() != null && c.getGame().isSimulation()) {
+                pendingAbilityTextCard = c;
+                pendingAbilityText = state;
+                return;
+            }
+            pendingAbilityTextCard = null;
+            pendingAbilityText = null;
             set(TrackableProperty.AbilityText, c.getAbilityText(state));
         }
         void updateKeywords(Card c, CardState state) {
@@ -1568,7 +1585,9 @@ public class CardView extends GameEntityView {
             //keywordkey
             set(TrackableProperty.KeywordKey, c.getKeywordKey());
             //update Trackable Mana Color for BG Colors
-            updateManaColorBG(state);
+            if (c.getGame() == null || !c.getGame().isSimulation()) {
+                updateManaColorBG(state);
+            }
         }
         void updateManaColorBG(CardState state) {
             boolean anyMana = false;
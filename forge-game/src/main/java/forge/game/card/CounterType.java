@@ -3,12 +3,12 @@ package forge.game.card;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 
 public class CounterType implements Comparable<CounterType>, Serializable {
@@ -22,8 +22,9 @@ public class CounterType implements Comparable<CounterType>, Serializable {
             "Flying", "First Strike", "Double Strike", "Deathtouch", "Haste", "Hexproof",
             "Indestructible", "Lifelink", "Menace", "Reach", "Shadow", "Trample", "Vigilance");
 
-    private static Map<CounterEnumType, CounterType> eMap = Maps.newEnumMap(CounterEnumType.class);
-    private static Map<String, CounterType> sMap = Maps.newHashMap();
+    // concurrent since simulations may run on several threads at once
+    private static Map<CounterEnumType, CounterType> eMap = new ConcurrentHashMap<>();
+    private static Map<String, CounterType> sMap = new ConcurrentHashMap<>();
 
     private CounterType(CounterEnumType e, String s) {
         this.eVal = e;
@@ -31,17 +32,11 @@ public class CounterType implements Comparable<CounterType>, Serializable {
     }
 
     public static CounterType get(CounterEnumType e) {
-        if (!eMap.containsKey(e)) {
-            eMap.put(e, new CounterType(e, null));
-        }
-        return eMap.get(e);
+        return eMap.computeIfAbsent(e, k -> new CounterType(k, null));
     }
 
     public static CounterType get(String s) {
-        if (!sMap.containsKey(s)) {
-            sMap.put(s, new CounterType(null, s));
-        }
-        return sMap.get(s);
+        return sMap.computeIfAbsent(s, k -> new CounterType(null, k));
     }
 
     public static CounterType getType(String name) {
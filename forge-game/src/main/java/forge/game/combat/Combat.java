@@ -67,6 +67,9 @@ public class Combat {
     // List holds creatures who have dealt 1st strike damage to disallow them deal damage on regular basis (unless they have double-strike KW)
     private CardCollection combatantsThatDealtFirstStrikeDamage = new CardCollection();
 
+    // counts the changes of attackers, blockers and damage assignment orders
+    private int version = 0;
+
     public Combat(final Player attacker) {
         playerWhoAttacks = attacker;
         initConstraints();
@@ -111,7 +114,16 @@ public class Combat {
         attackConstraints = new AttackConstraints(this);
     }
 
+    /**
+     * @return a number that changes whenever attackers, blockers or their damage assignment order are changed here,
+     * so that predictions made for this combat can tell whether they still apply
+     */
+    public int getVersion() {
+        return version;
+    }
+
     public void initConstraints() {
+        version++;
         attackableEntries.clear();
         // Create keys for all possible attack targets
         attackableEntries.addAll(CombatUtil.getAllPossibleDefenders(playerWhoAttacks));
@@ -142,6 +154,7 @@ public class Combat {
     }
 
     public void endCombat() {
+        version++;
         //backup attackers and blockers
         CardCollection attackers = getAttackers();
         CardCollection blockers = getAllBlockers();
@@ -251,6 +264,7 @@ public class Combat {
         addAttacker(c, defender, null);
     }
     public final void addAttacker(final Card c, GameEntity defender, AttackingBand band) {
+        version++;
         Collection<AttackingBand> attackersOfDefender = attackedByBands.get(defender);
         if (attackersOfDefender == null) {
             System.out.println("Trying to add Attacker " + c + " to missing defender " + defender);
@@ -368,10 +382,12 @@ public class Combat {
 
     // Some cards in Alpha may UNBLOCK an attacker, so second parameter is not always-true
     public final void setBlocked(final Card attacker, boolean value) {
+        version++;
         getBandOfAttackerNotNull(attacker).setBlocked(value); // called by Curtain of Light, Dazzling Beauty, Trap Runner
     }
 
     public final void addBlocker(final Card attacker, final Card blocker) {
+        version++;
         final AttackingBand band = getBandOfAttackerNotNull(attacker);
         blockedBands.put(band, blocker);
         // If damage is already assigned, add this blocker as a "late entry"
@@ -383,6 +399,7 @@ public class Combat {
 
     // remove blocker from specific attacker
     public final void removeBlockAssignment(final Card attacker, final Card blocker) {
+        version++;
         AttackingBand band = getBandOfAttackerNotNull(attacker);
         Collection<Card> cc = blockedBands.get(band);
         if (cc != null) {
@@ -393,6 +410,7 @@ public class Combat {
 
     // remove blocker from everywhere
     public final void undoBlockingAssignment(final Card blocker) {
+        version++;
         CardCollection toRemove = new CardCollection(blocker);
         blockedBands.values().removeAll(toRemove);
         blocker.updateBlockingForView();
@@ -461,6 +479,7 @@ public class Combat {
 
     /** If there are multiple blockers, the Attacker declares the Assignment Order */
     public void orderBlockersForDamageAssignment() { // this method performs controller's role
+        version++;
         List<Pair<Card, CardCollection>> blockersNeedManualOrdering = new ArrayList<>();
         for (AttackingBand band : attackedByBands.values()) {
             if (band.isEmpty()) continue;
@@ -488,6 +507,7 @@ public class Combat {
 
     /** If there are multiple blockers, the Attacker declares the Assignment Order */
     public void orderBlockersForDamageAssignment(Card attacker, CardCollection blockers) { // this method performs controller's role
+        version++;
         if (blockers.size() <= 1) {
             blockersOrderedForDamageAssignment.put(attacker, new CardCollection(blockers));
             return;
@@ -522,6 +542,7 @@ public class Combat {
      * @param blocker the blocking creature.
      */
     public void addBlockerToDamageAssignmentOrder(Card attacker, Card blocker) {
+        version++;
     	final CardCollection oldBlockers = blockersOrderedForDamageAssignment.get(attacker);
     	if (oldBlockers == null || oldBlockers.isEmpty()) {
    			blockersOrderedForDamageAssignment.put(attacker, new CardCollection(blocker));
@@ -539,6 +560,7 @@ public class Combat {
     }
 
     public void orderAttackersForDamageAssignment(Card blocker) { // this method performs controller's role
+        version++;
         CardCollection attackers = getAttackersBlockedBy(blocker);
         // They need a reverse map here: Blocker => List<Attacker>
 
@@ -551,6 +573,7 @@ public class Combat {
 
     // removes references to this attacker from all indices and orders
     public void unregisterAttacker(final Card c, AttackingBand ab) {
+        version++;
         blockersOrderedForDamageAssignment.remove(c);
 
         Collection<Card> blockers = blockedBands.get(ab);
@@ -584,6 +607,7 @@ public class Combat {
 
     // removes references to this defender from all indices and orders
     public void unregisterDefender(final Card c, AttackingBand bandBeingBlocked) {
+        version++;
         attackersOrderedForDamageAssignment.remove(c);
         for (Card atk : bandBeingBlocked.getAttackers()) {
             if (blockersOrderedForDamageAssignment.containsKey(atk)) {
@@ -594,6 +618,7 @@ public class Combat {
 
     // remove a combatant whose side is unknown
     public final void removeFromCombat(final Card c) {
+        version++;
         AttackingBand ab = getBandOfAttacker(c);
         if (ab != null) {
             unregisterAttacker(c, ab);
@@ -9,6 +9,8 @@ import forge.game.trigger.TriggerType;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 
 import forge.card.CardStateName;
@@ -35,6 +37,7 @@ import forge.game.spellability.SpellAbilityPredicates;
 import forge.game.spellability.TargetChoices;
 import forge.game.staticability.StaticAbility;
 import forge.game.zone.Zone;
+import forge.game.zone.ZoneCardsView;
 import forge.game.zone.ZoneType;
 import forge.util.Localizer;
 
@@ -67,11 +70,10 @@ public class CostAdjustment {
             }
         }
 
-        CardCollection cardsOnBattlefield = new CardCollection(game.getCardsIn(ZoneType.Battlefield));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Stack));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Command));
-        if (!cardsOnBattlefield.contains(host)) {
-            cardsOnBattlefield.add(host);
+        final ZoneCardsView cardsInZones = game.getCardsInView(ZoneType.Battlefield, ZoneType.Stack, ZoneType.Command);
+        Iterable<Card> cardsOnBattlefield = cardsInZones;
+        if (!cardsInZones.contains(host)) {
+            cardsOnBattlefield = Iterables.concat(cardsInZones, ImmutableList.of(host));
         }
         final List<StaticAbility> raiseAbilities = Lists.newArrayList();
 
@@ -188,11 +190,10 @@ public class CostAdjustment {
             }
         }
 
-        CardCollection cardsOnBattlefield = new CardCollection(game.getCardsIn(ZoneType.Battlefield));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Stack));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Command));
-        if (!cardsOnBattlefield.contains(originalCard)) {
-            cardsOnBattlefield.add(originalCard);
+        final ZoneCardsView cardsInZones = game.getCardsInView(ZoneType.Battlefield, ZoneType.Stack, ZoneType.Command);
+        Iterable<Card> cardsOnBattlefield = cardsInZones;
+        if (!cardsInZones.contains(originalCard)) {
+            cardsOnBattlefield = Iterables.concat(cardsInZones, ImmutableList.of(originalCard));
         }
         final List<StaticAbility> reduceAbilities = Lists.newArrayList();
         final List<StaticAbility> setAbilities = Lists.newArrayList();
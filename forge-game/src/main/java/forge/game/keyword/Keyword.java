@@ -3,12 +3,12 @@ package forge.game.keyword;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import forge.StaticData;
 import forge.game.card.Card;
@@ -288,7 +288,7 @@ public enum Keyword {
         return keywords;
     }
 
-    private static final Map<String, Set<Keyword>> cardKeywordSetLookup = new HashMap<>();
+    private static final Map<String, Set<Keyword>> cardKeywordSetLookup = new ConcurrentHashMap<>();
 
     public static Set<Keyword> getKeywordSet(PaperCard card) {
         String key = card.getName();
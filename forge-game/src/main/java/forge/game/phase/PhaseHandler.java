@@ -1183,7 +1183,10 @@ public class PhaseHandler implements java.io.Serializable {
         } while (game.getStack().addAllTriggeredAbilitiesToStack()); //loop so long as something was added to stack
 
         if (!allAffectedCards.isEmpty()) {
+            // the changes themselves were already reported
+            game.getStaticEffects().setApplying(true);
             game.fireEvent(new GameEventCardStatsChanged(allAffectedCards));
+            game.getStaticEffects().setApplying(false);
             allAffectedCards.clear();
         }
         return false;
@@ -742,7 +742,7 @@ public class Player extends GameEntity implements Comparable<Player> {
 
         // TODO handle life loss replacement
 
-        for (Card c : game.getCardsIn(ZoneType.Battlefield)) {
+        for (Card c : game.getCardsInView(ZoneType.Battlefield)) {
             if (c.getName().equals("Sulfuric Vapors")) {
                 if (source.isSpell() && source.isRed()) {
                     restDamage += 1;
@@ -810,7 +810,7 @@ public class Player extends GameEntity implements Comparable<Player> {
 
         // TODO: improve such that this can be predicted from the replacement effect itself
         // (+ move this function out into ComputerUtilCombat?)
-        for (Card c : game.getCardsIn(ZoneType.Command)) {
+        for (Card c : game.getCardsInView(ZoneType.Command)) {
             if (c.getName().equals("Insult Effect")) {
                 if (c.getController().equals(source.getController())) {
                     restDamage *= 2;
@@ -0,0 +1,160 @@
+package forge.game.replacement;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.zone.Zone;
+import forge.game.zone.ZoneType;
+
+/**
+ * Keeps track of which cards outside the battlefield have a replacement effect of a given
+ * {@link ReplacementType}, so that looking for replacement effects doesn't have to build the list of
+ * replacement effects of every card in every library, hand and graveyard each time something happens.
+ *
+ * The battlefield and the inbound tokens aren't indexed: that's where abilities, types and counters
+ * change all the time, and where most replacement effects are, so {@link ReplacementHandler} still
+ * looks at all of them. Only which cards to look at is cached: each replacement effect is still
+ * checked as before.
+ *
+ * Zones and cards report their changes with {@link #cardChanged(Card)}, and the changed cards are
+ * indexed again the next time the index is queried.
+ */
+public class ReplacementEffectIndex {
+    public static final List<ZoneType> INDEXED_ZONES = Lists.newArrayList(ZoneType.Graveyard, ZoneType.Hand,
+            ZoneType.Library, ZoneType.Exile, ZoneType.Command, ZoneType.Stack);
+
+    // After this many changes without a query, it's cheaper to build the index from scratch.
+    private static final int MAX_CHANGED_CARDS = 256;
+
+    private final Game game;
+    private final Map<Integer, Set<ReplacementType>> modesByCard = Maps.newHashMap();
+    private final Map<Integer, Card> indexedCards = Maps.newHashMap();
+    private final Set<Card> changedCards = Sets.newIdentityHashSet();
+    private boolean rebuild = true;
+
+    public ReplacementEffectIndex(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Marks a card whose zone or replacement effects may have changed.
+     */
+    public void cardChanged(final Card c) {
+        if (rebuild) {
+            return;
+        }
+        if (changedCards.add(c) && changedCards.size() > MAX_CHANGED_CARDS) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Marks the whole index as out of date.
+     */
+    public void invalidate() {
+        rebuild = true;
+        changedCards.clear();
+    }
+
+    /**
+     * @return false if the card, which has to be in one of the {@link #INDEXED_ZONES}, has no
+     * replacement effect of that type
+     */
+    public boolean mayHave(final Card c, final ReplacementType mode) {
+        update();
+        final Set<ReplacementType> modes = modesByCard.get(c.getId());
+        return modes != null && modes.contains(mode);
+    }
+
+    private void update() {
+        if (rebuild) {
+            modesByCard.clear();
+            indexedCards.clear();
+            for (final Player p : game.getPlayers()) {
+                for (final ZoneType zt : INDEXED_ZONES) {
+                    if (zt == ZoneType.Stack) {
+                        continue;
+                    }
+                    for (final Card c : p.getZone(zt).getCards(false)) {
+                        add(c);
+                    }
+                }
+            }
+            for (final Card c : game.getStackZone().getCards(false)) {
+                add(c);
+            }
+            rebuild = false;
+            return;
+        }
+        if (changedCards.isEmpty()) {
+            return;
+        }
+        // same as in StaticAbilityIndex, the old object of a card that changed zones
+        // may report its change after the new one was indexed
+        final List<Card> changed = Lists.newArrayList(changedCards);
+        changedCards.clear();
+        for (final Card c : changed) {
+            Card current = getCardInZone(c);
+            Card indexed = indexedCards.get(c.getId());
+            if (current == null && indexed != null) {
+                current = getCardInZone(indexed);
+            }
+            remove(c.getId());
+            if (current != null) {
+                add(current);
+            }
+        }
+    }
+
+    private Card getCardInZone(final Card c) {
+        final Zone zone = c.getZone();
+        if (zone == null || !INDEXED_ZONES.contains(zone.getZoneType()) || !isGameZone(zone)) {
+            return null;
+        }
+        for (final Card inZone : zone.getCards(false)) {
+            if (inZone.getId() == c.getId()) {
+                return inZone;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return false for the zones of LKI copies, which hold copies of the cards in the game
+     */
+    public boolean isGameZone(final Zone zone) {
+        final Player p = zone.getPlayer();
+        if (p == null) {
+            return zone == game.getStackZone();
+        }
+        return game.getPlayers().contains(p) && zone == p.getZone(zone.getZoneType());
+    }
+
+    private void add(final Card c) {
+        Set<ReplacementType> modes = null;
+        for (final ReplacementEffect re : c.getReplacementEffects()) {
+            if (modes == null) {
+                modes = EnumSet.noneOf(ReplacementType.class);
+            }
+            modes.add(re.getMode());
+        }
+        if (modes != null) {
+            modesByCard.put(c.getId(), modes);
+            indexedCards.put(c.getId(), c);
+        }
+    }
+
+    private void remove(final int id) {
+        modesByCard.remove(id);
+        indexedCards.remove(id);
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -117,8 +118,12 @@ public class ReplacementHandler {
             }
         }*/
 
+        // cards with an older or newer state to check too, whatever their zone
+        final CardCollectionView lastStates = event == ReplacementType.Moved ? (CardCollectionView) runParams.get(AbilityKey.LastStateBattlefield) : null;
+        final Predicate<Card> alwaysVisit = crd -> preList.contains(crd) || (lastStates != null && lastStates.contains(crd));
+
         // Round up Static replacement effects
-        game.forEachCardInGame(new Visitor<Card>() {
+        forEachCardWith(event, alwaysVisit, new Visitor<Card>() {
             @Override
             public boolean visit(Card crd) {
                 Card c = preList.get(crd);
@@ -900,7 +905,7 @@ public class ReplacementHandler {
      */
     public int getTotalPreventionShieldAmount(GameEntity o) {
         final List<ReplacementEffect> list = Lists.newArrayList();
-        game.forEachCardInGame(new Visitor<Card>() {
+        forEachCardWith(ReplacementType.DamageDone, null, new Visitor<Card>() {
             @Override
             public boolean visit(Card c) {
                 for (final ReplacementEffect re : c.getReplacementEffects()) {
@@ -943,7 +948,7 @@ public class ReplacementHandler {
      */
     public final boolean isPreventCombatDamageThisTurn() {
         final List<ReplacementEffect> list = Lists.newArrayList();
-        game.forEachCardInGame(new Visitor<Card>() {
+        forEachCardWith(ReplacementType.DamageDone, null, new Visitor<Card>() {
             @Override
             public boolean visit(Card c) {
                 for (final ReplacementEffect re : c.getReplacementEffects()) {
@@ -962,6 +967,48 @@ public class ReplacementHandler {
         return !list.isEmpty();
     }
 
+    /**
+     * Visits the cards that might have a replacement effect of that type, in the same order as
+     * {@link Game#forEachCardInGame}. Outside of the battlefield, cards the {@link ReplacementEffectIndex}
+     * rules out are skipped, unless alwaysVisit says otherwise.
+     */
+    private void forEachCardWith(final ReplacementType event, final Predicate<Card> alwaysVisit, final Visitor<Card> visitor) {
+        final ReplacementEffectIndex index = game.getReplacementEffectIndex();
+        final Visitor<Card> filtered = new Visitor<Card>() {
+            @Override
+            public boolean visit(Card c) {
+                if (!index.mayHave(c, event) && (alwaysVisit == null || !alwaysVisit.test(c))) {
+                    return true;
+                }
+                return visitor.visit(c);
+            }
+        };
+        for (final Player player : game.getPlayers()) {
+            if (!filtered.visitAll(player.getZone(ZoneType.Graveyard).getCards())) {
+                return;
+            }
+            if (!filtered.visitAll(player.getZone(ZoneType.Hand).getCards())) {
+                return;
+            }
+            if (!filtered.visitAll(player.getZone(ZoneType.Library).getCards())) {
+                return;
+            }
+            if (!visitor.visitAll(player.getZone(ZoneType.Battlefield).getCards(false))) {
+                return;
+            }
+            if (!filtered.visitAll(player.getZone(ZoneType.Exile).getCards())) {
+                return;
+            }
+            if (!filtered.visitAll(player.getZone(ZoneType.Command).getCards())) {
+                return;
+            }
+            if (!visitor.visitAll(player.getInboundTokens())) {
+                return;
+            }
+        }
+        filtered.visitAll(game.getStackZone().getCards());
+    }
+
     public boolean isReplacing() {
         return !hasRun.isEmpty();
     }
@@ -18,7 +18,6 @@
 package forge.game.staticability;
 
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 /**
  * The Class StaticAbility_ActivateAbilityAsIfHaste.
@@ -29,7 +28,7 @@ public class StaticAbilityActivateAbilityAsIfHaste {
     static String MODE = "ActivateAbilityAsIfHaste";
 
     public static boolean canActivate(final Card card) {
-        for (final Card ca : card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : card.getGame().getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE)) {
                     continue;
@@ -4,7 +4,6 @@ import forge.game.Game;
 import forge.game.GameEntity;
 import forge.game.ability.AbilityUtils;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityAttackRestrict {
 
@@ -12,7 +11,7 @@ public class StaticAbilityAttackRestrict {
 
     static public int globalAttackRestrict(Game game) {
         int max = Integer.MAX_VALUE;
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE)
                         || stAb.hasParam("ValidDefender")) {
@@ -31,7 +30,7 @@ public class StaticAbilityAttackRestrict {
     static public int attackRestrictNum(GameEntity defender) {
         final Game game = defender.getGame();
         int num = Integer.MAX_VALUE;
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE)
                         || !stAb.hasParam("ValidDefender")) {
@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.GameEntity;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantAttach {
 
@@ -10,7 +9,7 @@ public class StaticAbilityCantAttach {
 
     public static boolean cantAttach(final GameEntity target, final Card card, boolean checkSBA) {
         // CantTarget static abilities
-        for (final Card ca : target.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : target.getGame().getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE)) {
                     continue;
@@ -4,7 +4,6 @@ import forge.game.Game;
 import forge.game.card.Card;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantGainLosePayLife {
 
@@ -15,7 +14,7 @@ public class StaticAbilityCantGainLosePayLife {
 
     public static boolean anyCantGainLife(final Player player) {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(MODE_CANT_GAIN_LIFE, MODE_CANT_CHANGE_LIFE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!(stAb.checkMode(MODE_CANT_GAIN_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
                     continue;
@@ -35,7 +34,7 @@ public class StaticAbilityCantGainLosePayLife {
 
     public static boolean anyCantLoseLife(final Player player)  {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(MODE_CANT_LOSE_LIFE, MODE_CANT_CHANGE_LIFE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!(stAb.checkMode(MODE_CANT_LOSE_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
                     continue;
@@ -56,7 +55,7 @@ public class StaticAbilityCantGainLosePayLife {
 
     public static boolean anyCantPayLife(final Player player, final boolean effect, final SpellAbility cause)  {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(MODE_CANT_PAY_LIFE, MODE_CANT_LOSE_LIFE, MODE_CANT_CHANGE_LIFE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!(stAb.checkMode(MODE_CANT_PAY_LIFE) || stAb.checkMode(MODE_CANT_LOSE_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
                     continue;
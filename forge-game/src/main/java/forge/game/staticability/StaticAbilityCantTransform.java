@@ -3,7 +3,6 @@ package forge.game.staticability;
 import forge.game.CardTraitBase;
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantTransform {
 
@@ -11,7 +10,7 @@ public class StaticAbilityCantTransform {
 
     static public boolean cantTransform(Card card, CardTraitBase cause) {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE)) {
                     continue;
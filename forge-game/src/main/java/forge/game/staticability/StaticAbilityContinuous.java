@@ -1016,7 +1016,7 @@ public final class StaticAbilityContinuous {
             } else {
                 validZones = ImmutableList.of(ZoneType.Battlefield);
             }
-            cards.addAll(CardLists.getValidCards(game.getCardsIn(validZones), valids, hostCard.getController(), hostCard, stAb));
+            cards.addAll(CardLists.getValidCards(game.getCardsInView(validZones), valids, hostCard.getController(), hostCard, stAb));
         }
         return cards;
     }
@@ -1075,9 +1075,9 @@ public final class StaticAbilityContinuous {
         }
 
         if (stAb.hasParam("AffectedZone")) {
-            affectedCards.addAll(game.getCardsIn(ZoneType.listValueOf(stAb.getParam("AffectedZone"))));
+            affectedCards.addAll(game.getCardsInView(ZoneType.listValueOf(stAb.getParam("AffectedZone"))));
         } else {
-            affectedCards.addAll(game.getCardsIn(ZoneType.Battlefield));
+            affectedCards.addAll(game.getCardsInView(ZoneType.Battlefield));
         }
         if (stAb.hasParam("Affected")) {
             // Handle Shaman's Trance
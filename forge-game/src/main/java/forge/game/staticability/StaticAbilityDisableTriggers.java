@@ -28,7 +28,7 @@ public class StaticAbilityDisableTriggers {
                 cardList = game.getLastStateBattlefield();
             }
         } else {
-            cardList = game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES);
+            cardList = game.getStaticAbilityIndex().getCardsWith(MODE);
         }
 
         for (final Card ca : cardList) {
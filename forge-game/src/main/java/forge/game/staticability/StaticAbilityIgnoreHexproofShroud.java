@@ -6,7 +6,6 @@ import forge.game.card.Card;
 import forge.game.keyword.Keyword;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityIgnoreHexproofShroud {
 
@@ -15,7 +14,7 @@ public class StaticAbilityIgnoreHexproofShroud {
 
     static public boolean ignore(GameEntity entity, final SpellAbility spellAbility, Keyword keyword) {
         final Game game = entity.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(HEXPROOF_MODE, SHROUD_MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (keyword.equals(Keyword.HEXPROOF) && !stAb.checkConditions(HEXPROOF_MODE)) {
                     continue;
@@ -0,0 +1,210 @@
+package forge.game.staticability;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.player.Player;
+import forge.game.zone.Zone;
+import forge.game.zone.ZoneType;
+
+/**
+ * Keeps track of which cards in the {@link ZoneType#STATIC_ABILITIES_SOURCE_ZONES} have a static
+ * ability of a given mode, so that checks like "can this be targeted" only need to look at the few
+ * cards that could possibly matter, instead of at every static ability of every card in the game.
+ *
+ * Zones and cards report their changes with {@link #cardChanged(Card)}, and the changed cards are
+ * indexed again the next time the index is queried. Only which cards to look at is cached: callers
+ * still go through {@link Card#getStaticAbilities()} and check the conditions of each ability.
+ */
+public class StaticAbilityIndex {
+    // After this many changes without a query, it's cheaper to build the index from scratch.
+    private static final int MAX_CHANGED_CARDS = 256;
+
+    private final Game game;
+    private final Map<String, Map<Integer, Card>> cardsByMode = Maps.newHashMap();
+    private final Map<Integer, Set<String>> modesByCard = Maps.newHashMap();
+    private final Map<Integer, Card> indexedCards = Maps.newHashMap();
+    private final Set<Card> changedCards = Sets.newIdentityHashSet();
+    private boolean rebuild = true;
+
+    public StaticAbilityIndex(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Marks a card whose zone or static abilities may have changed.
+     */
+    public void cardChanged(final Card c) {
+        if (rebuild) {
+            return;
+        }
+        if (changedCards.add(c) && changedCards.size() > MAX_CHANGED_CARDS) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Marks the whole index as out of date, e.g. after the contents of a zone were replaced.
+     */
+    public void invalidate() {
+        rebuild = true;
+        changedCards.clear();
+    }
+
+    /**
+     * @return the cards (that aren't phased out) in the static ability source zones which have a
+     * static ability with one of the given modes, in the same order as
+     * {@code game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)}
+     */
+    public CardCollectionView getCardsWith(final String... modes) {
+        update();
+        CardCollection result = null;
+        for (String mode : modes) {
+            Map<Integer, Card> cards = cardsByMode.get(mode);
+            if (cards == null) {
+                continue;
+            }
+            for (Card c : cards.values()) {
+                if (!isActive(c)) {
+                    continue;
+                }
+                if (result == null) {
+                    result = new CardCollection();
+                }
+                result.add(c);
+            }
+        }
+        if (result == null) {
+            return CardCollection.EMPTY;
+        }
+        // The first static ability that applies can decide the outcome (e.g. which player chooses),
+        // so keep the order the source zones were scanned in.
+        if (result.size() > 1) {
+            final Map<Card, Long> order = Maps.newHashMap();
+            for (final Card c : result) {
+                order.put(c, getZoneOrder(c));
+            }
+            result.sort(Comparator.comparing(order::get));
+        }
+        return result;
+    }
+
+    private long getZoneOrder(final Card c) {
+        final Zone zone = c.getZone();
+        final ZoneType zt = zone.getZoneType();
+        // the stack is shared by all players
+        final long player = zt == ZoneType.Stack ? 0 : game.getPlayers().indexOf(zone.getPlayer());
+        final long zoneIndex = ZoneType.STATIC_ABILITIES_SOURCE_ZONES.indexOf(zt);
+        return (zoneIndex << 48) | (player << 32) | zone.getCards(false).indexOf(c);
+    }
+
+    private boolean isActive(final Card c) {
+        if (c.isPhasedOut()) {
+            return false;
+        }
+        Player p = c.getZone().getPlayer();
+        return p == null || game.getPlayers().contains(p);
+    }
+
+    private void update() {
+        if (rebuild) {
+            cardsByMode.clear();
+            modesByCard.clear();
+            indexedCards.clear();
+            for (final Player p : game.getPlayers()) {
+                for (final ZoneType zt : ZoneType.STATIC_ABILITIES_SOURCE_ZONES) {
+                    if (zt == ZoneType.Stack) {
+                        continue;
+                    }
+                    for (final Card c : p.getCardsIn(zt, false)) {
+                        add(c);
+                    }
+                }
+            }
+            for (final Card c : game.getStackZone().getCards()) {
+                add(c);
+            }
+            rebuild = false;
+            return;
+        }
+        if (changedCards.isEmpty()) {
+            return;
+        }
+        // A card changing zones is usually replaced by a new object with the same id, and the old
+        // object may report its change after the new one was indexed, so look for whichever of
+        // them is actually in a source zone now.
+        final List<Card> changed = Lists.newArrayList(changedCards);
+        changedCards.clear();
+        for (final Card c : changed) {
+            Card current = getCardInZone(c);
+            Card indexed = indexedCards.get(c.getId());
+            if (current == null && indexed != null) {
+                current = getCardInZone(indexed);
+            }
+            remove(c.getId());
+            if (current != null) {
+                add(current);
+            }
+        }
+    }
+
+    private static Card getCardInZone(final Card c) {
+        Zone zone = c.getZone();
+        if (zone == null || !ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zone.getZoneType())) {
+            return null;
+        }
+        for (final Card inZone : zone.getCards(false)) {
+            if (inZone.getId() == c.getId()) {
+                return inZone;
+            }
+        }
+        return null;
+    }
+
+    private void add(final Card c) {
+        Set<String> modes = null;
+        for (final StaticAbility stAb : c.getStaticAbilities()) {
+            if (!stAb.hasParam("Mode")) {
+                continue;
+            }
+            if (modes == null) {
+                modes = Sets.newHashSet();
+            }
+            String mode = stAb.getParam("Mode");
+            if (modes.add(mode)) {
+                Map<Integer, Card> cards = cardsByMode.get(mode);
+                if (cards == null) {
+                    cards = new LinkedHashMap<>();
+                    cardsByMode.put(mode, cards);
+                }
+                cards.put(c.getId(), c);
+            }
+        }
+        if (modes != null) {
+            modesByCard.put(c.getId(), modes);
+            indexedCards.put(c.getId(), c);
+        }
+    }
+
+    private void remove(final int id) {
+        Set<String> modes = modesByCard.remove(id);
+        indexedCards.remove(id);
+        if (modes == null) {
+            return;
+        }
+        for (final String mode : modes) {
+            cardsByMode.get(mode).remove(id);
+        }
+    }
+}
@@ -44,7 +44,7 @@ public class StaticAbilityMustTarget {
                 // Check if currentAbility can target any MustTarget cards
                 TargetRestrictions tgt = currentAbility.getTargetRestrictions();
                 List<ZoneType> zone = tgt.getZone();
-                List<Card> validCards = CardLists.getValidCards(game.getCardsIn(zone), tgt.getValidTgts(), currentAbility.getActivatingPlayer(), currentAbility.getHostCard(), currentAbility);
+                List<Card> validCards = CardLists.getValidCards(game.getCardsInView(zone), tgt.getValidTgts(), currentAbility.getActivatingPlayer(), currentAbility.getHostCard(), currentAbility);
                 List<Card> choices = CardLists.getTargetableCards(validCards, currentAbility);
 
                 isRestrictionsMet(restrictions, choices, currentAbility);
@@ -59,7 +59,7 @@ public class StaticAbilityMustTarget {
         final Game game = spellAbility.getHostCard().getGame();
         List<Pair<String, ZoneType>> restrictions = new ArrayList<>();
 
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : game.getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE) || !stAb.matchesValidParam("ValidSA", spellAbility)) {
                     continue;
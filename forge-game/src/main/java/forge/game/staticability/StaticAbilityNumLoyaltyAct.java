@@ -3,7 +3,6 @@ package forge.game.staticability;
 import forge.game.ability.AbilityUtils;
 import forge.game.card.Card;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 /**
  * The Class StaticAbility_NumLoyaltyAct.
@@ -14,7 +13,7 @@ public class StaticAbilityNumLoyaltyAct {
     static String MODE = "NumLoyaltyAct";
 
     public static boolean limitIncrease(final Card card) {
-        for (final Card ca : card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : card.getGame().getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE)) {
                     continue;
@@ -42,7 +41,7 @@ public class StaticAbilityNumLoyaltyAct {
 
     public static int additionalActivations(final Card card, final SpellAbility sa) {
         int addl = 0;
-        for (final Card ca : card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : card.getGame().getStaticAbilityIndex().getCardsWith(MODE)) {
             for (final StaticAbility stAb : ca.getStaticAbilities()) {
                 if (!stAb.checkConditions(MODE)) {
                     continue;
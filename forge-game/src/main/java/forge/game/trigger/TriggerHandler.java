@@ -48,9 +48,11 @@ import io.sentry.Sentry;
 public class TriggerHandler {
     private final Set<TriggerType> suppressedModes = Collections.synchronizedSet(EnumSet.noneOf(TriggerType.class));
     private boolean allSuppressed = false;
-    private final List<Trigger> activeTriggers = Collections.synchronizedList(new ArrayList<>());
+    // active and delayed triggers are kept by mode, so an event only looks at the triggers that could match it
+    private final ListMultimap<TriggerType, Trigger> activeTriggers = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
+    private final Set<Integer> activeTriggerIds = Collections.synchronizedSet(new HashSet<>());
 
-    private final List<Trigger> delayedTriggers = Collections.synchronizedList(new ArrayList<>());
+    private final ListMultimap<TriggerType, Trigger> delayedTriggers = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
     private final List<Trigger> thisTurnDelayedTriggers = Collections.synchronizedList(new ArrayList<>());
     private final ListMultimap<Player, Trigger> playerDefinedDelayedTriggers = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
     private final List<TriggerWaiting> waitingTriggers = Collections.synchronizedList(new ArrayList<>());
@@ -64,8 +66,22 @@ public class TriggerHandler {
         return !delayedTriggers.isEmpty();
     }
 
+    /**
+     * @return the delayed triggers waiting for their event, and the ones waiting for a player's turn to start
+     */
+    public final List<Trigger> getDelayedTriggers() {
+        final List<Trigger> result;
+        synchronized (delayedTriggers) {
+            result = new ArrayList<>(delayedTriggers.values());
+        }
+        synchronized (playerDefinedDelayedTriggers) {
+            result.addAll(playerDefinedDelayedTriggers.values());
+        }
+        return result;
+    }
+
     public final void registerDelayedTrigger(final Trigger trig) {
-        delayedTriggers.add(trig);
+        delayedTriggers.put(trig.getMode(), trig);
     }
 
     public final void clearDelayedTrigger() {
@@ -74,20 +90,22 @@ public class TriggerHandler {
 
     public final void registerThisTurnDelayedTrigger(final Trigger trig) {
         thisTurnDelayedTriggers.add(trig);
-        delayedTriggers.add(trig);
+        delayedTriggers.put(trig.getMode(), trig);
     }
 
     public final void clearThisTurnDelayedTrigger() {
-        delayedTriggers.removeAll(thisTurnDelayedTriggers);
+        for (final Trigger trigger : thisTurnDelayedTriggers) {
+            delayedTriggers.remove(trigger.getMode(), trigger);
+        }
         thisTurnDelayedTriggers.clear();
     }
 
     public final void clearDelayedTrigger(final Card card) {
-        final List<Trigger> deltrigs = new ArrayList<>(delayedTriggers);
+        final List<Trigger> deltrigs = new ArrayList<>(delayedTriggers.values());
 
         for (final Trigger trigger : deltrigs) {
             if (trigger.getHostCard().equals(card)) {
-                delayedTriggers.remove(trigger);
+                delayedTriggers.remove(trigger.getMode(), trigger);
             }
         }
     }
@@ -103,7 +121,9 @@ public class TriggerHandler {
     public final void handlePlayerDefinedDelTriggers(final Player player) {
         final List<Trigger> playerTriggers = playerDefinedDelayedTriggers.removeAll(player);
         Iterables.addAll(thisTurnDelayedTriggers, Iterables.filter(playerTriggers, CardTraitPredicates.hasParam("ThisTurn")));
-        delayedTriggers.addAll(playerTriggers);
+        for (final Trigger trigger : playerTriggers) {
+            delayedTriggers.put(trigger.getMode(), trigger);
+        }
     }
 
     public final void suppressMode(final TriggerType mode) {
@@ -193,12 +213,13 @@ public class TriggerHandler {
 
     private void buildActiveTrigger() {
         activeTriggers.clear();
+        activeTriggerIds.clear();
         game.forEachCardInGame(new Visitor<Card>() {
             @Override
             public boolean visit(Card c) {
                 for (final Trigger t : c.getTriggers()) {
                     if (isTriggerActive(t)) {
-                        activeTriggers.add(t);
+                        addActiveTrigger(t);
                     }
                 }
                 return true;
@@ -219,7 +240,7 @@ public class TriggerHandler {
     public final void clearActiveTriggers(final Card c, Zone zoneFrom) {
         final List<Trigger> toBeRemoved = Lists.newArrayList();
 
-        for (Trigger t : activeTriggers) {
+        for (Trigger t : activeTriggers.values()) {
             // Clear if no ZoneFrom, or not coming from the TriggerZone
             if (c.getId() == t.getHostCard().getId()) {
                 if (!c.getTriggers().contains(t) || !t.zonesCheck(zoneFrom))
@@ -227,7 +248,11 @@ public class TriggerHandler {
             }
         }
 
-        activeTriggers.removeAll(toBeRemoved);
+        for (Trigger t : toBeRemoved) {
+            if (activeTriggers.remove(t.getMode(), t)) {
+                activeTriggerIds.remove(t.getId());
+            }
+        }
     }
 
     public final void registerActiveTrigger(final Card c, final boolean onlyExtrinsic) {
@@ -253,12 +278,17 @@ public class TriggerHandler {
 
     public final boolean registerOneTrigger(final Trigger t) {
         if (isTriggerActive(t)) {
-            activeTriggers.add(t);
+            addActiveTrigger(t);
             return true;
         }
         return false;
     }
 
+    private void addActiveTrigger(final Trigger t) {
+        activeTriggers.put(t.getMode(), t);
+        activeTriggerIds.add(t.getId());
+    }
+
     public final void runTrigger(final TriggerType mode, final Map<AbilityKey, Object> runParams, boolean holdTrigger) {
         if (isTriggerSuppressed(mode)) {
             return;
@@ -274,7 +304,7 @@ public class TriggerHandler {
     }
 
     private void runStateTrigger(final Map<AbilityKey, Object> runParams) {
-        for (final Trigger t: Lists.newArrayList(activeTriggers)) {
+        for (final Trigger t: Lists.newArrayList(activeTriggers.get(TriggerType.Always))) {
             if (canRunTrigger(t, TriggerType.Always, runParams)) {
                 runSingleTrigger(t, runParams);
             }
@@ -307,12 +337,12 @@ public class TriggerHandler {
         }
 
         // Copy triggers here, so things can be modified just in case
-        final List<Trigger> delayedTriggersWorkingCopy = new ArrayList<>(delayedTriggers);
+        final List<Trigger> delayedTriggersWorkingCopy = new ArrayList<>(delayedTriggers.get(mode));
 
         boolean checkStatics = false;
 
         // Static triggers
-        for (final Trigger t : Lists.newArrayList(activeTriggers)) {
+        for (final Trigger t : Lists.newArrayList(activeTriggers.get(mode))) {
             if (t.isStatic() && canRunTrigger(t, mode, runParams)) {
                 int x = 1 + StaticAbilityPanharmonicon.handlePanharmonicon(game, t, runParams);
 
@@ -355,7 +385,7 @@ public class TriggerHandler {
         final TriggerType mode = wt.getMode();
         final Map<AbilityKey, Object> runParams = wt.getParams();
         final boolean wasCollected = wt.getTriggers() != null;
-        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : activeTriggers;
+        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : activeTriggers.get(mode);
 
         boolean checkStatics = false;
 
@@ -373,7 +403,7 @@ public class TriggerHandler {
         for (final Trigger deltrig : delayedTriggersWorkingCopy) {
             if (deltrig.getHostCard().getController().equals(player)) {
                 if (isTriggerActive(deltrig) && canRunTrigger(deltrig, mode, runParams)) {
-                    delayedTriggers.remove(deltrig);
+                    delayedTriggers.remove(deltrig.getMode(), deltrig);
                     runSingleTrigger(deltrig, runParams);
                 }
             }
@@ -405,14 +435,8 @@ public class TriggerHandler {
             return false; // Host card isn't where it needs to be.
         }
 
-        for (Trigger t : this.activeTriggers) {
-            // If an ID that matches this ID is already active, don't add it
-            if (regtrig.getId() == t.getId()) {
-                return false;
-            }
-        }
-
-        return true;
+        // If an ID that matches this ID is already active, don't add it
+        return !activeTriggerIds.contains(regtrig.getId());
     }
 
     private boolean canRunTrigger(final Trigger regtrig, final TriggerType mode, final Map<AbilityKey, Object> runParams) {
@@ -625,7 +649,7 @@ public class TriggerHandler {
 
     public List<Trigger> getActiveTrigger(final TriggerType mode, final Map<AbilityKey, Object> runParams) {
         List<Trigger> trigger = Lists.newArrayList();
-        for (final Trigger t : activeTriggers) {
+        for (final Trigger t : activeTriggers.get(mode)) {
             if (canRunTrigger(t, mode, runParams)) {
                 trigger.add(t);
             }
@@ -634,11 +658,11 @@ public class TriggerHandler {
     }
 
     public void onPlayerLost(Player p) {
-        List<Trigger> lost = new ArrayList<>(delayedTriggers);
+        List<Trigger> lost = new ArrayList<>(delayedTriggers.values());
         for (Trigger t : lost) {
             // CR 800.4d trigger controller lost game
             if (t.getHostCard().getOwner().equals(p)) {
-                delayedTriggers.remove(t);
+                delayedTriggers.remove(t.getMode(), t);
             }
         }
         // run all ChangesZone
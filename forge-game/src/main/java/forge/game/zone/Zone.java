@@ -23,11 +23,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 import forge.game.Game;
 import forge.game.GameType;
@@ -38,6 +40,7 @@ import forge.game.card.CardUtil;
 import forge.game.event.EventValueChangeType;
 import forge.game.event.GameEventZone;
 import forge.game.player.Player;
+import forge.game.replacement.ReplacementEffectIndex;
 import forge.util.CollectionSuppliers;
 import forge.util.MyRandom;
 import forge.util.maps.EnumMapOfLists;
@@ -134,6 +137,12 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
                 cardList.add(index.intValue(), c);
             }
         }
+        if (ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zoneType)) {
+            game.getStaticAbilityIndex().cardChanged(c);
+        }
+        if (ReplacementEffectIndex.INDEXED_ZONES.contains(zoneType)) {
+            game.getReplacementEffectIndex().cardChanged(c);
+        }
         onChanged();
 
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Added, c));
@@ -149,16 +158,39 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
 
     public void remove(final Card c) {
         if (cardList.remove(c)) {
+            if (ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zoneType)) {
+                game.getStaticAbilityIndex().cardChanged(c);
+            }
+            if (ReplacementEffectIndex.INDEXED_ZONES.contains(zoneType)) {
+                game.getReplacementEffectIndex().cardChanged(c);
+            }
             onChanged();
             game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Removed, c));
         }
     }
 
     public final void setCards(final Iterable<Card> cards) {
+        // a shuffle puts back the same cards, only the ones that came or went need to be indexed again
+        final boolean indexed = ReplacementEffectIndex.INDEXED_ZONES.contains(zoneType) && game.getReplacementEffectIndex().isGameZone(this);
+        final Set<Card> oldCards = indexed ? Sets.newIdentityHashSet() : null;
+        if (indexed) {
+            oldCards.addAll(cardList);
+        }
         cardList.clear();
         for (Card c : cards) {
             c.setZone(this);
             cardList.add(c);
+            if (indexed && !oldCards.remove(c)) {
+                game.getReplacementEffectIndex().cardChanged(c);
+            }
+        }
+        if (indexed) {
+            for (Card c : oldCards) {
+                game.getReplacementEffectIndex().cardChanged(c);
+            }
+        }
+        if (ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zoneType)) {
+            game.getStaticAbilityIndex().invalidate();
         }
         onChanged();
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.ComplexUpdate, null));
@@ -167,6 +199,12 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     public final void removeAllCards(boolean forcedWithoutEvents) {
         if (forcedWithoutEvents) {
             cardList.clear();
+            if (ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zoneType)) {
+                game.getStaticAbilityIndex().invalidate();
+            }
+            if (ReplacementEffectIndex.INDEXED_ZONES.contains(zoneType)) {
+                game.getReplacementEffectIndex().invalidate();
+            }
         } else {
             for (Card c : cardList) {
                 remove(c);
@@ -286,9 +324,25 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     }
 
     public Zone getLKICopy(Map<Integer, Card> cachedMap) {
+        return getLKICopy(cachedMap, Collections.emptyMap());
+    }
+
+    /**
+     * Same as {@link #getLKICopy(Map)}, but the cards found in {@code kept} keep that copy
+     * instead of being copied again.
+     */
+    public Zone getLKICopy(Map<Integer, Card> cachedMap, Map<Integer, Card> kept) {
         Zone result = new Zone(zoneType, game);
 
-        result.setCards(CardUtil.getLKICopyList(getCards(), cachedMap));
+        // not part of the game, so there's nothing to report
+        for (Card c : getCards()) {
+            Card lki = kept.get(c.getId());
+            if (lki == null) {
+                lki = CardUtil.getLKICopy(c, cachedMap);
+            }
+            lki.setZone(result);
+            result.cardList.add(lki);
+        }
 
         return result;
     }
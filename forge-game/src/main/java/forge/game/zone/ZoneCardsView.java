@@ -0,0 +1,185 @@
+package forge.game.zone;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.AbstractIterator;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.player.Player;
+import forge.game.player.PlayerCollection;
+
+/**
+ * The cards in some zones of all players, in the same order as {@link Game#getCardsIn(Iterable)},
+ * read straight from the zones instead of being copied into a new collection.
+ * <p>
+ * Meant for callers that only look at the cards, e.g. to find static abilities or to count something.
+ * The view always shows the zones as they are: moving cards while iterating it fails just like
+ * iterating a zone does, so use {@link Game#getCardsIn(Iterable)} to get a copy for that.
+ */
+public final class ZoneCardsView implements Iterable<Card> {
+
+    private final Game game;
+    private final List<ZoneType> zones;
+
+    public ZoneCardsView(final Game game, final List<ZoneType> zones) {
+        this.game = game;
+        this.zones = zones;
+    }
+
+    public int size() {
+        int size = 0;
+        for (final ZoneType zt : zones) {
+            if (zt == ZoneType.Battlefield) {
+                // phased out cards don't count
+                size += count(zt, null);
+                continue;
+            }
+            if (zt == ZoneType.Stack) {
+                size += game.getStackZone().size();
+                continue;
+            }
+            for (final Player p : game.getPlayers()) {
+                size += getCards(p, zt).size();
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    public boolean contains(final Card c) {
+        if (c == null) {
+            return false;
+        }
+        for (final ZoneType zt : zones) {
+            if (zt == ZoneType.Stack) {
+                if (game.getStackZone().contains(c)) {
+                    return true;
+                }
+                continue;
+            }
+            for (final Player p : game.getPlayers()) {
+                if (getCards(p, zt).contains(c) && !isFilteredOut(c, zt)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@code CardLists.count(game.getCardsIn(zones), predicate)}.
+     */
+    public int count(final Predicate<Card> predicate) {
+        int count = 0;
+        for (final ZoneType zt : zones) {
+            count += count(zt, predicate);
+        }
+        return count;
+    }
+
+    /**
+     * Same as {@code Iterables.any(game.getCardsIn(zones), predicate)}.
+     */
+    public boolean anyMatch(final Predicate<Card> predicate) {
+        for (final Card c : this) {
+            if (predicate.apply(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int count(final ZoneType zt, final Predicate<Card> predicate) {
+        int count = 0;
+        if (zt == ZoneType.Stack) {
+            for (final Card c : game.getStackZone().getCards()) {
+                if (predicate == null || predicate.apply(c)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (final Player p : game.getPlayers()) {
+            for (final Card c : getCards(p, zt)) {
+                if (!isFilteredOut(c, zt) && (predicate == null || predicate.apply(c))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static CardCollectionView getCards(final Player p, final ZoneType zt) {
+        if (zt == ZoneType.Flashback) {
+            // not a real zone, it has to be worked out
+            return p.getCardsIn(zt);
+        }
+        final PlayerZone zone = p.getZone(zt);
+        if (zone == null) {
+            return CardCollection.EMPTY;
+        }
+        // the phased out cards are skipped while iterating, see isFilteredOut
+        return zone.getCards(false);
+    }
+
+    private static boolean isFilteredOut(final Card c, final ZoneType zt) {
+        // same as PlayerZoneBattlefield.getCards
+        return zt == ZoneType.Battlefield && c.isPhasedOut();
+    }
+
+    @Override
+    public Iterator<Card> iterator() {
+        return new AbstractIterator<Card>() {
+            private int zoneIndex = -1;
+            private int playerIndex = 0;
+            private Iterator<Card> cards = Collections.emptyIterator();
+
+            @Override
+            protected Card computeNext() {
+                while (true) {
+                    while (cards.hasNext()) {
+                        final Card c = cards.next();
+                        if (!isFilteredOut(c, zones.get(zoneIndex))) {
+                            return c;
+                        }
+                    }
+                    if (!nextZone()) {
+                        return endOfData();
+                    }
+                }
+            }
+
+            private boolean nextZone() {
+                final PlayerCollection players = game.getPlayers();
+                if (zoneIndex >= 0 && zones.get(zoneIndex) != ZoneType.Stack && playerIndex < players.size() - 1) {
+                    playerIndex++;
+                    cards = getCards(players.get(playerIndex), zones.get(zoneIndex)).iterator();
+                    return true;
+                }
+                zoneIndex++;
+                if (zoneIndex >= zones.size()) {
+                    return false;
+                }
+                playerIndex = 0;
+                final ZoneType zt = zones.get(zoneIndex);
+                if (zt == ZoneType.Stack) {
+                    cards = game.getStackZone().getCards().iterator();
+                } else if (players.isEmpty()) {
+                    cards = Collections.emptyIterator();
+                } else {
+                    cards = getCards(players.get(0), zt).iterator();
+                }
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,384 @@
+package forge.trackable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import forge.card.CardStateName;
+import forge.game.card.CardView;
+import forge.game.card.CardView.CardStateView;
+import forge.game.player.PlayerView;
+import forge.game.spellability.StackItemView;
+
+/**
+ * The properties of trackable objects that changed since a client was last updated, so that the
+ * game view doesn't have to be sent in full each time something changes.
+ * <p>
+ * Objects the client already has are sent as a reference and looked up in its tracker, so that a
+ * changed zone only sends the list of its cards. Objects it doesn't have yet are sent in full.
+ * The client has to be sent the whole view first, see {@link Encoder}. Deltas are numbered so
+ * that the client can tell when it missed one, in which case it has to be sent the whole view again,
+ * and tagged with the encoder that made them so that the ones made before that aren't applied.
+ */
+public final class TrackableDelta implements Serializable {
+    private static final long serialVersionUID = -3158229465124186343L;
+
+    private final int generation;
+    private final int sequence;
+    private final byte[] data;
+
+    private TrackableDelta(final int generation, final int sequence, final byte[] data) {
+        this.generation = generation;
+        this.sequence = sequence;
+        this.data = data;
+    }
+
+    /**
+     * @return the encoder this delta was made by, each has its own numbering of the deltas
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return the number of this delta, the first one after the whole view was sent is 1
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Set the changed properties on the objects of the client. Nothing is changed if the client
+     * isn't in the state the delta was made for.
+     *
+     * @param root the game view of the client, which the root of the server stands for
+     * @param previousSequence the number of the last delta applied to it, 0 if none since the whole view was set
+     * @return false if the delta doesn't follow the previous one or refers to objects the client
+     *         doesn't have, then the whole view has to be sent again
+     */
+    public boolean apply(final TrackableObject root, final int previousSequence) {
+        if (sequence != previousSequence + 1) {
+            return false;
+        }
+        final List<TrackableObject> targets = Lists.newArrayList();
+        final List<Map<TrackableProperty, Object>> changes = Lists.newArrayList();
+        try (RefInputStream in = new RefInputStream(new ByteArrayInputStream(data), root)) {
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                targets.add((TrackableObject) in.readObject());
+                @SuppressWarnings("unchecked")
+                final Map<TrackableProperty, Object> props = (Map<TrackableProperty, Object>) in.readObject();
+                changes.add(props);
+            }
+            if (in.unresolved) {
+                return false;
+            }
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            targets.get(i).setProps(changes.get(i));
+        }
+        return true;
+    }
+
+    /**
+     * Builds the deltas for one client. Create a new one each time the whole view is sent again.
+     */
+    public static final class Encoder {
+        private static final AtomicInteger lastGeneration = new AtomicInteger();
+
+        private final int generation = lastGeneration.incrementAndGet();
+        private final TrackableObject root;
+        private final Tracker tracker;
+        // the objects the client has, by identity since different objects can have the same id,
+        // e.g. the view of a card that changed zones and the one of its last known information
+        private final Set<TrackableObject> known = Sets.newIdentityHashSet();
+        // the client looks objects up by id, so only the last one sent for an id can be referred to
+        private final Map<Ref, TrackableObject> lastSent = Maps.newHashMap();
+        private final Set<TrackableObject> changed;
+        private long version;
+        private int sequence = 0;
+
+        /**
+         * @param root the view that was just sent in full to the client
+         */
+        public Encoder(final TrackableObject root) {
+            this.root = root;
+            tracker = root.getTracker();
+            changed = tracker.recordChangedObjects();
+            version = tracker.getVersion();
+            addKnown(root, Sets.newIdentityHashSet());
+        }
+
+        public TrackableObject getRoot() {
+            return root;
+        }
+
+        /**
+         * Stop recording the changes for this client, call it once the encoder isn't used anymore.
+         */
+        public void close() {
+            tracker.stopRecordingChangedObjects(changed);
+            changed.clear();
+        }
+
+        /**
+         * @return the changes since the last delta, or null if nothing the client has changed
+         */
+        public TrackableDelta encode() {
+            final long since = version;
+            version = tracker.getVersion();
+            if (version == since) {
+                return null;
+            }
+
+            final List<TrackableObject> changedSince = Lists.newArrayList(changed);
+            changed.clear();
+            final List<TrackableObject> targets = Lists.newArrayList();
+            final List<Map<TrackableProperty, Object>> changes = Lists.newArrayList();
+            for (final TrackableObject o : changedSince) {
+                // objects the client doesn't have are sent in full once something refers to them
+                if (!known.contains(o)) {
+                    continue;
+                }
+                final Map<TrackableProperty, Object> props = o.getPropsChangedSince(since);
+                if (!props.isEmpty()) {
+                    targets.add(o);
+                    changes.add(props);
+                }
+            }
+            if (targets.isEmpty()) {
+                return null;
+            }
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (RefOutputStream out = new RefOutputStream(bytes, this)) {
+                out.writeInt(targets.size());
+                for (int i = 0; i < targets.size(); i++) {
+                    out.writeObject(targets.get(i));
+                    out.writeObject(changes.get(i));
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+            return new TrackableDelta(generation, ++sequence, bytes.toByteArray());
+        }
+
+        /**
+         * @return false if the object was already sent, otherwise it's about to be sent in full
+         */
+        private boolean sending(final TrackableObject o, final Ref ref) {
+            if (known.contains(o)) {
+                return false;
+            }
+            final TrackableObject previous = lastSent.put(ref, o);
+            if (previous != null) {
+                known.remove(previous);
+            }
+            known.add(o);
+            return true;
+        }
+
+        private void addKnown(final Object o, final Set<Object> visited) {
+            if (o == null || !visited.add(o)) {
+                return;
+            }
+            if (o instanceof TrackableObject) {
+                final TrackableObject obj = (TrackableObject) o;
+                final Ref ref = Ref.of(obj, root);
+                // if the view has two objects with the same id, which one the client looks up is unknown
+                if (ref != null) {
+                    final TrackableObject previous = lastSent.put(ref, obj);
+                    if (previous == null) {
+                        known.add(obj);
+                    } else {
+                        known.remove(previous);
+                    }
+                }
+                final Map<TrackableProperty, Object> props = obj.getProps();
+                for (final Object value : props.values()) {
+                    addKnown(value, visited);
+                }
+            } else if (o instanceof Map) {
+                for (final Map.Entry<?, ?> e : ((Map<?, ?>) o).entrySet()) {
+                    addKnown(e.getKey(), visited);
+                    addKnown(e.getValue(), visited);
+                }
+            } else if (o instanceof Iterable) {
+                for (final Object item : (Iterable<?>) o) {
+                    addKnown(item, visited);
+                }
+            }
+        }
+    }
+
+    private enum Kind {
+        Game, Card, CardState, Player, StackItem
+    }
+
+    /**
+     * Stands for an object the client already has.
+     */
+    private static final class Ref implements Serializable {
+        private static final long serialVersionUID = 4521863927380447711L;
+
+        private final Kind kind;
+        private final int id;
+        private final CardStateName state;
+
+        private Ref(final Kind kind, final int id, final CardStateName state) {
+            this.kind = kind;
+            this.id = id;
+            this.state = state;
+        }
+
+        /**
+         * @return null for objects the client can't look up, which are always sent in full
+         */
+        private static Ref of(final TrackableObject o, final TrackableObject root) {
+            if (o == root) {
+                return new Ref(Kind.Game, o.getId(), null);
+            }
+            if (o instanceof CardView) {
+                return new Ref(Kind.Card, o.getId(), null);
+            }
+            if (o instanceof CardStateView) {
+                return new Ref(Kind.CardState, o.getId(), ((CardStateView) o).getState());
+            }
+            if (o instanceof PlayerView) {
+                return new Ref(Kind.Player, o.getId(), null);
+            }
+            if (o instanceof StackItemView) {
+                return new Ref(Kind.StackItem, o.getId(), null);
+            }
+            return null;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, id, state);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Ref)) {
+                return false;
+            }
+            final Ref other = (Ref) o;
+            return kind == other.kind && id == other.id && state == other.state;
+        }
+
+        private Object resolve(final Tracker tracker, final TrackableObject root) {
+            switch (kind) {
+            case Game:
+                return root;
+            case Card:
+                return tracker.getObj(TrackableTypes.CardViewType, id);
+            case CardState:
+                final CardView card = tracker.getObj(TrackableTypes.CardViewType, id);
+                if (card == null) {
+                    return null;
+                }
+                for (final CardStateView s : new CardStateView[] { card.getCurrentState(), card.getAlternateState(),
+                        card.getLeftSplitState(), card.getRightSplitState() }) {
+                    if (s != null && s.getState() == state) {
+                        return s;
+                    }
+                }
+                return null;
+            case Player:
+                return tracker.getObj(TrackableTypes.PlayerViewType, id);
+            case StackItem:
+                return tracker.getObj(TrackableTypes.StackItemViewType, id);
+            default:
+                return null;
+            }
+        }
+
+        private void register(final Tracker tracker, final TrackableObject o) {
+            switch (kind) {
+            case Card:
+                tracker.putObj(TrackableTypes.CardViewType, id, (CardView) o);
+                break;
+            case Player:
+                tracker.putObj(TrackableTypes.PlayerViewType, id, (PlayerView) o);
+                break;
+            case StackItem:
+                tracker.putObj(TrackableTypes.StackItemViewType, id, (StackItemView) o);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    private static final class RefOutputStream extends ObjectOutputStream {
+        private final Encoder encoder;
+
+        private RefOutputStream(final OutputStream out, final Encoder encoder) throws IOException {
+            super(out);
+            this.encoder = encoder;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) {
+            if (obj instanceof TrackableObject) {
+                final Ref ref = Ref.of((TrackableObject) obj, encoder.root);
+                if (ref != null && !encoder.sending((TrackableObject) obj, ref)) {
+                    return ref;
+                }
+            }
+            return obj;
+        }
+    }
+
+    private static final class RefInputStream extends ObjectInputStream {
+        private final TrackableObject root;
+        private final Tracker tracker;
+        private boolean unresolved = false;
+
+        private RefInputStream(final InputStream in, final TrackableObject root) throws IOException {
+            super(in);
+            this.root = root;
+            tracker = root.getTracker();
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) {
+            if (obj instanceof Ref) {
+                final Object resolved = ((Ref) obj).resolve(tracker, root);
+                if (resolved == null) {
+                    unresolved = true;
+                }
+                return resolved;
+            }
+            if (obj instanceof TrackableObject) {
+                // new object sent in full, the latest one is looked up from now on
+                final TrackableObject o = (TrackableObject) obj;
+                o.setTracker(tracker);
+                final Ref ref = Ref.of(o, null);
+                if (ref != null) {
+                    ref.register(tracker, o);
+                }
+            }
+            return obj;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package forge.trackable;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Map;
@@ -17,6 +18,8 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     protected transient Tracker tracker;
     private final Map<TrackableProperty, Object> props;
     private final Set<TrackableProperty> changedProps;
+    // version of the tracker when each property last changed, see TrackableDelta
+    private transient Map<TrackableProperty, Long> propVersions;
     private boolean copyingProps;
 
     protected TrackableObject(final int id0, final Tracker tracker) {
@@ -79,13 +82,62 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
         }
         if (value == null || value.equals(key.getDefaultValue())) {
             if (props.remove(key) != null) {
-                changedProps.add(key);
+                propChanged(key);
                 key.updateObjLookup(tracker, value);
             }
         }
-        else if (!value.equals(props.put(key, value))) {
-            changedProps.add(key);
-            key.updateObjLookup(tracker, value);
+        else {
+            final Object oldValue = props.put(key, value);
+            if (!value.equals(oldValue)) {
+                propChanged(key);
+                key.updateObjLookup(tracker, value);
+            }
+            else if (value == oldValue && (value instanceof Map || value instanceof Collection)) {
+                // the same map or collection set again may have a different content, e.g. the counters of a card,
+                // which only a client that is sent the changes needs to know about
+                recordVersion(key);
+            }
+        }
+    }
+
+    private void propChanged(final TrackableProperty key) {
+        changedProps.add(key);
+        recordVersion(key);
+    }
+
+    private void recordVersion(final TrackableProperty key) {
+        if (tracker == null || !tracker.isRecordingChanges()) {
+            return;
+        }
+        if (propVersions == null) {
+            propVersions = new EnumMap<>(TrackableProperty.class);
+        }
+        propVersions.put(key, tracker.nextVersion(this));
+    }
+
+    /**
+     * @return the properties that changed after the given version of the tracker,
+     * with null for the ones set back to their default value. Only the changes made while the tracker
+     * was recording them are known, see {@link Tracker#recordChangedObjects()}.
+     */
+    public final Map<TrackableProperty, Object> getPropsChangedSince(final long version) {
+        final Map<TrackableProperty, Object> result = new EnumMap<>(TrackableProperty.class);
+        if (propVersions != null) {
+            for (final Entry<TrackableProperty, Long> e : propVersions.entrySet()) {
+                if (e.getValue() > version) {
+                    result.put(e.getKey(), props.get(e.getKey()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Set properties received from the server, see {@link #getPropsChangedSince(long)}.
+     */
+    public final void setProps(final Map<TrackableProperty, Object> changed) {
+        for (final Entry<TrackableProperty, Object> e : changed.entrySet()) {
+            set(e.getKey(), e.getValue());
         }
     }
 
@@ -109,7 +161,7 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
 
     //use when updating collection type properties with using set
     protected final void flagAsChanged(final TrackableProperty key) {
-        changedProps.add(key);
+        propChanged(key);
         key.updateObjLookup(tracker, props.get(key));
     }
 
@@ -1,9 +1,11 @@
 package forge.trackable;
 
 import java.util.List;
+import java.util.Set;
 
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.common.collect.Table;
 
 import forge.trackable.TrackableTypes.TrackableType;
@@ -14,6 +16,49 @@ public class Tracker {
 
     private final Table<TrackableType<?>, Integer, Object> objLookups = HashBasedTable.create();
 
+    // counts the property changes of the objects of this tracker while they're recorded, so that a client
+    // can be sent only what changed since the last time it was updated (see TrackableDelta)
+    private long version = 0;
+    // one set per receiver of the changes, each emptied by its receiver once it has sent them
+    private final List<Set<TrackableObject>> changedObjects = Lists.newArrayList();
+
+    public final long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return whether anything wants to know which objects change, otherwise the objects don't keep track
+     * of when each of their properties changed
+     */
+    public final boolean isRecordingChanges() {
+        return !changedObjects.isEmpty();
+    }
+
+    final long nextVersion(final TrackableObject changed) {
+        for (final Set<TrackableObject> changes : changedObjects) {
+            changes.add(changed);
+        }
+        return ++version;
+    }
+
+    /**
+     * Start remembering which objects change, only needed when the changes are sent somewhere.
+     *
+     * @return the set the changed objects are added to, which the caller empties as it sees fit
+     */
+    public final Set<TrackableObject> recordChangedObjects() {
+        final Set<TrackableObject> changes = Sets.newIdentityHashSet();
+        changedObjects.add(changes);
+        return changes;
+    }
+
+    /**
+     * Stop adding changed objects to a set returned by {@link #recordChangedObjects()}.
+     */
+    public final void stopRecordingChangedObjects(final Set<TrackableObject> changes) {
+        changedObjects.removeIf(s -> s == changes);
+    }
+
     public final boolean isFrozen() {
         return freezeCounter > 0;
     }
@@ -0,0 +1,51 @@
+package forge.game;
+
+import java.util.Arrays;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.card.Card;
+import forge.game.card.CardCollectionView;
+import forge.game.player.Player;
+
+public class GameLastStateTest extends GameTestBase {
+    private static Card findById(CardCollectionView cards, Card c) {
+        for (Card lki : cards) {
+            if (lki.getId() == c.getId()) {
+                return lki;
+            }
+        }
+        return null;
+    }
+
+    @Test
+    public void testChoiceBeforeMoveIsInLastState() {
+        Game game = createGame();
+        Player p = game.getPlayers().get(0);
+        Card bear = addCard(p, "Grizzly Bears");
+        game.copyLastState();
+
+        // like an effect choosing a color and then destroying the card: no event in between
+        bear.setChosenColors(Arrays.asList("red"));
+        CardCollectionView lastStateBattlefield = game.copyLastStateBattlefield();
+        game.getAction().moveToGraveyard(bear, null);
+
+        Card lki = findById(lastStateBattlefield, bear);
+        AssertJUnit.assertNotNull(lki);
+        AssertJUnit.assertTrue(lki.hasChosenColor("red"));
+    }
+
+    @Test
+    public void testCopiesAreNotShared() {
+        Game game = createGame();
+        Player p = game.getPlayers().get(0);
+        Card bear = addCard(p, "Grizzly Bears");
+        game.copyLastState();
+
+        Card lki = findById(game.copyLastStateBattlefield(), bear);
+        lki.setChosenColors(Arrays.asList("blue"));
+        AssertJUnit.assertFalse(findById(game.getLastStateBattlefield(), bear).hasChosenColor());
+        AssertJUnit.assertFalse(findById(game.copyLastStateBattlefield(), bear).hasChosenColor());
+    }
+}
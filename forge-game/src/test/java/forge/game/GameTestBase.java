@@ -0,0 +1,101 @@
+package forge.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+
+import forge.LobbyPlayer;
+import forge.card.CardRarity;
+import forge.card.CardRules;
+import forge.deck.Deck;
+import forge.game.card.Card;
+import forge.game.card.CardFactory;
+import forge.game.player.IGameEntitiesFactory;
+import forge.game.player.Player;
+import forge.game.player.PlayerController;
+import forge.game.player.RegisteredPlayer;
+import forge.item.PaperCard;
+import forge.util.Lang;
+import forge.util.Localizer;
+
+/**
+ * Sets up a two player game with cards made from script lines, so that tests don't need the card
+ * database or the player controllers of the gui.
+ */
+public abstract class GameTestBase {
+    private static class TestLobbyPlayer extends LobbyPlayer implements IGameEntitiesFactory {
+        TestLobbyPlayer(String name) {
+            super(name);
+        }
+
+        @Override
+        public Player createIngamePlayer(Game game, int id) {
+            return new Player(getName(), game, id);
+        }
+
+        @Override
+        public PlayerController createMindSlaveController(Player master, Player slave) {
+            return null;
+        }
+
+        @Override
+        public void hear(LobbyPlayer player, String message) {
+        }
+    }
+
+    @BeforeClass
+    public void initLocalization() {
+        Lang.createInstance("en-US");
+        Localizer.getInstance().initialize("en-US", "../forge-gui/res/languages/");
+    }
+
+    /**
+     * The players of the games made by {@link #createGame()}; without a controller of their own by default.
+     */
+    protected LobbyPlayer createLobbyPlayer(String name) {
+        return new TestLobbyPlayer(name);
+    }
+
+    protected Game createGame() {
+        List<RegisteredPlayer> players = new ArrayList<>();
+        players.add(new RegisteredPlayer(new Deck()).setPlayer(createLobbyPlayer("p1")));
+        players.add(new RegisteredPlayer(new Deck()).setPlayer(createLobbyPlayer("p2")));
+        GameRules rules = new GameRules(GameType.Constructed);
+        return new Game(players, rules, new Match(rules, players, "Test"));
+    }
+
+    /**
+     * Creates a 2/2 creature owned by the given player, with the extra script lines (e.g. "S:Mode$ ...").
+     * A "Types:", "PT:" or "ManaCost:" line among them replaces the default one.
+     */
+    protected Card createCard(Player owner, String name, String... script) {
+        List<String> lines = new ArrayList<>(Arrays.asList("Name:" + name));
+        boolean hasTypes = false;
+        boolean hasPT = false;
+        boolean hasCost = false;
+        for (String line : script) {
+            hasTypes |= line.startsWith("Types:");
+            hasPT |= line.startsWith("PT:");
+            hasCost |= line.startsWith("ManaCost:");
+        }
+        if (!hasTypes) {
+            lines.add("Types:Creature Bear");
+        }
+        if (!hasPT && !hasTypes) {
+            lines.add("PT:2/2");
+        }
+        if (!hasCost) {
+            lines.add("ManaCost:1 G");
+        }
+        lines.addAll(Arrays.asList(script));
+        CardRules rules = CardRules.fromScript(lines);
+        return CardFactory.getCard(new PaperCard(rules, "", CardRarity.Common), owner, owner.getGame());
+    }
+
+    protected Card addCard(Player owner, String name, String... script) {
+        Card c = createCard(owner, name, script);
+        return owner.getGame().getAction().moveToPlay(c, null, null);
+    }
+}
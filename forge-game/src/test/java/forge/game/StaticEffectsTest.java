@@ -0,0 +1,53 @@
+package forge.game;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.card.Card;
+import forge.game.player.Player;
+
+public class StaticEffectsTest extends GameTestBase {
+    private static final String ANTHEM = "S:Mode$ Continuous | Affected$ Creature.Other+YouCtrl | AddPower$ 1 | AddToughness$ 1 | Description$ Other creatures you control get +1/+1.";
+
+    private Game createIncrementalGame() {
+        Game game = createGame();
+        game.getStaticEffects().setIncremental(true);
+        game.getStaticEffects().setVerifyIncremental(true);
+        return game;
+    }
+
+    @Test
+    public void testIncrementalUpdatesSeeChanges() {
+        Game game = createIncrementalGame();
+        Player p = game.getPlayers().get(0);
+
+        Card anthem = addCard(p, "Anthem Bear", ANTHEM);
+        game.getAction().checkStaticAbilities();
+        AssertJUnit.assertTrue(game.getStaticEffects().isUpToDate());
+
+        // nothing happened, so nothing is applied again (and verifying it finds nothing out of date)
+        game.getAction().checkStaticAbilities();
+
+        Card bear = addCard(p, "Grizzly Bears");
+        game.getAction().checkStaticAbilities();
+        AssertJUnit.assertEquals(3, bear.getNetPower());
+
+        game.getAction().moveToGraveyard(anthem, null);
+        game.getAction().checkStaticAbilities();
+        AssertJUnit.assertEquals(2, bear.getNetPower());
+        AssertJUnit.assertFalse(game.getStaticEffects().isApplying());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testVerifyingFindsUnreportedChanges() {
+        Game game = createIncrementalGame();
+        Player p = game.getPlayers().get(0);
+
+        Card anthem = addCard(p, "Anthem Bear", ANTHEM);
+        addCard(p, "Grizzly Bears");
+        game.getAction().checkStaticAbilities();
+        // changing a parameter isn't reported to the game
+        anthem.getStaticAbilities().get(0).putParam("AddPower", "2");
+        game.getAction().checkStaticAbilities();
+    }
+}
@@ -0,0 +1,67 @@
+package forge.game.card;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.card.ColorSet;
+import forge.card.MagicColor;
+import forge.card.RemoveType;
+import forge.game.Game;
+import forge.game.GameTestBase;
+
+public class CardCharacteristicsMemoTest extends GameTestBase {
+    private static final String SWITCHED = "CARDNAME's power and toughness are switched";
+
+    @Test
+    public void testChangedTypeIsSeen() {
+        Game game = createGame();
+        Card bear = addCard(game.getPlayers().get(0), "Grizzly Bears");
+        long ts = game.getNextTimestamp();
+
+        bear.addChangedCardTypes(Arrays.asList("Artifact"), null, false, EnumSet.noneOf(RemoveType.class), ts, 0, true, false);
+        AssertJUnit.assertTrue(bear.getType().isArtifact());
+        // memoized now, so a change of the card's own type must get through too
+        bear.getCurrentState().addType("Legendary");
+        AssertJUnit.assertTrue(bear.getType().isLegendary());
+        AssertJUnit.assertTrue(bear.getType().isArtifact());
+
+        bear.removeChangedCardTypes(ts, 0);
+        AssertJUnit.assertFalse(bear.getType().isArtifact());
+        AssertJUnit.assertTrue(bear.getType().isCreature());
+    }
+
+    @Test
+    public void testChangedColorIsSeen() {
+        Game game = createGame();
+        Card bear = addCard(game.getPlayers().get(0), "Grizzly Bears");
+        AssertJUnit.assertTrue(bear.getColor().hasGreen());
+        long ts = game.getNextTimestamp();
+
+        bear.addColor(ColorSet.fromMask(MagicColor.BLUE), false, ts, 0, false);
+        AssertJUnit.assertTrue(bear.getColor().isMonoColor());
+        AssertJUnit.assertTrue(bear.getColor().hasBlue());
+        bear.getCurrentState().setColor(MagicColor.RED);
+        bear.removeColor(ts, 0);
+        AssertJUnit.assertTrue(bear.getColor().hasRed());
+        AssertJUnit.assertFalse(bear.getColor().hasBlue());
+    }
+
+    @Test
+    public void testChangedKeywordIsSeen() {
+        Game game = createGame();
+        Card bear = addCard(game.getPlayers().get(0), "Tall Bear", "PT:1/3");
+        AssertJUnit.assertFalse(bear.isPTSwitched());
+        AssertJUnit.assertEquals(1, bear.getNetPower());
+        long ts = game.getNextTimestamp();
+
+        bear.addChangedCardKeywords(Arrays.asList(SWITCHED), null, false, ts, 0);
+        AssertJUnit.assertTrue(bear.isPTSwitched());
+        AssertJUnit.assertEquals(3, bear.getNetPower());
+        bear.removeChangedCardKeywords(ts, 0);
+        AssertJUnit.assertFalse(bear.isPTSwitched());
+        AssertJUnit.assertEquals(1, bear.getNetPower());
+    }
+}
@@ -0,0 +1,76 @@
+package forge.game.replacement;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.GameTestBase;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class ReplacementEffectIndexTest extends GameTestBase {
+    private static final String PREVENT_DAMAGE = "R:Event$ DamageDone | Prevent$ True | ValidTarget$ Card.Self | Description$ Prevent all damage that would be dealt to CARDNAME.";
+    private static final String PREVENT_LIFE_GAIN = "R:Event$ GainLife | ActiveZones$ Graveyard | Prevent$ True | Description$ If a player would gain life, that player gains no life instead.";
+
+    // what ReplacementHandler looked at before there was an index
+    private static boolean scan(Card c, ReplacementType mode) {
+        for (ReplacementEffect re : c.getReplacementEffects()) {
+            if (re.getMode() == mode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertSameAsScan(Game game) {
+        ReplacementEffectIndex index = game.getReplacementEffectIndex();
+        for (Player p : game.getPlayers()) {
+            for (ZoneType zt : ReplacementEffectIndex.INDEXED_ZONES) {
+                if (zt == ZoneType.Stack) {
+                    continue;
+                }
+                for (Card c : p.getCardsIn(zt)) {
+                    for (ReplacementType mode : ReplacementType.values()) {
+                        AssertJUnit.assertEquals(c + " in " + zt + ", " + mode, scan(c, mode), index.mayHave(c, mode));
+                    }
+                }
+            }
+        }
+    }
+
+    private Card addCardTo(ZoneType zone, Player owner, String name, String... script) {
+        return owner.getGame().getAction().moveTo(zone, createCard(owner, name, script), null, null);
+    }
+
+    @Test
+    public void testIndexMatchesScanOutsideBattlefield() {
+        Game game = createGame();
+        Player p1 = game.getPlayers().get(0);
+        Player p2 = game.getPlayers().get(1);
+
+        Card prevent = addCardTo(ZoneType.Hand, p1, "Preventing Bear", PREVENT_DAMAGE);
+        Card noGain = addCardTo(ZoneType.Graveyard, p2, "No Gain Bear", PREVENT_LIFE_GAIN);
+        Card both = addCardTo(ZoneType.Exile, p1, "Both Bear", PREVENT_DAMAGE, PREVENT_LIFE_GAIN);
+        Card vanilla = addCardTo(ZoneType.Library, p2, "Vanilla Bear");
+        assertSameAsScan(game);
+
+        prevent = game.getAction().moveTo(ZoneType.Graveyard, prevent, null, null);
+        noGain = game.getAction().moveTo(ZoneType.Exile, noGain, null, null);
+        both = game.getAction().moveTo(ZoneType.Library, both, null, null);
+        vanilla = game.getAction().moveTo(ZoneType.Hand, vanilla, null, null);
+        assertSameAsScan(game);
+
+        // an effect gained and lost outside of a zone change
+        ReplacementEffect re = vanilla.addReplacementEffect(ReplacementHandler.parseReplacement(PREVENT_DAMAGE.substring("R:".length()), vanilla, false));
+        assertSameAsScan(game);
+        vanilla.removeReplacementEffect(re);
+        assertSameAsScan(game);
+
+        // through the battlefield, which isn't indexed, and back
+        both = game.getAction().moveToPlay(both, null, null);
+        both = game.getAction().moveTo(ZoneType.Command, both, null, null);
+        assertSameAsScan(game);
+        AssertJUnit.assertTrue(game.getReplacementEffectIndex().mayHave(both, ReplacementType.GainLife));
+    }
+}
@@ -0,0 +1,70 @@
+package forge.game.staticability;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.GameTestBase;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class StaticAbilityIndexTest extends GameTestBase {
+    private static final String CANT_BE_CAST = "S:Mode$ CantBeCast | ValidCard$ Card.Blue | Description$ Blue spells can't be cast.";
+    private static final String CANT_ATTACK = "S:Mode$ CantAttack | ValidCard$ Creature.OppCtrl | Description$ Creatures your opponents control can't attack.";
+
+    // what the static ability checks looked at before there was an index
+    private static CardCollection scan(Game game, String... modes) {
+        List<String> modeList = Arrays.asList(modes);
+        CardCollection result = new CardCollection();
+        for (Card c : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+            for (StaticAbility stAb : c.getStaticAbilities()) {
+                if (modeList.contains(stAb.getParam("Mode"))) {
+                    result.add(c);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void assertSameAsScan(Game game, String... modes) {
+        AssertJUnit.assertEquals(scan(game, modes).toString(),
+                new CardCollection(game.getStaticAbilityIndex().getCardsWith(modes)).toString());
+    }
+
+    @Test
+    public void testIndexMatchesScanOfSourceZones() {
+        Game game = createGame();
+        Player p1 = game.getPlayers().get(0);
+        Player p2 = game.getPlayers().get(1);
+
+        // added in a different order than the zones are scanned in
+        Card c1 = addCard(p2, "Second Player's Bear", CANT_BE_CAST);
+        Card c2 = addCard(p1, "First Player's Bear", CANT_ATTACK);
+        Card c3 = addCard(p1, "Both Modes Bear", CANT_ATTACK, CANT_BE_CAST);
+        addCard(p1, "Vanilla Bear");
+        assertSameAsScan(game, "CantBeCast");
+        assertSameAsScan(game, "CantAttack");
+        assertSameAsScan(game, "CantAttack", "CantBeCast");
+        assertSameAsScan(game, "CantBeCast", "CantAttack");
+
+        c1 = game.getAction().moveToGraveyard(c1, null);
+        c2 = game.getAction().exile(c2, null, null);
+        assertSameAsScan(game, "CantAttack", "CantBeCast");
+
+        c3.setPhasedOut(p1);
+        assertSameAsScan(game, "CantAttack", "CantBeCast");
+        c3.setPhasedOut(null);
+        assertSameAsScan(game, "CantAttack", "CantBeCast");
+
+        game.getAction().moveToPlay(c1, null, null);
+        game.getAction().moveTo(ZoneType.Hand, c2, null, null);
+        assertSameAsScan(game, "CantAttack", "CantBeCast");
+        AssertJUnit.assertEquals(2, game.getStaticAbilityIndex().getCardsWith("CantAttack", "CantBeCast").size());
+    }
+}
@@ -0,0 +1,68 @@
+package forge.game.zone;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Predicate;
+
+import forge.game.Game;
+import forge.game.GameTestBase;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardLists;
+import forge.game.player.Player;
+
+public class ZoneCardsViewTest extends GameTestBase {
+    // what getCardsIn(Iterable) used to do
+    private static CardCollection copyZoneByZone(Game game, List<ZoneType> zones) {
+        CardCollection cards = new CardCollection();
+        for (ZoneType zt : zones) {
+            cards.addAll(game.getCardsIn(zt));
+        }
+        return cards;
+    }
+
+    @Test
+    public void testViewMatchesCopies() {
+        // not a constant, ZoneType needs the localization set up first
+        List<ZoneType> zones = Arrays.asList(ZoneType.Battlefield, ZoneType.Graveyard, ZoneType.Exile);
+        Game game = createGame();
+        Player p1 = game.getPlayers().get(0);
+        Player p2 = game.getPlayers().get(1);
+
+        Card phased = addCard(p1, "Phased Bear");
+        addCard(p2, "Grizzly Bears");
+        addCard(p1, "Runeclaw Bear");
+        game.getAction().moveToGraveyard(addCard(p2, "Dead Bear"), null);
+        game.getAction().exile(addCard(p1, "Exiled Bear"), null, null);
+        phased.setPhasedOut(p1);
+
+        ZoneCardsView view = game.getCardsInView(zones);
+        CardCollection expected = copyZoneByZone(game, zones);
+        AssertJUnit.assertEquals(4, expected.size());
+        AssertJUnit.assertEquals(expected.toString(), new CardCollection(view).toString());
+        AssertJUnit.assertEquals(expected.toString(), game.getCardsIn(zones).toString());
+        AssertJUnit.assertEquals(expected.size(), view.size());
+        AssertJUnit.assertFalse(view.isEmpty());
+
+        // phased out permanents are left out like PlayerZoneBattlefield.getCards does
+        AssertJUnit.assertFalse(view.contains(phased));
+        AssertJUnit.assertFalse(view.anyMatch(c -> c.getName().equals("Phased Bear")));
+        for (Card c : expected) {
+            AssertJUnit.assertTrue(view.contains(c));
+        }
+
+        Predicate<Card> ownedByP1 = c -> c.getOwner() == p1;
+        AssertJUnit.assertEquals(CardLists.count(expected, ownedByP1), view.count(ownedByP1));
+        AssertJUnit.assertEquals(2, game.countCardsIn(ZoneType.Battlefield, null));
+        AssertJUnit.assertEquals(game.getCardsIn(ZoneType.Battlefield).size(), game.getCardsInView(ZoneType.Battlefield).size());
+
+        phased.setPhasedOut(null);
+        AssertJUnit.assertEquals(copyZoneByZone(game, zones).toString(), new CardCollection(view).toString());
+        AssertJUnit.assertEquals(5, view.size());
+        AssertJUnit.assertTrue(view.contains(phased));
+    }
+}
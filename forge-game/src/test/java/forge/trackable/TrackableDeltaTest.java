@@ -0,0 +1,175 @@
+package forge.trackable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.GameTestBase;
+import forge.game.GameView;
+import forge.game.card.Card;
+import forge.game.card.CardView;
+import forge.game.player.Player;
+import forge.game.player.PlayerView;
+import forge.game.zone.ZoneType;
+
+public class TrackableDeltaTest extends GameTestBase {
+    private static Object roundTrip(Object o) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(o);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    // what the network client does with the game view it's sent
+    private static void setTrackers(Object o, Tracker tracker) {
+        if (o instanceof TrackableObject) {
+            TrackableObject obj = (TrackableObject) o;
+            if (obj.getTracker() == null) {
+                obj.setTracker(tracker);
+                Map<TrackableProperty, Object> props = obj.getProps();
+                for (Object value : props.values()) {
+                    setTrackers(value, tracker);
+                }
+            }
+        } else if (o instanceof Iterable) {
+            for (Object item : (Iterable<?>) o) {
+                setTrackers(item, tracker);
+            }
+        }
+    }
+
+    private static GameView copyForClient(GameView server) throws IOException, ClassNotFoundException {
+        GameView client = (GameView) roundTrip(server);
+        setTrackers(client, new Tracker());
+        client.updateObjLookup();
+        return client;
+    }
+
+    private static String describe(GameView view) {
+        StringBuilder sb = new StringBuilder();
+        for (PlayerView p : view.getPlayers()) {
+            sb.append(p.getName()).append(' ').append(p.getLife());
+            for (ZoneType zt : new ZoneType[] { ZoneType.Battlefield, ZoneType.Graveyard }) {
+                sb.append(' ').append(zt).append(':');
+                if (p.getCards(zt) != null) {
+                    for (CardView c : p.getCards(zt)) {
+                        sb.append(' ').append(c.getId()).append(c.getName()).append(c.isTapped() ? "T" : "");
+                    }
+                }
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Game game = createGame();
+        Player p1 = game.getPlayers().get(0);
+        Player p2 = game.getPlayers().get(1);
+        Card bear = addCard(p1, "Grizzly Bears");
+        GameView server = game.getView();
+        GameView client = copyForClient(server);
+        TrackableDelta.Encoder encoder = new TrackableDelta.Encoder(server);
+        AssertJUnit.assertNull(encoder.encode());
+
+        p2.loseLife(3, false, false);
+        bear.setTapped(true);
+        addCard(p2, "Runeclaw Bear");
+        TrackableDelta delta = (TrackableDelta) roundTrip(encoder.encode());
+        AssertJUnit.assertEquals(1, delta.getSequence());
+        AssertJUnit.assertTrue(delta.apply(client, 0));
+        AssertJUnit.assertEquals(describe(server), describe(client));
+
+        // the changes were drained, only what changed since is sent
+        AssertJUnit.assertNull(encoder.encode());
+        game.getAction().moveToGraveyard(bear, null);
+        delta = (TrackableDelta) roundTrip(encoder.encode());
+        AssertJUnit.assertEquals(2, delta.getSequence());
+        AssertJUnit.assertTrue(delta.apply(client, 1));
+        AssertJUnit.assertEquals(describe(server), describe(client));
+        encoder.close();
+    }
+
+    @Test
+    public void testMissedDeltaIsNotApplied() throws Exception {
+        Game game = createGame();
+        Player p1 = game.getPlayers().get(0);
+        GameView server = game.getView();
+        GameView client = copyForClient(server);
+        TrackableDelta.Encoder encoder = new TrackableDelta.Encoder(server);
+
+        p1.loseLife(2, false, false);
+        AssertJUnit.assertNotNull(encoder.encode()); // never reaches the client
+        p1.loseLife(5, false, false);
+        String before = describe(client);
+        TrackableDelta delta = (TrackableDelta) roundTrip(encoder.encode());
+        AssertJUnit.assertFalse(delta.apply(client, 0));
+        AssertJUnit.assertEquals(before, describe(client));
+
+        // the fallback: the whole view again and a new encoder
+        int generation = delta.getGeneration();
+        encoder.close();
+        client = copyForClient(server);
+        encoder = new TrackableDelta.Encoder(server);
+        p1.loseLife(1, false, false);
+        delta = (TrackableDelta) roundTrip(encoder.encode());
+        AssertJUnit.assertTrue(generation != delta.getGeneration());
+        AssertJUnit.assertTrue(delta.apply(client, 0));
+        AssertJUnit.assertEquals(describe(server), describe(client));
+        encoder.close();
+    }
+
+    @Test
+    public void testEncodersDrainTheirOwnChanges() throws Exception {
+        Game game = createGame();
+        Player p1 = game.getPlayers().get(0);
+        GameView server = game.getView();
+        TrackableDelta.Encoder first = new TrackableDelta.Encoder(server);
+        TrackableDelta.Encoder second = new TrackableDelta.Encoder(server);
+
+        p1.loseLife(2, false, false);
+        AssertJUnit.assertNotNull(first.encode());
+        AssertJUnit.assertNotNull(second.encode());
+        AssertJUnit.assertNull(first.encode());
+
+        // a closed encoder doesn't keep collecting changes
+        second.close();
+        p1.loseLife(2, false, false);
+        AssertJUnit.assertNotNull(first.encode());
+        first.close();
+    }
+
+    @Test
+    public void testNothingRecordedWithoutEncoder() throws Exception {
+        Game game = createGame();
+        Player p1 = game.getPlayers().get(0);
+        GameView server = game.getView();
+        Tracker tracker = server.getTracker();
+        AssertJUnit.assertFalse(tracker.isRecordingChanges());
+        p1.loseLife(2, false, false);
+        AssertJUnit.assertEquals(0, tracker.getVersion());
+
+        // only what changed while an encoder was open is sent
+        GameView client = copyForClient(server);
+        TrackableDelta.Encoder encoder = new TrackableDelta.Encoder(server);
+        AssertJUnit.assertTrue(tracker.isRecordingChanges());
+        AssertJUnit.assertNull(encoder.encode());
+        p1.loseLife(3, false, false);
+        TrackableDelta delta = (TrackableDelta) roundTrip(encoder.encode());
+        AssertJUnit.assertTrue(delta.apply(client, 0));
+        AssertJUnit.assertEquals(describe(server), describe(client));
+        encoder.close();
+        AssertJUnit.assertFalse(tracker.isRecordingChanges());
+    }
+}
@@ -126,6 +126,7 @@ import forge.toolbox.imaging.FImageUtil;
 import forge.toolbox.special.PhaseIndicator;
 import forge.toolbox.special.PhaseLabel;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import forge.util.ITriggerEvent;
 import forge.util.Localizer;
 import forge.util.collect.FCollection;
@@ -222,7 +223,17 @@ public final class CMatchUI
         super.setGameView(gameView0);
         gameView0 = getGameView(); //ensure updated game view used for below logic
         if (gameView0 == null) { return; }
+        updateGameViewDetails(gameView0);
+    }
+
+    @Override
+    public void applyGameViewDelta(final TrackableDelta delta) {
+        super.applyGameViewDelta(delta);
+        if (getGameView() == null) { return; }
+        updateGameViewDetails(getGameView());
+    }
 
+    private void updateGameViewDetails(final GameView gameView0) {
         cDetailPicture.setGameView(gameView0);
         screen.setTabCaption(gameView0.getTitle());
         if (sortedPlayers != null) {
@@ -2,12 +2,19 @@ package forge.view;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -35,6 +42,7 @@ import forge.localinstance.properties.ForgeConstants;
 import forge.model.FModel;
 import forge.player.GamePlayerUtil;
 import forge.util.Lang;
+import forge.util.MyRandom;
 import forge.util.TextUtil;
 import forge.util.WordUtil;
 import forge.util.storage.IStorage;
@@ -87,6 +95,33 @@ public class SimulateMatch {
 
         boolean outputGamelog = !params.containsKey("q");
 
+        int threads = 1;
+        if (params.containsKey("j")) {
+            // Games played at once, as many as there are cores if not given
+            List<String> j = params.get("j");
+            threads = j.isEmpty() ? Runtime.getRuntime().availableProcessors() : Math.max(1, Integer.parseInt(j.get(0)));
+        }
+
+        SimulationReport report = null;
+        if (params.containsKey("r")) {
+            if (params.get("r").isEmpty()) {
+                System.err.println("Missing report file name");
+                argumentHelp();
+                return;
+            }
+            report = new SimulationReport();
+        }
+
+        MatchSeeds seeds;
+        if (params.containsKey("s")) {
+            long seed = Long.parseLong(params.get("s").get(0));
+            seeds = new MatchSeeds(seed);
+            // also for what's picked at random outside of the games, like the pairings of a tournament
+            MyRandom.setThreadRandom(new Random(seed));
+        } else {
+            seeds = new MatchSeeds(MyRandom.getRandom().nextLong());
+        }
+
         GameType type = GameType.Constructed;
         if (params.containsKey("f")) {
             type = GameType.valueOf(WordUtil.capitalize(params.get("f").get(0)));
@@ -100,15 +135,13 @@ public class SimulateMatch {
         }
 
         if (params.containsKey("t")) {
-            simulateTournament(params, rules, outputGamelog);
+            simulateTournament(params, rules, outputGamelog, threads, seeds, report);
+            writeReport(params, report);
             System.out.flush();
             return;
         }
 
-        List<RegisteredPlayer> pp = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-
-        int i = 1;
+        List<Deck> decks = new ArrayList<>();
 
         if (params.containsKey("d")) {
             for (String deck : params.get("d")) {
@@ -117,49 +150,145 @@ public class SimulateMatch {
                     System.out.println(TextUtil.concatNoSpace("Could not load deck - ", deck, ", match cannot start"));
                     return;
                 }
-                if (i > 1) {
-                    sb.append(" vs ");
-                }
-                String name = TextUtil.concatNoSpace("Ai(", String.valueOf(i), ")-", d.getName());
-                sb.append(name);
-
-                RegisteredPlayer rp;
+                decks.add(d);
+            }
+        }
 
-                if (type.equals(GameType.Commander)) {
-                    rp = RegisteredPlayer.forCommander(d);
-                } else {
-                    rp = new RegisteredPlayer(d);
-                }
-                rp.setPlayer(GamePlayerUtil.createAiPlayer(name, i - 1));
-                pp.add(rp);
-                i++;
+        List<RegisteredPlayer> pp = registerPlayers(decks, type);
+        StringBuilder sb = new StringBuilder();
+        for (RegisteredPlayer rp : pp) {
+            if (sb.length() > 0) {
+                sb.append(" vs ");
             }
+            sb.append(rp.getPlayer().getName());
         }
+        String title = sb.toString();
 
         sb.append(" - ").append(Lang.nounWithNumeral(nGames, "game")).append(" of ").append(type);
 
         System.out.println(sb.toString());
 
-        Match mc = new Match(rules, pp, "Test");
-
         if (matchSize != 0) {
+            // the games of a match depend on each other, so they're always played one by one
+            Match mc = new Match(rules, pp, "Test");
+            mc.setSeed(seeds.next());
             int iGame = 0;
             while (!mc.isMatchOver()) {
                 // play games until the match ends
-                simulateSingleMatch(mc, iGame, outputGamelog);
+                System.out.print(playGame(mc, title, iGame, outputGamelog, report));
                 iGame++;
             }
+        } else if (threads > 1) {
+            simulateBatch(decks, type, rules, title, nGames, threads, outputGamelog, seeds, report);
         } else {
+            Match mc = new Match(rules, pp, "Test");
+            mc.setSeed(seeds.next());
             for (int iGame = 0; iGame < nGames; iGame++) {
-                simulateSingleMatch(mc, iGame, outputGamelog);
+                System.out.print(playGame(mc, title, iGame, outputGamelog, report));
             }
         }
 
+        writeReport(params, report);
         System.out.flush();
     }
 
+    private static List<RegisteredPlayer> registerPlayers(List<Deck> decks, GameType type) {
+        List<RegisteredPlayer> pp = new ArrayList<>();
+        int i = 1;
+        for (Deck d : decks) {
+            String name = TextUtil.concatNoSpace("Ai(", String.valueOf(i), ")-", d.getName());
+
+            RegisteredPlayer rp;
+
+            if (type.equals(GameType.Commander)) {
+                rp = RegisteredPlayer.forCommander(d);
+            } else {
+                rp = new RegisteredPlayer(d);
+            }
+            rp.setPlayer(GamePlayerUtil.createAiPlayer(name, i - 1));
+            pp.add(rp);
+            i++;
+        }
+        return pp;
+    }
+
+    /**
+     * Seeds of the matches of a run. The first one is the seed given with -s, so that a game can be played
+     * again alone with the seed from its log or from the report, and the games after it get the same seeds
+     * as the games of one match started with that seed.
+     */
+    private static final class MatchSeeds {
+        private final long first;
+        private final SplittableRandom others;
+        private boolean firstUsed = false;
+
+        private MatchSeeds(long first) {
+            this.first = first;
+            this.others = new SplittableRandom(first);
+        }
+
+        private long next() {
+            if (!firstUsed) {
+                firstUsed = true;
+                return first;
+            }
+            return others.nextLong();
+        }
+    }
+
+    /**
+     * Plays each game in a match of its own on a pool of threads. Nothing is shared between the games:
+     * each one gets copies of the decks, its own players and its own seed.
+     */
+    private static void simulateBatch(List<Deck> decks, GameType type, GameRules rules, String title, int nGames,
+            int threads, boolean outputGamelog, MatchSeeds seeds, SimulationReport report) {
+        System.out.println(TextUtil.concatNoSpace("Playing ", String.valueOf(Math.min(threads, nGames)), " games at once"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> games = new ArrayList<>();
+        for (int iGame = 0; iGame < nGames; iGame++) {
+            // players are made here since creating an AI player may read and save the preferences
+            List<Deck> gameDecks = new ArrayList<>();
+            for (Deck d : decks) {
+                gameDecks.add(new Deck(d));
+            }
+            final Match mc = new Match(rules, registerPlayers(gameDecks, type), "Test");
+            mc.setSeed(seeds.next());
+            final int n = iGame;
+            games.add(pool.submit(() -> System.out.print(playGame(mc, title, n, outputGamelog, report))));
+        }
+        pool.shutdown();
+        waitFor(games);
+    }
+
+    private static void waitFor(List<Future<?>> tasks) {
+        for (Future<?> f : tasks) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                e.getCause().printStackTrace();
+            }
+        }
+    }
+
+    private static void writeReport(Map<String, List<String>> params, SimulationReport report) {
+        if (report == null) {
+            return;
+        }
+        File file = new File(params.get("r").get(0));
+        try {
+            report.write(file);
+            System.out.println("Report written to " + file.getAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Could not write report " + file + ": " + e);
+        }
+    }
+
     private static void argumentHelp() {
-        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -q");
+        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -j [J] -r [R] -s [S] -q");
         System.out.println("\tsim - stands for simulation mode");
         System.out.println("\tdeck1 (or deck2,...,X) - constructed deck name or filename (has to be quoted when contains multiple words)");
         System.out.println("\tdeck is treated as file if it ends with a dot followed by three numbers or letters");
@@ -169,13 +298,27 @@ public class SimulateMatch {
         System.out.println("\tT - Type of tournament to run with all provided decks (Bracket, RoundRobin, Swiss)");
         System.out.println("\tP - Amount of players per match (used only with Tournaments, defaults to 2)");
         System.out.println("\tF - format of games, defaults to constructed");
+        System.out.println("\tJ - number of games to play at once, defaults to 1, or the number of cores if -j is given alone. (Not used with M)");
+        System.out.println("\t    With N games each one is played in a match of its own; in tournaments the matches of a round are played at once");
+        System.out.println("\tR - file to write the results to, as JSON if it ends with .json, CSV otherwise");
+        System.out.println("\tS - seed of the random numbers, to play the same games again. A single game can be played again with -n 1 and the seed from its log");
         System.out.println("\tq - Quiet flag. Output just the game result, not the entire game log.");
     }
 
     public static void simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog) {
+        System.out.print(playGame(mc, null, iGame, outputGamelog, null));
+    }
+
+    /**
+     * Plays the next game of the match.
+     * @param title the name of the match in the report
+     * @return the log and the result of the game, written at once so that games played side by side don't mix
+     */
+    private static String playGame(final Match mc, String title, int iGame, boolean outputGamelog, SimulationReport report) {
         final StopWatch sw = new StopWatch();
         sw.start();
 
+        final StringBuilder out = new StringBuilder();
         final Game g1 = mc.createGame();
         // will run match in the same thread
         try {
@@ -184,7 +327,7 @@ public class SimulateMatch {
                 sw.stop();
             }, 120, TimeUnit.SECONDS);
         } catch (TimeoutException e) {
-            System.out.println("Stopping slow match as draw");
+            out.append("Stopping slow match as draw").append(System.lineSeparator());
         } catch (Exception | StackOverflowError e) {
             e.printStackTrace();
         } finally {
@@ -204,18 +347,24 @@ public class SimulateMatch {
         }
         Collections.reverse(log);
         for (GameLogEntry l : log) {
-            System.out.println(l);
+            out.append(l).append(System.lineSeparator());
         }
 
         // If both players life totals to 0 in a single turn, the game should end in a draw
         if (g1.getOutcome().isDraw()) {
-            System.out.printf("\nGame Result: Game %d ended in a Draw! Took %d ms.%n", 1 + iGame, sw.getTime());
+            out.append(String.format("\nGame Result: Game %d ended in a Draw! Took %d ms.%n", 1 + iGame, sw.getTime()));
         } else {
-            System.out.printf("\nGame Result: Game %d ended in %d ms. %s has won!\n%n", 1 + iGame, sw.getTime(), g1.getOutcome().getWinningLobbyPlayer().getName());
+            out.append(String.format("\nGame Result: Game %d ended in %d ms. %s has won!\n%n", 1 + iGame, sw.getTime(), g1.getOutcome().getWinningLobbyPlayer().getName()));
         }
+
+        if (report != null) {
+            report.addGame(title, 1 + iGame, g1, sw.getTime());
+        }
+        return out.toString();
     }
 
-    private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog) {
+    private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog,
+            int threads, MatchSeeds seeds, SimulationReport report) {
         String tournament = params.get("t").get(0);
         AbstractTournament tourney = null;
         int matchPlayers = params.containsKey("p") ? Integer.parseInt(params.get("p").get(0)) : 2;
@@ -281,7 +430,7 @@ public class SimulateMatch {
 
         tourney.initializeTournament();
 
-        String lastWinner = "";
+        ExecutorService pool = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
         int curRound = 0;
         System.out.println(TextUtil.concatNoSpace("Starting a ", tournament, " tournament with ",
                 String.valueOf(numPlayers), " players over ",
@@ -301,51 +450,80 @@ public class SimulateMatch {
                 System.out.println();
             }
 
+            if (pool != null) {
+                // the matches of a round don't depend on each other, the results are reported once they're all over
+                List<TournamentPairing> pairings = new ArrayList<>(tourney.getActivePairings());
+                List<Future<?>> matches = new ArrayList<>();
+                for (TournamentPairing pairing : pairings) {
+                    final String header = TextUtil.concatNoSpace("Round ", String.valueOf(tourney.getActiveRound()), " - ", pairing.outputHeader());
+                    final List<RegisteredPlayer> regPlayers = AbstractTournament.registerTournamentPlayers(pairing, deckGroup);
+                    final long seed = seeds.next();
+                    matches.add(pool.submit(() -> System.out.print(playTournamentMatch(pairing, header, regPlayers, rules, outputGamelog, seed, report))));
+                }
+                waitFor(matches);
+                for (TournamentPairing pairing : pairings) {
+                    tourney.reportMatchCompletion(pairing);
+                }
+                continue;
+            }
+
             TournamentPairing pairing = tourney.getNextPairing();
             List<RegisteredPlayer> regPlayers = AbstractTournament.registerTournamentPlayers(pairing, deckGroup);
+            String header = TextUtil.concatNoSpace("Round ", String.valueOf(tourney.getActiveRound()), " - ", pairing.outputHeader());
+            System.out.print(playTournamentMatch(pairing, header, regPlayers, rules, outputGamelog, seeds.next(), report));
 
-            StringBuilder sb = new StringBuilder();
-            sb.append("Round ").append(tourney.getActiveRound()).append(" - ");
-            sb.append(pairing.outputHeader());
-            System.out.println(sb.toString());
-
-            if (!pairing.isBye()) {
-                Match mc = new Match(rules, regPlayers, "TourneyMatch");
-
-                int exceptions = 0;
-                int iGame = 0;
-                while (!mc.isMatchOver()) {
-                    // play games until the match ends
-                    try {
-                        simulateSingleMatch(mc, iGame, outputGamelog);
-                        iGame++;
-                    } catch (Exception e) {
-                        exceptions++;
-                        System.out.println(e.toString());
-                        if (exceptions > 5) {
-                            System.out.println("Exceeded number of exceptions thrown. Abandoning match...");
-                            break;
-                        } else {
-                            System.out.println("Game threw exception. Abandoning game and continuing...");
-                        }
-                    }
+            tourney.reportMatchCompletion(pairing);
+        }
+        if (pool != null) {
+            pool.shutdown();
+        }
+        tourney.outputTournamentResults();
+    }
 
-                }
-                LobbyPlayer winner = mc.getWinner().getPlayer();
-                for (TournamentPlayer tp : pairing.getPairedPlayers()) {
-                    if (winner.equals(tp.getPlayer())) {
-                        pairing.setWinner(tp);
-                        lastWinner = winner.getName();
-                        System.out.println(TextUtil.concatNoSpace("Match Winner - ", lastWinner, "!"));
-                        System.out.println();
+    /**
+     * Plays the games of a pairing until its match is over and sets its winner.
+     * @param seed the seed of the match
+     * @return the output of the match
+     */
+    private static String playTournamentMatch(TournamentPairing pairing, String header, List<RegisteredPlayer> regPlayers,
+            GameRules rules, boolean outputGamelog, long seed, SimulationReport report) {
+        StringBuilder out = new StringBuilder();
+        out.append(header).append(System.lineSeparator());
+
+        if (!pairing.isBye()) {
+            Match mc = new Match(rules, regPlayers, "TourneyMatch");
+            mc.setSeed(seed);
+
+            int exceptions = 0;
+            int iGame = 0;
+            while (!mc.isMatchOver()) {
+                // play games until the match ends
+                try {
+                    out.append(playGame(mc, header, iGame, outputGamelog, report));
+                    iGame++;
+                } catch (Exception e) {
+                    exceptions++;
+                    out.append(e.toString()).append(System.lineSeparator());
+                    if (exceptions > 5) {
+                        out.append("Exceeded number of exceptions thrown. Abandoning match...").append(System.lineSeparator());
                         break;
+                    } else {
+                        out.append("Game threw exception. Abandoning game and continuing...").append(System.lineSeparator());
                     }
                 }
-            }
 
-            tourney.reportMatchCompletion(pairing);
+            }
+            LobbyPlayer winner = mc.getWinner().getPlayer();
+            for (TournamentPlayer tp : pairing.getPairedPlayers()) {
+                if (winner.equals(tp.getPlayer())) {
+                    pairing.setWinner(tp);
+                    out.append(TextUtil.concatNoSpace("Match Winner - ", winner.getName(), "!")).append(System.lineSeparator());
+                    out.append(System.lineSeparator());
+                    break;
+                }
+            }
         }
-        tourney.outputTournamentResults();
+        return out.toString();
     }
 
     public static Match simulateOffthreadGame(List<Deck> decks, GameType format, int games) {
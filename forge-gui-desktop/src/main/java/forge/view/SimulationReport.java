@@ -0,0 +1,156 @@
+package forge.view;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import forge.game.Game;
+import forge.game.GameOutcome;
+import forge.game.player.Player;
+
+/**
+ * Results of the games played by {@link SimulateMatch}, so that a batch of games can be read by a script.
+ * Written as JSON when the file name ends with .json, as CSV otherwise.
+ * <p>
+ * Games can be added from several threads.
+ */
+public class SimulationReport {
+    private static final class PlayerResults {
+        private int games;
+        private int wins;
+        private int draws;
+
+        private double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+    }
+
+    private static final class GameResult {
+        private String match;
+        private int number;
+        private List<String> players;
+        private String winner;
+        private int turns;
+        private long time;
+        private long seed;
+    }
+
+    private final Map<String, PlayerResults> players = new LinkedHashMap<>();
+    private final List<GameResult> games = new ArrayList<>();
+
+    /**
+     * @param match the name of the match the game belongs to
+     * @param number the number of the game in its match or batch, starting with 1
+     */
+    public synchronized void addGame(final String match, final int number, final Game game, final long time) {
+        final GameOutcome outcome = game.getOutcome();
+        final GameResult result = new GameResult();
+        result.match = match;
+        result.number = number;
+        result.players = new ArrayList<>();
+        result.winner = outcome == null || outcome.isDraw() ? null : outcome.getWinningLobbyPlayer().getName();
+        result.turns = outcome == null ? 0 : outcome.getLastTurnNumber();
+        result.time = time;
+        result.seed = game.getSeed();
+        games.add(result);
+
+        for (final Player p : game.getRegisteredPlayers()) {
+            final String name = p.getLobbyPlayer().getName();
+            result.players.add(name);
+            PlayerResults stats = players.get(name);
+            if (stats == null) {
+                stats = new PlayerResults();
+                players.put(name, stats);
+            }
+            stats.games++;
+            if (result.winner == null) {
+                stats.draws++;
+            } else if (result.winner.equals(name)) {
+                stats.wins++;
+            }
+        }
+    }
+
+    public synchronized void write(final File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            if (file.getName().toLowerCase().endsWith(".json")) {
+                writeJson(out);
+            } else {
+                writeCsv(out);
+            }
+        }
+    }
+
+    private void writeCsv(final PrintWriter out) {
+        out.println("player,games,wins,losses,draws,winrate");
+        for (final Map.Entry<String, PlayerResults> e : players.entrySet()) {
+            final PlayerResults stats = e.getValue();
+            out.printf(Locale.ROOT, "%s,%d,%d,%d,%d,%.4f%n", csv(e.getKey()), stats.games, stats.wins,
+                    stats.games - stats.wins - stats.draws, stats.draws, stats.getWinRate());
+        }
+    }
+
+    private void writeJson(final PrintWriter out) {
+        int draws = 0;
+        for (final GameResult g : games) {
+            if (g.winner == null) {
+                draws++;
+            }
+        }
+        out.println("{");
+        out.printf(Locale.ROOT, "  \"games\": %d,%n", games.size());
+        out.printf(Locale.ROOT, "  \"draws\": %d,%n", draws);
+        out.println("  \"players\": [");
+        int i = 0;
+        for (final Map.Entry<String, PlayerResults> e : players.entrySet()) {
+            final PlayerResults stats = e.getValue();
+            out.printf(Locale.ROOT, "    {\"name\": %s, \"games\": %d, \"wins\": %d, \"losses\": %d, \"draws\": %d, \"winrate\": %.4f}%s%n",
+                    json(e.getKey()), stats.games, stats.wins, stats.games - stats.wins - stats.draws, stats.draws,
+                    stats.getWinRate(), ++i < players.size() ? "," : "");
+        }
+        out.println("  ],");
+        out.println("  \"results\": [");
+        i = 0;
+        for (final GameResult g : games) {
+            final StringBuilder names = new StringBuilder();
+            for (final String name : g.players) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                }
+                names.append(json(name));
+            }
+            out.printf(Locale.ROOT, "    {\"match\": %s, \"game\": %d, \"players\": [%s], \"winner\": %s, \"turns\": %d, \"time\": %d, \"seed\": %d}%s%n",
+                    json(g.match), g.number, names, g.winner == null ? "null" : json(g.winner), g.turns, g.time,
+                    g.seed, ++i < games.size() ? "," : "");
+        }
+        out.println("  ]");
+        out.println("}");
+    }
+
+    private static String csv(final String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0) {
+            return s;
+        }
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String json(final String s) {
+        final StringBuilder sb = new StringBuilder("\"");
+        for (final char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,66 @@
+package forge.ai.simulation;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+public class MonteCarloPickerTest extends SimulationTest {
+    @Test
+    public void testPickingLethalDamage() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        p.setTeam(0);
+
+        addCard("Mountain", p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+
+        Player opponent = game.getPlayers().get(0);
+        opponent.setTeam(1);
+
+        addCard("Runeclaw Bear", opponent);
+        opponent.setLife(2, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        MonteCarloPicker picker = new MonteCarloPicker(game, p);
+        picker.setMaxPlayouts(50);
+        SpellAbility sa = picker.chooseSpellAbilityToPlay();
+        AssertJUnit.assertNotNull(sa);
+        AssertJUnit.assertNull(sa.getTargetCard());
+        AssertJUnit.assertEquals(opponent, sa.getTargets().getFirstTargetedPlayer());
+        AssertJUnit.assertEquals(50, picker.getNumPlayouts());
+    }
+
+    @Test
+    public void testPrefersKillingTheBetterCreature() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+
+        addCard("Mountain", p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+
+        Player opponent = game.getPlayers().get(0);
+        Card bear = addCard("Runeclaw Bear", opponent);
+        addCard("Flying Men", opponent);
+        opponent.setLife(20, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        MonteCarloPicker picker = new MonteCarloPicker(game, p);
+        picker.setNumWorkers(4);
+        picker.setMaxPlayouts(80);
+        SpellAbility sa = picker.chooseSpellAbilityToPlay();
+        AssertJUnit.assertNotNull(sa);
+        // The targets chosen in the playouts' copies are found again on the live game.
+        AssertJUnit.assertEquals(bear, sa.getTargetCard());
+        AssertJUnit.assertEquals(80, picker.getNumPlayouts());
+    }
+}
@@ -4,9 +4,11 @@ import forge.game.spellability.LandAbility;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import forge.item.PaperCard;
 import forge.model.FModel;
+import forge.util.MyRandom;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 
@@ -893,4 +895,148 @@ public class SpellAbilityPickerSimulationTest extends SimulationTest {
         game.getAction().checkStateEffects(true);
         AssertJUnit.assertNull(picker.chooseSpellAbilityToPlay(null));
     }
+
+    @Test
+    public void testParallelPickerMatchesSequential() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+
+        addCardToZone("Mountain", p, ZoneType.Hand);
+        addCardToZone("Shock", p, ZoneType.Hand);
+        addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        addCard("Mountain", p);
+
+        Player opponent = game.getPlayers().get(0);
+        addCard("Runeclaw Bear", opponent);
+        addCard("Flying Men", opponent);
+        opponent.setLife(20, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbilityPicker sequential = new SpellAbilityPicker(game, p);
+        SpellAbility seqSa = sequential.chooseSpellAbilityToPlay(null);
+
+        SpellAbilityPicker parallel = new SpellAbilityPicker(game, p);
+        parallel.setNumWorkers(4);
+        SpellAbility parSa = parallel.chooseSpellAbilityToPlay(null);
+
+        AssertJUnit.assertEquals(seqSa, parSa);
+        AssertJUnit.assertEquals(sequential.getPlan().getFinalScore(), parallel.getPlan().getFinalScore());
+        AssertJUnit.assertEquals(sequential.getPlan().getDecisions().toString(), parallel.getPlan().getDecisions().toString());
+    }
+
+    @Test
+    public void testTranspositionTableKeepsPick() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+
+        addCardToZone("Forest", p, ZoneType.Hand);
+        addCardToZone("Grizzly Bears", p, ZoneType.Hand);
+        addCardToZone("Giant Growth", p, ZoneType.Hand);
+        addCard("Forest", p);
+        addCard("Forest", p);
+
+        Player opponent = game.getPlayers().get(0);
+        addCard("Runeclaw Bear", opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbilityPicker withoutTable = new SpellAbilityPicker(game, p);
+        SpellAbility sa = withoutTable.chooseSpellAbilityToPlay(null);
+        AssertJUnit.assertNull(withoutTable.getLastTranspositionTable());
+
+        SpellAbilityPicker withTable = new SpellAbilityPicker(game, p);
+        withTable.setTranspositionTableSize(1000);
+        SpellAbility saWithTable = withTable.chooseSpellAbilityToPlay(null);
+
+        AssertJUnit.assertEquals(sa, saWithTable);
+        AssertJUnit.assertEquals(withoutTable.getPlan().getFinalScore(), withTable.getPlan().getFinalScore());
+        // Playing the land and the creature in either order leads to the same state.
+        AssertJUnit.assertTrue(withTable.getLastTranspositionTable().getHits() > 0);
+    }
+
+    @Test
+    public void testIterativeDeepeningSearchesPreviousBestFirst() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+
+        addCardToZone("Mountain", p, ZoneType.Hand);
+        addCardToZone("Lightning Bolt", p, ZoneType.Hand);
+        addCard("Mountain", p);
+
+        Player opponent = game.getPlayers().get(0);
+        addCard("Runeclaw Bear", opponent);
+        opponent.setLife(20, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbilityPicker unlimited = new SpellAbilityPicker(game, p);
+        unlimited.setMaxDepth(1);
+        SpellAbility sa = unlimited.chooseSpellAbilityToPlay(null);
+        AssertJUnit.assertNull(unlimited.getLastSearchOrder());
+
+        SpellAbilityPicker deepening = new SpellAbilityPicker(game, p);
+        deepening.setMaxDepth(1);
+        deepening.setTimeBudget(60000);
+        SpellAbility saDeepening = deepening.chooseSpellAbilityToPlay(null);
+
+        AssertJUnit.assertEquals(sa, saDeepening);
+        AssertJUnit.assertEquals(unlimited.getPlan().getFinalScore(), deepening.getPlan().getFinalScore());
+        // Killing the bear scores best without looking ahead, so the deeper iteration starts with it.
+        List<SpellAbility> candidates = deepening.getCandidateSpellsAndAbilities();
+        int[] order = deepening.getLastSearchOrder();
+        AssertJUnit.assertNotNull(order);
+        AssertJUnit.assertEquals(candidates.size(), order.length);
+        AssertJUnit.assertEquals("Lightning Bolt", candidates.get(order[0]).getHostCard().getName());
+    }
+
+    @Test
+    public void testCombatOutcomeCache() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Card bear = addCard("Grizzly Bears", p);
+        bear.setSickness(false);
+        addCardToZone("Forest", p, ZoneType.Hand);
+
+        Player opponent = game.getPlayers().get(0);
+        opponent.setLife(2, null);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        GameStateEvaluator.Score expected = new GameStateEvaluator().getScoreForGameState(game, p);
+        // The unblocked bear is lethal.
+        AssertJUnit.assertEquals(Integer.MAX_VALUE, expected.value);
+
+        GameStateEvaluator eval = new GameStateEvaluator();
+        CombatOutcomeCache cache = new CombatOutcomeCache(10);
+        eval.setCombatOutcomeCache(cache);
+        AssertJUnit.assertTrue(expected.equals(eval.getScoreForGameState(game, p)));
+        AssertJUnit.assertEquals(0, cache.getHits());
+
+        // The same state again reuses the combat outcome.
+        AssertJUnit.assertTrue(expected.equals(eval.getScoreForGameState(game, p)));
+        AssertJUnit.assertEquals(1, cache.getHits());
+
+        // The attack and block logic looks at the cards in hand, so a different hand doesn't.
+        addCardToZone("Forest", p, ZoneType.Hand);
+        AssertJUnit.assertEquals(Integer.MAX_VALUE, eval.getScoreForGameState(game, p).value);
+        AssertJUnit.assertEquals(1, cache.getHits());
+        AssertJUnit.assertEquals(2, cache.getMisses());
+
+        // The estimate gets to the same conclusion without copying the game, and without using
+        // up the random numbers of the game.
+        GameStateEvaluator estimator = new GameStateEvaluator();
+        estimator.setEstimateCombat(true);
+        MyRandom.setThreadRandom(new Random(42));
+        try {
+            AssertJUnit.assertEquals(Integer.MAX_VALUE, estimator.getScoreForGameState(game, p).value);
+            AssertJUnit.assertEquals(new Random(42).nextLong(), MyRandom.getRandom().nextLong());
+        } finally {
+            MyRandom.setThreadRandom(null);
+        }
+    }
 }
@@ -11,6 +11,7 @@ import java.util.TimerTask;
 
 import forge.gui.control.PlaybackSpeed;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.collect.ImmutableList;
@@ -104,6 +105,9 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
     protected abstract void updateCurrentPlayer(PlayerView player);
 
     private GameView gameView = null;
+    private int gameViewDeltaGeneration = 0;
+    private int gameViewDeltaSequence = 0;
+    private boolean gameViewRequested = false;
 
     public final GameView getGameView() {
         return gameView;
@@ -111,6 +115,8 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
 
     @Override
     public void setGameView(final GameView gameView0) {
+        gameViewDeltaSequence = 0; //the deltas start over after the whole view
+        gameViewRequested = false;
         if (gameView == null || gameView0 == null) {
             if (gameView0 != null) {
                 gameView0.updateObjLookup();
@@ -124,6 +130,31 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
         gameView.copyChangedProps(gameView0);
     }
 
+    @Override
+    public void applyGameViewDelta(final TrackableDelta delta) {
+        if (gameViewRequested) {
+            return; //the whole view is on its way, the deltas sent before it don't apply
+        }
+        if (gameViewDeltaSequence == 0) {
+            gameViewDeltaGeneration = delta.getGeneration(); //the first delta after the whole view
+        }
+        if (gameView == null || delta.getGeneration() != gameViewDeltaGeneration || !delta.apply(gameView, gameViewDeltaSequence)) {
+            //changes can only be applied to the game view they were made for, ask for the whole view instead
+            gameViewRequested = true;
+            final IGameController controller = Iterables.getFirst(getOriginalGameControllers(), spectator);
+            if (controller != null) {
+                controller.requestGameView();
+            }
+            return;
+        }
+        gameViewDeltaSequence = delta.getSequence();
+    }
+
+    @Override
+    public void resendGameView() {
+        //only sent anywhere in network games
+    }
+
     public final IGameController getGameController() {
         return getGameController(getCurrentPlayer());
     }
@@ -121,6 +121,11 @@ public class NetGameController implements IGameController {
         send(ProtocolMethod.reorderHand, card, Integer.valueOf(index));
     }
 
+    @Override
+    public void requestGameView() {
+        send(ProtocolMethod.requestGameView);
+    }
+
     private IMacroSystem macros;
     @Override
     public IMacroSystem macros() {
@@ -26,11 +26,16 @@ import forge.localinstance.skin.FSkinProp;
 import forge.player.PlayerZoneUpdate;
 import forge.player.PlayerZoneUpdates;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import forge.util.ITriggerEvent;
 
 public class NetGuiGame extends AbstractGuiGame {
 
     private final GameProtocolSender sender;
+    // what the client has of the game view, so that it's only sent what changed
+    private TrackableDelta.Encoder gameViewDelta;
+    // set by the client when a delta didn't apply, answered on the game thread where the view changes
+    private volatile boolean gameViewRequested = false;
     public NetGuiGame(final IToClient client) {
         this.sender = new GameProtocolSender(client);
     }
@@ -44,7 +49,41 @@ public class NetGuiGame extends AbstractGuiGame {
     }
 
     public void updateGameView() {
-        send(ProtocolMethod.setGameView, getGameView());
+        final GameView gameView = getGameView();
+        if (gameView == null || gameView.getTracker() == null) {
+            resetGameViewDelta();
+            send(ProtocolMethod.setGameView, gameView);
+            return;
+        }
+        if (gameViewRequested || gameViewDelta == null || gameViewDelta.getRoot() != gameView) {
+            gameViewRequested = false;
+            sendWholeGameView(gameView);
+            return;
+        }
+        final TrackableDelta delta = gameViewDelta.encode();
+        if (delta != null) {
+            // not waited for, the client asks for the whole view if it can't apply it
+            send(ProtocolMethod.applyGameViewDelta, delta);
+        }
+    }
+
+    @Override
+    public void resendGameView() {
+        gameViewRequested = true;
+    }
+
+    private void sendWholeGameView(final GameView gameView) {
+        // the whole view first, anything changed after this is in the next delta
+        resetGameViewDelta();
+        gameViewDelta = new TrackableDelta.Encoder(gameView);
+        send(ProtocolMethod.setGameView, gameView);
+    }
+
+    private void resetGameViewDelta() {
+        if (gameViewDelta != null) {
+            gameViewDelta.close();
+            gameViewDelta = null;
+        }
     }
 
     @Override
@@ -56,6 +95,7 @@ public class NetGuiGame extends AbstractGuiGame {
     @Override
     public void openView(final TrackableCollection<PlayerView> myPlayers) {
         send(ProtocolMethod.openView, myPlayers);
+        resetGameViewDelta(); //a new view needs the whole game view
         updateGameView();
     }
 
@@ -28,11 +28,23 @@ import forge.localinstance.skin.FSkinProp;
 import forge.player.PlayerZoneUpdate;
 import forge.player.PlayerZoneUpdates;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import forge.util.ITriggerEvent;
 
 public interface IGuiGame {
     void setGameView(GameView gameView);
 
+    /**
+     * Update the game view with what changed since it was last set, for network games. If the delta
+     * can't be applied the whole game view is asked for again, see {@link IGameController#requestGameView()}.
+     */
+    void applyGameViewDelta(TrackableDelta delta);
+
+    /**
+     * Send the whole game view again with the next update, for a network client that couldn't apply a delta.
+     */
+    void resendGameView();
+
     GameView getGameView();
 
     void setOriginalGameController(PlayerView view, IGameController gameController);
@@ -45,4 +45,9 @@ public interface IGameController {
     String getActivateDescription(CardView card);
 
     void reorderHand(CardView card, int index);
+
+    /**
+     * Ask for the whole game view again, when a network client couldn't apply the changes it was sent.
+     */
+    void requestGameView();
 }
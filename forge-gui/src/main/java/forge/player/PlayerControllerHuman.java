@@ -3182,6 +3182,11 @@ public class PlayerControllerHuman extends PlayerController implements IGameCont
         player.updateZoneForView(hand);
     }
 
+    @Override
+    public void requestGameView() {
+        getGui().resendGameView();
+    }
+
     @Override
     public String chooseCardName(SpellAbility sa, List<ICardFace> faces, String message) {
         ICardFace face = getGui().one(message, faces);